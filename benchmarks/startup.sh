@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# Mesure le temps d'une génération CLI complète (démarrage + génération + arrêt) selon le mode de lancement.
+#
+#   ./mvnw -Paot package            # jar avec les initialiseurs AOT
+#   ./mvnw -Pnative native:compile  # optionnel : exécutable GraalVM (target/project-generator)
+#   benchmarks/startup.sh [itérations]
+#
+# Modes comparés : jar classique, jar extrait + AOT + archive CDS, exécutable natif (s'il existe).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS="${1:-10}"
+SPEC=benchmarks/demo-spec.yaml
+WORK=target/startup-benchmark
+JAR=$(ls target/project-generator-*.jar 2>/dev/null | grep -v '\.original$' | head -n 1 || true)
+NATIVE=target/project-generator
+
+if [ -z "$JAR" ]; then
+    echo "Aucun jar dans target/ : lancer d'abord ./mvnw -Paot package" >&2
+    exit 1
+fi
+
+rm -rf "$WORK"
+mkdir -p "$WORK"
+CLI_ARGS=(--spec "$SPEC" --no-ai --out "$WORK/demo.zip")
+
+# Jar extrait (classpath éclaté, plus rapide à ouvrir) puis archive CDS créée par une exécution d'entraînement
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/extracted" > /dev/null
+EXTRACTED="$WORK/extracted/$(basename "$JAR")"
+java -XX:ArchiveClassesAtExit="$WORK/application.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -jar "$EXTRACTED" "${CLI_ARGS[@]}" > /dev/null 2>&1 || true
+
+measure() {
+    local label="$1"
+    shift
+    local total=0
+    local best=0
+    for ((i = 0; i < RUNS; i++)); do
+        local start end elapsed
+        start=$(date +%s%N)
+        "$@" > /dev/null 2>&1
+        end=$(date +%s%N)
+        elapsed=$(((end - start) / 1000000))
+        total=$((total + elapsed))
+        if [ "$best" -eq 0 ] || [ "$elapsed" -lt "$best" ]; then
+            best=$elapsed
+        fi
+    done
+    printf '%-28s moyenne %6d ms   meilleur %6d ms\n' "$label" $((total / RUNS)) "$best"
+}
+
+echo "Génération CLI de $SPEC, $RUNS itérations par mode"
+measure "jar" java -jar "$JAR" "${CLI_ARGS[@]}"
+measure "jar extrait + AOT + CDS" java -XX:SharedArchiveFile="$WORK/application.jsa" -Dspring.aot.enabled=true \
+    -jar "$EXTRACTED" "${CLI_ARGS[@]}"
+if [ -x "$NATIVE" ]; then
+    measure "natif (GraalVM)" "$NATIVE" "${CLI_ARGS[@]}"
+else
+    echo "natif (GraalVM)              ignoré : $NATIVE absent (./mvnw -Pnative native:compile)"
+fi
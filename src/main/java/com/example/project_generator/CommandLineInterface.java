@@ -1,38 +1,399 @@
 package com.example.project_generator;
 
-import com.example.project_generator.controller.ProjectGeneratorController;
+import com.example.project_generator.archive.ArchiveFormat;
+import com.example.project_generator.archive.ProjectArchiver;
+import com.example.project_generator.converter.CustomProjectRequestToDescriptionConverter;
 import com.example.project_generator.model.CustomProjectRequest;
 import com.example.project_generator.model.FieldDefinition;
-import com.example.project_generator.util.MavenVersionResolver;
+import com.example.project_generator.compatibility.CompatibilityResolver;
+import com.example.project_generator.compatibility.ResolvedVersions;
 import com.example.project_generator.ia.DeepSeekIAService;
+import com.example.project_generator.service.ProjectGenerationService;
+import com.example.project_generator.verification.GeneratedSourceVerifier.VerificationException;
+import com.example.project_generator.workspace.WorkspaceManager;
+import com.example.project_generator.validation.ProjectRequestValidator;
+import com.example.project_generator.validation.ValidationError;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.ExitCodeGenerator;
 import org.springframework.stereotype.Component;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Scanner;
 import java.util.Set;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Point d'entrée en ligne de commande. Sans option, l'application démarre en serveur et cette
+ * classe ne fait rien ; le dialogue interactif n'est lancé qu'avec {@code --interactive}.
+ *
+ * <pre>
+ * --interactive             dialogue Scanner (nécessite un terminal)
+ * --spec projet.yaml|json   génère un projet à partir d'un fichier de spécification
+ * --batch répertoire        génère en parallèle toutes les spécifications du répertoire
+ * --out chemin              .zip, .tar, .tar.gz : archive ; sinon répertoire (projet recopié pour --spec,
+ *                           répertoire des sorties pour --batch)
+ * --format f                zip, tar, tar.gz ou directory (défaut : d'après --out, sinon zip)
+ * --parallelism n           nombre de générations simultanées en mode --batch
+ * --no-ai                   n'appelle pas le service de recommandations IA
+ * </pre>
+ */
 @Component
-public class CommandLineInterface implements CommandLineRunner {
+public class CommandLineInterface implements CommandLineRunner, ExitCodeGenerator {
+
+    private static final int EXIT_GENERATION_FAILED = 1;
+    private static final int EXIT_USAGE = 2;
+    private static final String CLI_TENANT = "cli";
 
-    private final ProjectGeneratorController projectGeneratorController;
+    private final ProjectGenerationService projectGenerationService;
 
     @Autowired
-    public CommandLineInterface(ProjectGeneratorController projectGeneratorController) {
-        this.projectGeneratorController = projectGeneratorController;
+    public CommandLineInterface(ProjectGenerationService projectGenerationService) {
+        this.projectGenerationService = projectGenerationService;
     }
 
+    @Autowired
+    private CustomProjectRequestToDescriptionConverter converter;
+
+    @Autowired
+    private ProjectArchiver projectArchiver;
+
+    @Autowired
+    private WorkspaceManager workspaceManager;
+
     @Autowired
     private DeepSeekIAService deepSeekIAService;
 
+    @Autowired
+    private CompatibilityResolver compatibilityResolver;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectRequestValidator projectRequestValidator;
+
+    private int exitCode;
+
+    record Options(boolean interactive, Path spec, Path batch, Path out, ArchiveFormat format, boolean aiEnabled,
+                   int parallelism) {
+
+        static Options parse(String... args) {
+            boolean interactive = false;
+            boolean aiEnabled = true;
+            Path spec = null;
+            Path batch = null;
+            Path out = null;
+            ArchiveFormat format = null;
+            int parallelism = Runtime.getRuntime().availableProcessors();
+            for (int i = 0; i < args.length; i++) {
+                int separator = args[i].indexOf('=');
+                String name = separator >= 0 ? args[i].substring(0, separator) : args[i];
+                switch (name) {
+                    case "--interactive" -> interactive = true;
+                    case "--no-ai" -> aiEnabled = false;
+                    case "--spec", "--batch", "--out", "--format", "--parallelism" -> {
+                        String value;
+                        if (separator >= 0) {
+                            value = args[i].substring(separator + 1);
+                        } else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                            value = args[++i];
+                        } else {
+                            throw new IllegalArgumentException("Valeur manquante pour " + name);
+                        }
+                        switch (name) {
+                            case "--spec" -> spec = Path.of(value);
+                            case "--batch" -> batch = Path.of(value);
+                            case "--out" -> out = Path.of(value);
+                            case "--format" -> format = ArchiveFormat.fromParameter(value).orElseThrow(
+                                () -> new IllegalArgumentException("Format inconnu : " + value));
+                            default -> parallelism = Integer.parseInt(value);
+                        }
+                    }
+                    default -> {
+                        // Les autres arguments (--server.port=..., etc.) sont laissés à Spring
+                    }
+                }
+            }
+            if ((spec != null ? 1 : 0) + (batch != null ? 1 : 0) + (interactive ? 1 : 0) > 1) {
+                throw new IllegalArgumentException("--interactive, --spec et --batch sont exclusifs");
+            }
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("--parallelism doit être supérieur à 0");
+            }
+            return new Options(interactive, spec, batch, out, format, aiEnabled, parallelism);
+        }
+
+        boolean isCommandLineMode() {
+            return interactive || spec != null || batch != null;
+        }
+    }
+
+    public static boolean isCommandLineMode(String... args) {
+        try {
+            return Options.parse(args).isCommandLineMode();
+        } catch (IllegalArgumentException e) {
+            // Arguments CLI invalides : on démarre sans serveur pour signaler l'erreur et sortir
+            return true;
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
 
     @Override
     public void run(String... args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erreur : " + e.getMessage());
+            exitCode = EXIT_USAGE;
+            return;
+        }
+        if (!options.isCommandLineMode()) {
+            return;
+        }
+
+        if (options.interactive()) {
+            runInteractive(options.aiEnabled());
+        } else if (options.spec() != null) {
+            exitCode = generateFromSpec(options.spec(), options)
+                ? 0
+                : EXIT_GENERATION_FAILED;
+        } else {
+            exitCode = generateBatch(options);
+        }
+    }
+
+    private int generateBatch(Options options) throws IOException, InterruptedException {
+        if (!Files.isDirectory(options.batch())) {
+            System.err.println("Erreur : " + options.batch() + " n'est pas un répertoire");
+            return EXIT_USAGE;
+        }
+        List<Path> specs;
+        try (Stream<Path> files = Files.list(options.batch())) {
+            specs = files.filter(CommandLineInterface::isSpecFile).sorted().toList();
+        }
+        if (specs.isEmpty()) {
+            System.err.println("Erreur : aucune spécification (.yaml, .yml, .json) dans " + options.batch());
+            return EXIT_USAGE;
+        }
+        Map<Path, List<Path>> duplicates = duplicateTargets(specs, options);
+        if (!duplicates.isEmpty()) {
+            System.err.println("Erreur : plusieurs spécifications produiraient la même sortie");
+            duplicates.forEach((target, sources) -> System.err.println("  " + target + " <- "
+                + sources.stream().map(source -> source.getFileName().toString()).toList()));
+            return EXIT_USAGE;
+        }
+        Files.createDirectories(options.out() != null ? options.out() : Path.of("."));
+
+        System.out.println("Génération de " + specs.size() + " projets (" + options.parallelism() + " en parallèle)...");
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(options.parallelism(), specs.size()));
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (Path spec : specs) {
+                results.add(executor.submit(() -> generateFromSpec(spec, options)));
+            }
+            int failures = 0;
+            for (Future<Boolean> result : results) {
+                try {
+                    if (!result.get()) {
+                        failures++;
+                    }
+                } catch (ExecutionException e) {
+                    failures++;
+                }
+            }
+            System.out.println((specs.size() - failures) + "/" + specs.size() + " projets générés");
+            return failures == 0 ? 0 : EXIT_GENERATION_FAILED;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Sorties du lot visées par plusieurs spécifications (même artifactId), vérifiées avant toute génération :
+     * en parallèle, la dernière écriture écraserait les autres. La casse est ignorée, comme sur les systèmes de
+     * fichiers de macOS et Windows. Une spécification illisible est laissée à la génération, qui la signale.
+     */
+    private Map<Path, List<Path>> duplicateTargets(List<Path> specs, Options options) {
+        Map<String, Path> targets = new HashMap<>();
+        Map<String, List<Path>> sources = new LinkedHashMap<>();
+        for (Path spec : specs) {
+            String artifactId;
+            try {
+                artifactId = loadSpec(spec).getArtifactId();
+            } catch (Exception e) {
+                continue;
+            }
+            Path target = batchTarget(options, artifactId);
+            String key = target.toString().toLowerCase(Locale.ROOT);
+            targets.putIfAbsent(key, target);
+            sources.computeIfAbsent(key, k -> new ArrayList<>()).add(spec);
+        }
+        Map<Path, List<Path>> duplicates = new LinkedHashMap<>();
+        sources.forEach((key, paths) -> {
+            if (paths.size() > 1) {
+                duplicates.put(targets.get(key), paths);
+            }
+        });
+        return duplicates;
+    }
+
+    private static Path batchTarget(Options options, String artifactId) {
+        ArchiveFormat format = options.format() != null ? options.format() : ArchiveFormat.ZIP;
+        return (options.out() != null ? options.out() : Path.of(".")).resolve(artifactId + format.getExtension());
+    }
+
+    private static boolean isSpecFile(Path path) {
+        String fileName = path.getFileName().toString().toLowerCase();
+        return Files.isRegularFile(path)
+            && (fileName.endsWith(".yaml") || fileName.endsWith(".yml") || fileName.endsWith(".json"));
+    }
+
+    /**
+     * Génère un projet décrit par un fichier de spécification. En mode lot, {@code --out} est le
+     * répertoire qui reçoit {@code <artifactId><extension>} ; sinon c'est la sortie elle-même.
+     */
+    private boolean generateFromSpec(Path spec, Options options) {
+        try {
+            CustomProjectRequest request = loadSpec(spec);
+
+            List<ValidationError> errors = projectRequestValidator.validate(request);
+            if (!errors.isEmpty()) {
+                System.err.println(spec + " : spécification invalide");
+                errors.forEach(error -> System.err.println("  " + error));
+                return false;
+            }
+            ResolvedVersions versions = compatibilityResolver.resolve(
+                request.getJavaVersion(), request.getSpringBootVersion(), request.getBuildTool());
+            if (request.getMavenVersion() == null) {
+                request.setMavenVersion(versions.mavenVersion());
+            }
+
+            if (options.aiEnabled()) {
+                System.out.println("\n🤖 Recommandations IA (DeepSeek) pour " + request.getArtifactId() + " :");
+                System.out.println(deepSeekIAService.getSecurityAdvice(summary(request)));
+            }
+
+            Path out = options.out();
+            ArchiveFormat format = options.format();
+            Path target;
+            if (options.batch() != null) {
+                format = format != null ? format : ArchiveFormat.ZIP;
+                target = batchTarget(options, request.getArtifactId());
+            } else if (out != null) {
+                format = format != null ? format : ArchiveFormat.fromFileName(out.getFileName().toString());
+                target = out;
+            } else {
+                format = format != null ? format : ArchiveFormat.ZIP;
+                target = Path.of(request.getArtifactId() + format.getExtension());
+            }
+            generate(request, format, target);
+            System.out.println(spec.getFileName() + " -> " + target);
+            return true;
+        } catch (VerificationException e) {
+            System.err.println(spec + " : les sources générées ne compilent pas :");
+            e.getErrors().forEach(error -> System.err.println("  " + error));
+        } catch (Exception e) {
+            System.err.println(spec + " : erreur lors de la génération du projet: " + e.getMessage());
+        }
+        return false;
+    }
+
+    private CustomProjectRequest loadSpec(Path spec) throws IOException {
+        Object content;
+        try (InputStream in = Files.newInputStream(spec)) {
+            content = spec.getFileName().toString().toLowerCase().endsWith(".json")
+                ? objectMapper.readValue(in, Map.class)
+                : new Yaml(new SafeConstructor(new LoaderOptions())).load(in);
+        }
+        if (!(content instanceof Map)) {
+            throw new IllegalArgumentException("la spécification doit être un objet");
+        }
+        CustomProjectRequest request = objectMapper.convertValue(content, CustomProjectRequest.class);
+        if (request.getArtifactId() == null || request.getArtifactId().isBlank()) {
+            throw new IllegalArgumentException("artifactId est obligatoire");
+        }
+        // Mêmes valeurs par défaut que le dialogue interactif
+        if (request.getName() == null) {
+            request.setName(request.getArtifactId());
+        }
+        if (request.getArchitectureType() == null) {
+            request.setArchitectureType("en-couches");
+        }
+        if (request.getBuildTool() == null) {
+            request.setBuildTool("maven");
+        }
+        if (request.getPort() == null) {
+            request.setPort(8080);
+        }
+        if (request.getProfile() == null) {
+            request.setProfile("dev");
+        }
+        if (request.getDependencies() == null) {
+            request.setDependencies(new LinkedHashSet<>());
+        }
+        if (request.getEntities() == null) {
+            request.setEntities(new ArrayList<>());
+        }
+        if (request.getEntityFields() == null) {
+            request.setEntityFields(new LinkedHashMap<>());
+        }
+        if (request.getRestEndpoints() == null) {
+            request.setRestEndpoints(new LinkedHashMap<>());
+        }
+        return request;
+    }
+
+    private void generate(CustomProjectRequest request, ArchiveFormat format, Path target) throws IOException {
+        Path projectDirectory = Path.of(projectGenerationService.generateProject(converter.convert(request), CLI_TENANT));
+        try {
+            projectArchiver.write(projectDirectory, format, target);
+        } finally {
+            workspaceManager.release(projectDirectory);
+        }
+    }
+
+    private String summary(CustomProjectRequest request) {
+        return String.format("""
+        Projet: %s
+        Dépendances: %s
+        Docker: %s
+        Kubernetes: %s
+        Architecture: %s
+        """,
+        request.getArtifactId(),
+        request.getDependencies(),
+        request.isGenerateDocker(),
+        request.isGenerateKubernetes(),
+        request.getArchitectureType());
+    }
+
+    private void runInteractive(boolean aiEnabled) {
         Scanner scanner = new Scanner(System.in);
         CustomProjectRequest request = new CustomProjectRequest();
 
@@ -50,6 +411,7 @@ public class CommandLineInterface implements CommandLineRunner {
         String artifactId = scanner.nextLine().trim(); 
         if (artifactId.isEmpty()) {
            System.err.println("Erreur : L'Artifact ID ne peut pas être vide");
+           exitCode = EXIT_USAGE;
            return;
         }
         request.setArtifactId(artifactId);
@@ -57,8 +419,6 @@ public class CommandLineInterface implements CommandLineRunner {
         System.out.print("Version Java (défaut: 17): ");
         String javaVersion = scanner.nextLine();
         request.setJavaVersion(javaVersion.isEmpty() ? "17" : javaVersion);
-        request.setMavenVersion(MavenVersionResolver.resolve(request.getJavaVersion()));
-
         
        System.out.print("Version Spring Boot (défaut: 3.4.4): ");
        String springBootVersion = scanner.nextLine();
@@ -73,6 +433,16 @@ public class CommandLineInterface implements CommandLineRunner {
              default -> "maven";
             });
 
+        ResolvedVersions versions = compatibilityResolver.resolve(
+            request.getJavaVersion(), request.getSpringBootVersion(), request.getBuildTool());
+        if (!versions.isValid()) {
+            System.err.println("Erreur : combinaison de versions incompatible");
+            versions.errors().forEach(error -> System.err.println("  " + error));
+            exitCode = EXIT_USAGE;
+            return;
+        }
+        request.setMavenVersion(versions.mavenVersion());
+
         
         System.out.print("Port (défaut: 8080): ");
         String portInput = scanner.nextLine();
@@ -90,12 +460,39 @@ public class CommandLineInterface implements CommandLineRunner {
             System.out.print("Docker repository (défaut: your-default-repo): ");
             String dockerRepo = scanner.nextLine();
             request.setDockerRepository(dockerRepo.isEmpty() ? "your-default-repo" : dockerRepo);
+
+            System.out.print("Archive CDS pour un démarrage plus rapide du conteneur ? (y/n): ");
+            request.setDockerCds(scanner.nextLine().equalsIgnoreCase("y"));
         }
         
         
+        System.out.print("Activer l'observabilité (Actuator, Prometheus) ? (y/n): ");
+        request.setObservability(scanner.nextLine().equalsIgnoreCase("y"));
+
+        System.out.print("Générer les manifestes Kubernetes ? (y/n): ");
+        request.setGenerateKubernetes(scanner.nextLine().equalsIgnoreCase("y"));
+
+        if (request.isGenerateKubernetes()) {
+            System.out.print("CPU demandé en millicores (défaut: 500): ");
+            String cpu = scanner.nextLine();
+            request.setKubernetesCpuMillis(cpu.isEmpty() ? 500 : Integer.parseInt(cpu));
+
+            System.out.print("Mémoire en Mo (défaut: 512): ");
+            String memory = scanner.nextLine();
+            request.setKubernetesMemoryMb(memory.isEmpty() ? 512 : Integer.parseInt(memory));
+
+            System.out.print("Générer des overlays Kustomize par profil ? (y/n): ");
+            request.setKubernetesOverlays(scanner.nextLine().equalsIgnoreCase("y"));
+        }
+
         System.out.print("Générer CI/CD (GitLab CI) ? (y/n): ");
         request.setGenerateCLCG(scanner.nextLine().equalsIgnoreCase("y"));
 
+        if (request.isGenerateCLCG()) {
+            System.out.print("Ajouter un stage de régression JMH ? (y/n): ");
+            request.setCiBenchmarks(scanner.nextLine().equalsIgnoreCase("y"));
+        }
+
         System.out.println("Type d'architecture (choisissez un numéro):");
         System.out.println("1. Hexagonale");
         System.out.println("2. En couches");
@@ -108,6 +505,9 @@ public class CommandLineInterface implements CommandLineRunner {
         });
 
         
+        System.out.print("Stack (1. Servlet - Spring MVC + JPA, 2. Réactive - WebFlux + R2DBC) - défaut 1: ");
+        request.setStack(scanner.nextLine().equals("2") ? "reactive" : "servlet");
+
         System.out.println("Dépendances disponibles (entrez les numéros séparés par des virgules):");
         System.out.println("1. Web (Spring Web)");
         System.out.println("2. JPA (Spring Data JPA)");
@@ -174,6 +574,25 @@ request.setEntityFields(entityFields);
         }
         request.setRestEndpoints(restEndpointChoices);
 
+        if (restEndpointChoices.containsValue(true)) {
+            System.out.print("Générer des tests de charge pour les endpoints REST ? (y/n): ");
+            request.setGenerateLoadTests(scanner.nextLine().equalsIgnoreCase("y"));
+
+            if (request.isGenerateLoadTests()) {
+                System.out.print("Requêtes par seconde (défaut: 50): ");
+                String rps = scanner.nextLine();
+                request.setLoadTestRps(rps.isEmpty() ? 50 : Integer.parseInt(rps));
+
+                System.out.print("Durée en secondes (défaut: 30): ");
+                String duration = scanner.nextLine();
+                request.setLoadTestDurationSeconds(duration.isEmpty() ? 30 : Integer.parseInt(duration));
+
+                System.out.print("Seuil p99 en ms (défaut: 500): ");
+                String p99 = scanner.nextLine();
+                request.setLoadTestP99Millis(p99.isEmpty() ? 500 : Integer.parseInt(p99));
+            }
+        }
+
         if (request.getArchitectureType().equalsIgnoreCase("en-couches")) {
          System.out.print("Générer les classes de test ? (y/n, défaut y): ");
          request.setGenerateTests(!scanner.nextLine().equalsIgnoreCase("n"));
@@ -182,31 +601,26 @@ request.setEntityFields(entityFields);
         }
 
 
-        System.out.println("\n🤖 Recommandations IA (DeepSeek) :");
-
-        String summary = String.format("""
-        Projet: %s
-        Dépendances: %s
-        Docker: %s
-        Kubernetes: %s
-        Architecture: %s
-        """, 
-        request.getArtifactId(),
-        request.getDependencies(),
-        request.isGenerateDocker(),
-        request.isGenerateKubernetes(),
-        request.getArchitectureType());
+        System.out.print("Vérifier la compilation des sources générées ? (y/n): ");
+        request.setVerifyCompilation(scanner.nextLine().equalsIgnoreCase("y"));
 
-        System.out.println(deepSeekIAService.getSecurityAdvice(summary));
+        if (aiEnabled) {
+            System.out.println("\n🤖 Recommandations IA (DeepSeek) :");
+            System.out.println(deepSeekIAService.getSecurityAdvice(summary(request)));
+        }
 
         System.out.println("\nGénération du projet en cours...");
         try {
-            byte[] zipBytes = projectGeneratorController.generateProject(request).getBody();
-            String fileName = request.getArtifactId() + ".zip";
-            java.nio.file.Files.write(java.nio.file.Path.of(fileName), zipBytes);
+            String fileName = request.getArtifactId() + ArchiveFormat.ZIP.getExtension();
+            generate(request, ArchiveFormat.ZIP, Path.of(fileName));
             System.out.println("Projet généré avec succès dans le fichier: " + fileName);
+        } catch (VerificationException e) {
+            System.err.println("Les sources générées ne compilent pas :");
+            e.getErrors().forEach(error -> System.err.println("  " + error));
+            exitCode = EXIT_GENERATION_FAILED;
         } catch (Exception e) {
             System.err.println("Erreur lors de la génération du projet: " + e.getMessage());
+            exitCode = EXIT_GENERATION_FAILED;
         }
         
         scanner.close();
@@ -1,16 +1,27 @@
 package com.example.project_generator;
 
+import com.example.project_generator.aot.GeneratorRuntimeHints;
+import org.springframework.boot.Banner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(GeneratorRuntimeHints.class)
 public class ProjectGeneratorApplication {
 
 	public static void main(String[] args) {
 		SpringApplication app = new SpringApplication(ProjectGeneratorApplication.class);
-        app.setWebApplicationType(WebApplicationType.NONE); 
-        app.run(args);
+		if (CommandLineInterface.isCommandLineMode(args)) {
+			// Mode CLI : pas de serveur, le code de sortie reflète le résultat de la génération.
+			// L'initialisation paresseuse évite de construire les beans propres au serveur (métadonnées client...).
+			app.setWebApplicationType(WebApplicationType.NONE);
+			app.setLazyInitialization(true);
+			app.setBannerMode(Banner.Mode.OFF);
+			System.exit(SpringApplication.exit(app.run(args)));
+		}
+		app.run(args);
 	}
 
 }
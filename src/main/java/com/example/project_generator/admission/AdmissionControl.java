@@ -0,0 +1,276 @@
+package com.example.project_generator.admission;
+
+import com.example.project_generator.controller.ProjectGeneratorController;
+import com.example.project_generator.model.CustomProjectRequest;
+import com.example.project_generator.model.FieldDefinition;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contrôle d'admission de /generate, appliqué avant tout travail :
+ * <ol>
+ *   <li>coût estimé de la requête (entités × champs × options) comparé au budget maximal ;</li>
+ *   <li>seau à jetons par adresse distante, en unités de coût :
+ *       un léger dépassement est différé, au-delà la requête est refusée avec {@code Retry-After} ;
+ *       au plus {@code project.admission.max-tracked-clients} seaux, le moins récemment utilisé cédant sa place,
+ *       et les seaux pleins oubliés à chaque {@code project.admission.sweep-interval} ;</li>
+ *   <li>limite globale de générations simultanées, avec une courte file d'attente avant délestage.</li>
+ * </ol>
+ * L'en-tête {@link ProjectGeneratorController#TENANT_HEADER} est fourni par le client : il ne sert qu'aux quotas
+ * d'espace disque, jamais à la limite de débit (changer de valeur à chaque requête donnerait un seau plein).
+ */
+@Component
+public class AdmissionControl {
+
+    @Value("${project.admission.cost.base:10}")
+    private int baseCost;
+
+    @Value("${project.admission.cost.per-entity:5}")
+    private int entityCost;
+
+    @Value("${project.admission.cost.per-field:1}")
+    private int fieldCost;
+
+    @Value("${project.admission.cost.per-option:5}")
+    private int optionCost;
+
+    @Value("${project.admission.cost.verify-compilation:50}")
+    private int verificationCost;
+
+    @Value("${project.admission.max-request-cost:1000}")
+    private int maxRequestCost;
+
+    @Value("${project.admission.bucket-capacity:2000}")
+    private int bucketCapacity;
+
+    @Value("${project.admission.refill-per-second:100}")
+    private int refillPerSecond;
+
+    @Value("${project.admission.max-delay:1s}")
+    private Duration maxDelay;
+
+    // 0 : un par cœur
+    @Value("${project.admission.max-concurrent:0}")
+    private int maxConcurrent;
+
+    @Value("${project.admission.queue-timeout:2s}")
+    private Duration queueTimeout;
+
+    @Value("${project.admission.max-tracked-clients:10000}")
+    private int maxTrackedClients;
+
+    @Value("${project.admission.sweep-interval:1m}")
+    private Duration sweepInterval;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Map<String, TokenBucket> buckets;
+    private Semaphore concurrency;
+    private ScheduledExecutorService sweeper;
+
+    public static class AdmissionRejectedException extends RuntimeException {
+        private final HttpStatus status;
+        private final long retryAfterSeconds;
+
+        public AdmissionRejectedException(HttpStatus status, long retryAfterSeconds, String message) {
+            super(message);
+            this.status = status;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public HttpStatus getStatus() {
+            return status;
+        }
+
+        /**
+         * Délai conseillé avant une nouvelle tentative, 0 si réessayer ne changerait rien (budget dépassé).
+         */
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
+    /**
+     * Place réservée dans la limite globale, à libérer en fin de génération (try-with-resources).
+     */
+    public final class Permit implements AutoCloseable {
+        private boolean released;
+
+        private Permit() {
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                concurrency.release();
+            }
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (maxRequestCost > bucketCapacity) {
+            throw new IllegalStateException("project.admission.max-request-cost (" + maxRequestCost
+                + ") dépasse project.admission.bucket-capacity (" + bucketCapacity + ")");
+        }
+        int permits = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        concurrency = new Semaphore(permits, true);
+        meterRegistry.gauge("generator.admission.available-permits", concurrency, Semaphore::availablePermits);
+
+        // Ordre d'accès : l'entrée la plus ancienne est le client le moins récemment vu, évincé en O(1)
+        buckets = Collections.synchronizedMap(new LinkedHashMap<String, TokenBucket>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxTrackedClients;
+            }
+        });
+        meterRegistry.gauge("generator.admission.tracked-clients", buckets, Map::size);
+
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "admission-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper = executor;
+        long interval = sweepInterval.toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Budget et débit du client : lève {@link AdmissionRejectedException}, ou attend brièvement si la
+     * requête est différée. Toute requête y passe, y compris celles regroupées avec une génération en cours.
+     */
+    public void admit(CustomProjectRequest request) {
+        long cost = cost(request);
+        if (cost > maxRequestCost) {
+            reject("budget");
+            throw new AdmissionRejectedException(HttpStatus.PAYLOAD_TOO_LARGE, 0,
+                "Requête trop coûteuse : " + cost + " > " + maxRequestCost
+                    + " (réduire le nombre d'entités, de champs ou d'options)");
+        }
+
+        long now = System.nanoTime();
+        TokenBucket bucket = bucketFor(clientId(), now);
+        TokenBucket.Reservation reservation = bucket.reserve(cost, maxDelay.toNanos(), now);
+        if (!reservation.granted()) {
+            reject("rate");
+            throw new AdmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS,
+                Math.max(1, TimeUnit.NANOSECONDS.toSeconds(reservation.waitNanos()) + 1),
+                "Limite de débit atteinte pour ce client");
+        }
+        if (reservation.waitNanos() > 0) {
+            meterRegistry.counter("generator.admission.deferred").increment();
+            try {
+                TimeUnit.NANOSECONDS.sleep(reservation.waitNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AdmissionRejectedException(HttpStatus.SERVICE_UNAVAILABLE, 1, "Requête interrompue");
+            }
+        }
+    }
+
+    /**
+     * Place dans la limite globale des générations simultanées, attendue au plus {@code queue-timeout}
+     * avant délestage. Seule la génération effectivement exécutée en prend une.
+     */
+    public Permit acquire() {
+        try {
+            if (!concurrency.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                reject("concurrency");
+                throw new AdmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS, 1,
+                    "Serveur saturé : trop de générations simultanées");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AdmissionRejectedException(HttpStatus.SERVICE_UNAVAILABLE, 1, "Requête interrompue");
+        }
+        return new Permit();
+    }
+
+    /**
+     * Modèle de coût : socle + entités + champs + options coûteuses ; la vérification de compilation
+     * (javac en mémoire) compte à part.
+     */
+    public long cost(CustomProjectRequest request) {
+        long cost = baseCost;
+        List<String> entities = request.getEntities();
+        if (entities != null) {
+            cost += (long) entities.size() * entityCost;
+        }
+        Map<String, List<FieldDefinition>> entityFields = request.getEntityFields();
+        if (entityFields != null) {
+            for (List<FieldDefinition> fields : entityFields.values()) {
+                if (fields != null) {
+                    cost += (long) fields.size() * fieldCost;
+                }
+            }
+        }
+        int options = 0;
+        options += request.isGenerateDocker() ? 1 : 0;
+        options += request.isGenerateKubernetes() ? 1 : 0;
+        options += request.isGenerateCLCG() ? 1 : 0;
+        options += request.isGenerateTests() ? 1 : 0;
+        options += request.isGenerateLoadTests() ? 1 : 0;
+        options += request.isObservability() ? 1 : 0;
+        cost += (long) options * optionCost;
+        if (request.isVerifyCompilation()) {
+            cost += verificationCost;
+        }
+        return cost;
+    }
+
+    private TokenBucket bucketFor(String clientId, long now) {
+        return buckets.computeIfAbsent(clientId, id -> new TokenBucket(bucketCapacity, refillPerSecond, now));
+    }
+
+    /**
+     * Un seau plein n'a plus d'effet : l'oublier équivaut à le recréer plus tard.
+     */
+    void sweep() {
+        long now = System.nanoTime();
+        synchronized (buckets) {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+
+    int getTrackedClients() {
+        return buckets.size();
+    }
+
+    private String clientId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            return "ip:" + servlet.getRequest().getRemoteAddr();
+        }
+        return "local";
+    }
+
+    private void reject(String reason) {
+        meterRegistry.counter("generator.admission.rejected", "reason", reason).increment();
+    }
+}
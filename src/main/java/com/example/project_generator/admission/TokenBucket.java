@@ -0,0 +1,47 @@
+package com.example.project_generator.admission;
+
+/**
+ * Seau à jetons d'un client, rempli en continu. Une réservation peut rendre le solde négatif :
+ * le demandeur attend alors le temps nécessaire pour le combler (requête différée plutôt que refusée).
+ */
+final class TokenBucket {
+
+    record Reservation(boolean granted, long waitNanos) {
+    }
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double capacity, double tokensPerSecond, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefill = now;
+    }
+
+    /**
+     * Prélève {@code cost} jetons si le manque peut être comblé en moins de {@code maxWaitNanos} ;
+     * sinon rien n'est prélevé et l'attente nécessaire est rendue (pour {@code Retry-After}).
+     */
+    synchronized Reservation reserve(double cost, long maxWaitNanos, long now) {
+        refill(now);
+        long wait = tokens >= cost ? 0 : (long) Math.ceil((cost - tokens) / tokensPerNano);
+        if (wait > maxWaitNanos) {
+            return new Reservation(false, wait);
+        }
+        tokens -= cost;
+        return new Reservation(true, wait);
+    }
+
+    synchronized boolean isFull(long now) {
+        refill(now);
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.project_generator.aot;
+
+import com.example.project_generator.catalog.BuildDependencies;
+import com.example.project_generator.model.CustomProjectDescription;
+import com.example.project_generator.model.CustomProjectRequest;
+import com.example.project_generator.model.FieldDefinition;
+import com.example.project_generator.plan.ProjectPlan;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Ressources et types accédés dynamiquement par le générateur, déclarés pour l'image native
+ * (profil Maven {@code native}) : l'analyse statique de GraalVM ne voit ni les templates chargés
+ * par nom, ni les getters appelés par FreeMarker et Jackson.
+ */
+public class GeneratorRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<String> RESOURCE_PATTERNS = List.of(
+        "templates/*.ftl",
+        "templates/k8s/*.ftl",
+        "maven-wrapper/*",
+        "catalog/*.json",
+        "kubernetes/schemas.yml",
+        "verification-stubs/**"
+    );
+
+    // Objets exposés aux templates FreeMarker (build.maven, field.name...) ou liés par Jackson (--spec, preview)
+    private static final List<Class<?>> MODEL_TYPES = List.of(
+        BuildDependencies.class,
+        CustomProjectDescription.class,
+        CustomProjectRequest.class,
+        FieldDefinition.class,
+        ProjectPlan.PlannedFile.class
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        RESOURCE_PATTERNS.forEach(pattern -> hints.resources().registerPattern(pattern));
+        for (Class<?> type : MODEL_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.DECLARED_FIELDS);
+        }
+    }
+}
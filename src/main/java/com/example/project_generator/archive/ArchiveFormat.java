@@ -0,0 +1,107 @@
+package com.example.project_generator.archive;
+
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Formats de sortie d'une génération. {@link #DIRECTORY} laisse le projet sur le disque du serveur
+ * (consommateurs qui dépaquettent directement dans un dépôt git ou un contexte de build).
+ */
+public enum ArchiveFormat {
+
+    ZIP("zip", ".zip", MediaType.parseMediaType("application/zip")),
+    TAR("tar", ".tar", MediaType.parseMediaType("application/x-tar")),
+    TAR_GZ("tar.gz", ".tar.gz", MediaType.parseMediaType("application/gzip")),
+    DIRECTORY("directory", "", MediaType.APPLICATION_JSON);
+
+    private static final MediaType X_GZIP = MediaType.parseMediaType("application/x-gzip");
+
+    private final String id;
+    private final String extension;
+    private final MediaType mediaType;
+
+    ArchiveFormat(String id, String extension, MediaType mediaType) {
+        this.id = id;
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Paramètre {@code format} de la requête : identifiant ou extension ({@code tgz} accepté).
+     */
+    public static Optional<ArchiveFormat> fromParameter(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        if (normalized.startsWith(".")) {
+            normalized = normalized.substring(1);
+        }
+        if (normalized.equals("tgz")) {
+            return Optional.of(TAR_GZ);
+        }
+        for (ArchiveFormat format : values()) {
+            if (format.id.equals(normalized)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Choisit le format d'après l'en-tête {@code Accept}, par qualité décroissante. Les jokers
+     * désignent le format par défaut (ZIP) ; le répertoire n'est jamais négocié, il doit être demandé.
+     */
+    public static Optional<ArchiveFormat> fromAccept(List<MediaType> accepted) {
+        List<MediaType> byQuality = new ArrayList<>(accepted);
+        byQuality.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType mediaType : byQuality) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.isWildcardType() || (mediaType.isWildcardSubtype() && "application".equals(mediaType.getType()))) {
+                return Optional.of(ZIP);
+            }
+            if (mediaType.equalsTypeAndSubtype(X_GZIP)) {
+                return Optional.of(TAR_GZ);
+            }
+            for (ArchiveFormat format : values()) {
+                if (format != DIRECTORY && mediaType.equalsTypeAndSubtype(format.mediaType)) {
+                    return Optional.of(format);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Format déduit d'un chemin de sortie (CLI) : extension d'archive connue, sinon répertoire.
+     */
+    public static ArchiveFormat fromFileName(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".tar.gz") || name.endsWith(".tgz")) {
+            return TAR_GZ;
+        }
+        if (name.endsWith(".tar")) {
+            return TAR;
+        }
+        if (name.endsWith(".zip")) {
+            return ZIP;
+        }
+        return DIRECTORY;
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.project_generator.archive;
+
+import com.example.project_generator.profiling.ZipEntryDeflateEvent;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Construit une archive ZIP en compressant les entrées en parallèle : chaque fichier est lu, sommé (CRC32)
+ * et compressé par une tâche du {@link ForkJoinPool} dans ses propres tampons, puis les entrées sont
+ * écrites dans l'ordre (en-tête local, données, répertoire central) au fur et à mesure qu'elles sont prêtes.
+ * Le niveau 0 stocke les fichiers sans compression. Toutes les entrées portent la même date, fixée par
+ * l'appelant : à contenu identique, l'archive est identique octet pour octet.
+ */
+final class ParallelZipWriter {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int UTF8_NAMES = 1 << 11;
+    private static final int MADE_BY_UNIX = 3 << 8;
+    private static final long MAX_32 = 0xFFFFFFFFL;
+
+    private static final ThreadLocal<byte[]> READ_BUFFERS = ThreadLocal.withInitial(() -> new byte[CHUNK_SIZE]);
+
+    private final ForkJoinPool pool;
+    private final int level;
+    private final long dosTime;
+    // Entrées compressées d'avance au plus : borne la mémoire retenue pour les grosses archives
+    private final int window;
+
+    ParallelZipWriter(ForkJoinPool pool, int level, Instant entryTime) {
+        if (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Niveau de compression hors de [0, 9] : " + level);
+        }
+        this.pool = pool;
+        this.level = level;
+        this.dosTime = dosTime(entryTime.toEpochMilli());
+        this.window = pool.getParallelism() * 4;
+    }
+
+    void write(Path root, List<Path> files, OutputStream out) throws IOException {
+        if (files.size() > 0xFFFF) {
+            throw new IOException("Trop d'entrées pour un ZIP sans extension Zip64 : " + files.size());
+        }
+        ArrayDeque<ForkJoinTask<CompressedEntry>> pending = new ArrayDeque<>();
+        List<CompressedEntry> written = new ArrayList<>(files.size());
+        CountingOutputStream counting = new CountingOutputStream(out);
+        int next = 0;
+        try {
+            while (next < files.size() || !pending.isEmpty()) {
+                while (next < files.size() && pending.size() < window) {
+                    Path file = files.get(next++);
+                    String name = root.relativize(file).toString().replace("\\", "/");
+                    pending.add(pool.submit(() -> compress(name, file)));
+                }
+                CompressedEntry entry = join(pending.poll());
+                entry.offset = counting.count;
+                writeLocalHeader(counting, entry);
+                entry.data.writeTo(counting);
+                entry.data = null;
+                written.add(entry);
+            }
+        } finally {
+            pending.forEach(task -> task.cancel(true));
+        }
+
+        long centralDirectoryOffset = counting.count;
+        for (CompressedEntry entry : written) {
+            writeCentralHeader(counting, entry);
+        }
+        writeEndOfCentralDirectory(counting, written.size(), counting.count - centralDirectoryOffset, centralDirectoryOffset);
+        counting.flush();
+    }
+
+    private static CompressedEntry join(ForkJoinTask<CompressedEntry> task) throws IOException {
+        try {
+            return task.join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private CompressedEntry compress(String name, Path file) {
+        ZipEntryDeflateEvent event = new ZipEntryDeflateEvent();
+        event.begin();
+        try {
+            CompressedEntry entry = new CompressedEntry(name);
+            entry.dosTime = dosTime;
+            entry.executable = Files.isExecutable(file);
+            CRC32 crc = new CRC32();
+            ChunkedBuffer data = new ChunkedBuffer();
+            Deflater deflater = level == Deflater.NO_COMPRESSION ? null : new Deflater(level, true);
+            byte[] buffer = READ_BUFFERS.get();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer input = ByteBuffer.wrap(buffer);
+                int read;
+                while ((read = channel.read(input.clear())) != -1) {
+                    crc.update(buffer, 0, read);
+                    entry.size += read;
+                    if (deflater == null) {
+                        data.write(buffer, 0, read);
+                    } else {
+                        deflater.setInput(buffer, 0, read);
+                        while (!deflater.needsInput()) {
+                            data.deflate(deflater);
+                        }
+                    }
+                }
+                if (deflater != null) {
+                    deflater.finish();
+                    while (!deflater.finished()) {
+                        data.deflate(deflater);
+                    }
+                }
+            } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
+            }
+            if (entry.size > MAX_32 || data.size() > MAX_32) {
+                throw new IOException("Entrée trop volumineuse pour un ZIP sans extension Zip64 : " + name);
+            }
+            entry.crc = crc.getValue();
+            entry.compressedSize = data.size();
+            entry.data = data;
+            event.end();
+            if (event.shouldCommit()) {
+                event.entry = name;
+                event.level = level;
+                event.size = entry.size;
+                event.compressedSize = entry.compressedSize;
+                event.commit();
+            }
+            return entry;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLocalHeader(CountingOutputStream out, CompressedEntry entry) throws IOException {
+        ByteBuffer header = littleEndian(30 + entry.name.length);
+        header.putInt(LOCAL_HEADER)
+            .putShort((short) versionNeeded())
+            .putShort((short) UTF8_NAMES)
+            .putShort((short) method())
+            .putInt((int) entry.dosTime)
+            .putInt((int) entry.crc)
+            .putInt((int) entry.compressedSize)
+            .putInt((int) entry.size)
+            .putShort((short) entry.name.length)
+            .putShort((short) 0)
+            .put(entry.name);
+        out.write(header.array());
+    }
+
+    private void writeCentralHeader(CountingOutputStream out, CompressedEntry entry) throws IOException {
+        if (entry.offset > MAX_32) {
+            throw new IOException("Archive trop volumineuse pour un ZIP sans extension Zip64");
+        }
+        // Mode Unix dans les attributs externes : unzip restaure le bit exécutable de mvnw
+        int mode = entry.executable ? 0100755 : 0100644;
+        ByteBuffer header = littleEndian(46 + entry.name.length);
+        header.putInt(CENTRAL_HEADER)
+            .putShort((short) (MADE_BY_UNIX | versionNeeded()))
+            .putShort((short) versionNeeded())
+            .putShort((short) UTF8_NAMES)
+            .putShort((short) method())
+            .putInt((int) entry.dosTime)
+            .putInt((int) entry.crc)
+            .putInt((int) entry.compressedSize)
+            .putInt((int) entry.size)
+            .putShort((short) entry.name.length)
+            .putShort((short) 0)
+            .putShort((short) 0)
+            .putShort((short) 0)
+            .putShort((short) 0)
+            .putInt(mode << 16)
+            .putInt((int) entry.offset)
+            .put(entry.name);
+        out.write(header.array());
+    }
+
+    private static void writeEndOfCentralDirectory(CountingOutputStream out, int entries, long size, long offset) throws IOException {
+        if (offset > MAX_32) {
+            throw new IOException("Archive trop volumineuse pour un ZIP sans extension Zip64");
+        }
+        ByteBuffer end = littleEndian(22);
+        end.putInt(END_OF_CENTRAL_DIRECTORY)
+            .putShort((short) 0)
+            .putShort((short) 0)
+            .putShort((short) entries)
+            .putShort((short) entries)
+            .putInt((int) size)
+            .putInt((int) offset)
+            .putShort((short) 0);
+        out.write(end.array());
+    }
+
+    private int method() {
+        return level == Deflater.NO_COMPRESSION ? 0 : 8;
+    }
+
+    private int versionNeeded() {
+        return level == Deflater.NO_COMPRESSION ? 10 : 20;
+    }
+
+    private static ByteBuffer littleEndian(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Date et heure au format MS-DOS (résolution de deux secondes, à partir de 1980). Le format ne porte pas
+     * de fuseau : on le calcule en UTC pour que la sortie ne dépende pas de celui du serveur.
+     */
+    static long dosTime(long epochMillis) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+        if (time.getYear() < 1980) {
+            return (1 << 21) | (1 << 16);
+        }
+        return ((long) (time.getYear() - 1980) << 25)
+            | ((long) time.getMonthValue() << 21)
+            | ((long) time.getDayOfMonth() << 16)
+            | ((long) time.getHour() << 11)
+            | ((long) time.getMinute() << 5)
+            | (time.getSecond() >> 1);
+    }
+
+    private static final class CompressedEntry {
+        final byte[] name;
+        long dosTime;
+        boolean executable;
+        long crc;
+        long size;
+        long compressedSize;
+        long offset;
+        ChunkedBuffer data;
+
+        CompressedEntry(String name) {
+            this.name = name.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Tampon de sortie en blocs de 64 Ko : grandir n'impose jamais de recopier les données déjà compressées.
+     */
+    private static final class ChunkedBuffer {
+        private final List<byte[]> chunks = new ArrayList<>();
+        private byte[] current;
+        private int position;
+        private long size;
+
+        void write(byte[] bytes, int offset, int length) {
+            while (length > 0) {
+                ensureCapacity();
+                int count = Math.min(length, current.length - position);
+                System.arraycopy(bytes, offset, current, position, count);
+                position += count;
+                offset += count;
+                length -= count;
+                size += count;
+            }
+        }
+
+        void deflate(Deflater deflater) {
+            ensureCapacity();
+            int count = deflater.deflate(current, position, current.length - position);
+            position += count;
+            size += count;
+        }
+
+        private void ensureCapacity() {
+            if (current == null || position == current.length) {
+                current = new byte[CHUNK_SIZE];
+                chunks.add(current);
+                position = 0;
+            }
+        }
+
+        long size() {
+            return size;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            for (int i = 0; i < chunks.size(); i++) {
+                byte[] chunk = chunks.get(i);
+                out.write(chunk, 0, i == chunks.size() - 1 ? position : chunk.length);
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private final OutputStream out;
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.project_generator.archive;
+
+import com.example.project_generator.output.GeneratedFiles;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Produit la sortie d'une génération dans le format demandé, à partir du répertoire de travail du projet.
+ * Les entrées ZIP sont compressées en parallèle sur un pool dédié ({@link ParallelZipWriter}).
+ * <p>
+ * La sortie est reproductible : entrées triées par chemin, date fixe ({@code project.archive.entry-timestamp})
+ * et en-tête gzip sans date, si bien que deux générations identiques donnent les mêmes octets.
+ */
+@Component
+public class ProjectArchiver {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // 0 : stockage sans compression (clients sur le réseau local), 9 : compression maximale
+    @Value("${project.archive.compression-level:6}")
+    private int defaultCompressionLevel;
+
+    // 0 : un thread par cœur
+    @Value("${project.archive.parallelism:0}")
+    private int parallelism;
+
+    // Date portée par toutes les entrées, au lieu de l'heure d'écriture des fichiers
+    @Value("${project.archive.entry-timestamp:1980-02-01T00:00:00Z}")
+    private String entryTimestamp;
+
+    private ForkJoinPool compressionPool;
+    private Instant entryTime;
+
+    @PostConstruct
+    void start() {
+        entryTime = Instant.parse(entryTimestamp);
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        compressionPool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("archive-deflate-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    void stop() {
+        compressionPool.shutdownNow();
+    }
+
+    public int getDefaultCompressionLevel() {
+        return defaultCompressionLevel;
+    }
+
+    /**
+     * Écrit l'archive sur un flux (réponse HTTP) au niveau de compression par défaut. Le flux n'est pas fermé.
+     */
+    public void write(Path projectDirectory, ArchiveFormat format, OutputStream out) throws IOException {
+        write(projectDirectory, format, out, defaultCompressionLevel);
+    }
+
+    public void write(Path projectDirectory, ArchiveFormat format, OutputStream out, int compressionLevel) throws IOException {
+        List<Path> files = listFiles(projectDirectory);
+        switch (format) {
+            case ZIP -> new ParallelZipWriter(compressionPool, compressionLevel, entryTime).write(projectDirectory, files, out);
+            case TAR -> writeTar(projectDirectory, files, out);
+            case TAR_GZ -> {
+                GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE) {
+                    {
+                        def.setLevel(compressionLevel);
+                    }
+                };
+                writeTar(projectDirectory, files, gzip);
+                gzip.finish();
+            }
+            case DIRECTORY -> throw new IllegalArgumentException("Le format répertoire ne s'écrit pas sur un flux");
+        }
+    }
+
+    /**
+     * Écrit la sortie dans un fichier, ou recopie le projet si le format est {@link ArchiveFormat#DIRECTORY}.
+     * Le tar non compressé et la recopie de répertoire sont transférés de fichier à fichier par le noyau.
+     */
+    public void write(Path projectDirectory, ArchiveFormat format, Path target) throws IOException {
+        if (format == ArchiveFormat.DIRECTORY) {
+            copyDirectory(projectDirectory, target);
+            return;
+        }
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (FileChannel channel = FileChannel.open(target,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            if (format == ArchiveFormat.TAR) {
+                TarWriter tar = new TarWriter(channel);
+                for (Path file : listFiles(projectDirectory)) {
+                    putTarEntry(tar, projectDirectory, file);
+                }
+                tar.finish();
+            } else {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                write(projectDirectory, format, out);
+                out.flush();
+            }
+        }
+    }
+
+    private void writeTar(Path root, List<Path> files, OutputStream out) throws IOException {
+        TarWriter tar = new TarWriter(Channels.newChannel(out));
+        for (Path file : files) {
+            putTarEntry(tar, root, file);
+        }
+        tar.finish();
+    }
+
+    private void putTarEntry(TarWriter tar, Path root, Path file) throws IOException {
+        tar.putFile(entryName(root, file), file, Files.size(file), entryTime.getEpochSecond(), Files.isExecutable(file));
+    }
+
+    private void copyDirectory(Path root, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path source : (Iterable<Path>) paths::iterator) {
+                Path destination = target.resolve(root.relativize(source).toString());
+                if (Files.isDirectory(source)) {
+                    Files.createDirectories(destination);
+                    continue;
+                }
+                try (FileChannel out = FileChannel.open(destination,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    GeneratedFiles.transfer(source, out);
+                }
+                if (Files.isExecutable(source)) {
+                    destination.toFile().setExecutable(true, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Fichiers du projet triés par nom d'entrée : l'ordre de parcours du système de fichiers n'est pas spécifié.
+     */
+    private List<Path> listFiles(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(Files::isRegularFile)
+                .sorted(Comparator.comparing(file -> entryName(root, file)))
+                .toList();
+        }
+    }
+
+    /**
+     * Empreinte SHA-256 d'une archive, en hexadécimal : sert d'ETag et d'en-tête de condensat.
+     */
+    public static String sha256(byte[] archive) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(archive));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String entryName(Path root, Path file) {
+        return root.relativize(file).toString().replace("\\", "/");
+    }
+}
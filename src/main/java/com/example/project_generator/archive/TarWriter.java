@@ -0,0 +1,128 @@
+package com.example.project_generator.archive;
+
+import com.example.project_generator.output.GeneratedFiles;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Écrit une archive tar (ustar) sur un canal. Le contenu des fichiers est transféré par
+ * {@link GeneratedFiles#transfer}, sans passer par le tas : vers un fichier, le noyau copie directement.
+ * Les chemins de plus de 255 octets utilisent l'extension GNU {@code ././@LongLink}.
+ */
+final class TarWriter {
+
+    private static final int BLOCK_SIZE = 512;
+    private static final int NAME_LENGTH = 100;
+    private static final int PREFIX_LENGTH = 155;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer header = ByteBuffer.allocate(BLOCK_SIZE);
+
+    TarWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    void putFile(String name, Path file, long size, long modifiedSeconds, boolean executable) throws IOException {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        int split = prefixSplit(nameBytes);
+        if (split < 0) {
+            // Nom trop long pour ustar : entrée GNU portant le nom complet, puis l'en-tête avec un nom tronqué
+            writeHeader("././@LongLink".getBytes(StandardCharsets.US_ASCII), 0, nameBytes.length + 1, 0, 0644, 'L');
+            writeFully(ByteBuffer.wrap(Arrays.copyOf(nameBytes, nameBytes.length + 1)));
+            pad(nameBytes.length + 1);
+            writeHeader(nameBytes, 0, size, modifiedSeconds, executable ? 0755 : 0644, '0');
+        } else {
+            writeHeader(nameBytes, split, size, modifiedSeconds, executable ? 0755 : 0644, '0');
+        }
+        GeneratedFiles.transfer(file, channel);
+        pad(size);
+    }
+
+    /**
+     * Termine l'archive par deux blocs vides.
+     */
+    void finish() throws IOException {
+        writeFully(ByteBuffer.allocate(2 * BLOCK_SIZE));
+    }
+
+    /**
+     * Position du séparateur entre préfixe et nom ustar : 0 si le nom tient seul, -1 si aucun découpage n'est possible.
+     */
+    private static int prefixSplit(byte[] name) {
+        if (name.length <= NAME_LENGTH) {
+            return 0;
+        }
+        for (int i = name.length - NAME_LENGTH - 1; i < name.length && i <= PREFIX_LENGTH; i++) {
+            if (i > 0 && name[i] == '/') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void writeHeader(byte[] name, int split, long size, long modifiedSeconds, int mode, char type) throws IOException {
+        byte[] block = header.clear().array();
+        Arrays.fill(block, (byte) 0);
+        if (split > 0) {
+            System.arraycopy(name, split + 1, block, 0, name.length - split - 1);
+            System.arraycopy(name, 0, block, 345, split);
+        } else {
+            System.arraycopy(name, 0, block, 0, Math.min(name.length, NAME_LENGTH));
+        }
+        octal(block, 100, 8, mode);
+        octal(block, 108, 8, 0);
+        octal(block, 116, 8, 0);
+        octal(block, 124, 12, size);
+        octal(block, 136, 12, modifiedSeconds);
+        Arrays.fill(block, 148, 156, (byte) ' ');
+        block[156] = (byte) type;
+        System.arraycopy("ustar\0".getBytes(StandardCharsets.US_ASCII), 0, block, 257, 6);
+        block[263] = '0';
+        block[264] = '0';
+
+        long checksum = 0;
+        for (byte b : block) {
+            checksum += b & 0xFF;
+        }
+        octal(block, 148, 7, checksum);
+        block[155] = ' ';
+        writeFully(header);
+    }
+
+    /**
+     * Champ numérique tar : octal complété de zéros, terminé par NUL.
+     */
+    private static void octal(byte[] block, int offset, int length, long value) {
+        String digits = Long.toOctalString(value);
+        int width = length - 1;
+        if (digits.length() > width) {
+            throw new IllegalArgumentException("Valeur trop grande pour un en-tête tar : " + value);
+        }
+        int position = offset;
+        for (int i = digits.length(); i < width; i++) {
+            block[position++] = '0';
+        }
+        for (int i = 0; i < digits.length(); i++) {
+            block[position++] = (byte) digits.charAt(i);
+        }
+        block[offset + width] = 0;
+    }
+
+    private void pad(long size) throws IOException {
+        int remainder = (int) (size % BLOCK_SIZE);
+        if (remainder != 0) {
+            writeFully(ByteBuffer.allocate(BLOCK_SIZE - remainder));
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
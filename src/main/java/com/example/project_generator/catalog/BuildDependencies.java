@@ -0,0 +1,101 @@
+package com.example.project_generator.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dépendances résolues pour un projet ; les blocs de build sont assemblés par simple concaténation des fragments.
+ */
+public final class BuildDependencies {
+
+    private final List<CatalogDependency> dependencies;
+    private final List<CatalogBom> boms;
+    private final List<String> warnings;
+
+    BuildDependencies(List<CatalogDependency> dependencies, List<CatalogBom> boms, List<String> warnings) {
+        this.dependencies = List.copyOf(dependencies);
+        this.boms = List.copyOf(boms);
+        this.warnings = List.copyOf(warnings);
+    }
+
+    public List<CatalogDependency> getDependencies() {
+        return dependencies;
+    }
+
+    public List<CatalogBom> getBoms() {
+        return boms;
+    }
+
+    /**
+     * Dépendances demandées écartées au profit d'une feature (Spring MVC remplacé par WebFlux...), reportées
+     * en commentaire dans le fichier de build.
+     */
+    public List<String> getWarnings() {
+        return warnings;
+    }
+
+    public BuildDependencies withVersion(String id, String version) {
+        List<CatalogDependency> updated = new ArrayList<>(dependencies.size());
+        for (CatalogDependency dependency : dependencies) {
+            updated.add(dependency.getId().equals(id) ? dependency.withVersion(version) : dependency);
+        }
+        return new BuildDependencies(updated, boms, warnings);
+    }
+
+    public boolean contains(String id) {
+        for (CatalogDependency dependency : dependencies) {
+            if (dependency.getId().equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getMaven() {
+        StringBuilder out = new StringBuilder(dependencies.size() * 160);
+        for (CatalogDependency dependency : dependencies) {
+            out.append(dependency.getMavenFragment());
+        }
+        return out.toString();
+    }
+
+    public String getGroovy() {
+        StringBuilder out = new StringBuilder(dependencies.size() * 64);
+        for (CatalogDependency dependency : dependencies) {
+            out.append(dependency.getGroovyFragment());
+        }
+        return out.toString();
+    }
+
+    public String getKotlin() {
+        StringBuilder out = new StringBuilder(dependencies.size() * 64);
+        for (CatalogDependency dependency : dependencies) {
+            out.append(dependency.getKotlinFragment());
+        }
+        return out.toString();
+    }
+
+    public String getMavenBoms() {
+        StringBuilder out = new StringBuilder();
+        for (CatalogBom bom : boms) {
+            out.append(bom.getMavenFragment());
+        }
+        return out.toString();
+    }
+
+    public String getGroovyBoms() {
+        StringBuilder out = new StringBuilder();
+        for (CatalogBom bom : boms) {
+            out.append(bom.getGroovyFragment());
+        }
+        return out.toString();
+    }
+
+    public String getKotlinBoms() {
+        StringBuilder out = new StringBuilder();
+        for (CatalogBom bom : boms) {
+            out.append(bom.getKotlinFragment());
+        }
+        return out.toString();
+    }
+}
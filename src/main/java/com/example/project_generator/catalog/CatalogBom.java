@@ -0,0 +1,61 @@
+package com.example.project_generator.catalog;
+
+/**
+ * BOM importé dans le dependencyManagement dès qu'une dépendance qui le référence est sélectionnée.
+ */
+public final class CatalogBom {
+
+    private final String id;
+    private final String groupId;
+    private final String artifactId;
+    private final String version;
+    private final String mavenFragment;
+    private final String groovyFragment;
+    private final String kotlinFragment;
+
+    CatalogBom(String id, String groupId, String artifactId, String version) {
+        this.id = id;
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.version = version;
+
+        String coordinates = groupId + ":" + artifactId + ":" + version;
+        this.mavenFragment = "            <dependency>\n"
+            + "                <groupId>" + groupId + "</groupId>\n"
+            + "                <artifactId>" + artifactId + "</artifactId>\n"
+            + "                <version>" + version + "</version>\n"
+            + "                <type>pom</type>\n"
+            + "                <scope>import</scope>\n"
+            + "            </dependency>\n";
+        this.groovyFragment = "        mavenBom '" + coordinates + "'\n";
+        this.kotlinFragment = "        mavenBom(\"" + coordinates + "\")\n";
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getMavenFragment() {
+        return mavenFragment;
+    }
+
+    public String getGroovyFragment() {
+        return groovyFragment;
+    }
+
+    public String getKotlinFragment() {
+        return kotlinFragment;
+    }
+}
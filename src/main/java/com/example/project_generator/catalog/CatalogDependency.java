@@ -0,0 +1,154 @@
+package com.example.project_generator.catalog;
+
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.generator.version.VersionRange;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Entrée immuable du catalogue ; les fragments Maven, Groovy et Kotlin sont rendus une seule fois au chargement.
+ */
+public final class CatalogDependency {
+
+    private final String id;
+    private final List<String> aliases;
+    private final String name;
+    private final String group;
+    private final String groupId;
+    private final String artifactId;
+    private final String version;
+    private final DependencyScope scope;
+    private final String bom;
+    private final VersionRange compatibilityRange;
+    private final Set<String> conflicts;
+    private final int order;
+
+    private final String mavenFragment;
+    private final String groovyFragment;
+    private final String kotlinFragment;
+
+    CatalogDependency(String id, List<String> aliases, String name, String group, String groupId, String artifactId,
+                      String version, DependencyScope scope, String bom, VersionRange compatibilityRange,
+                      Set<String> conflicts, int order) {
+        this.id = id;
+        this.aliases = List.copyOf(aliases);
+        this.name = name;
+        this.group = group;
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.version = version;
+        this.scope = scope;
+        this.bom = bom;
+        this.compatibilityRange = compatibilityRange;
+        this.conflicts = Set.copyOf(conflicts);
+        this.order = order;
+
+        StringBuilder maven = new StringBuilder(160)
+            .append("        <dependency>\n")
+            .append("            <groupId>").append(groupId).append("</groupId>\n")
+            .append("            <artifactId>").append(artifactId).append("</artifactId>\n");
+        if (version != null) {
+            maven.append("            <version>").append(version).append("</version>\n");
+        }
+        if (scope.getMavenScope() != null) {
+            maven.append("            <scope>").append(scope.getMavenScope()).append("</scope>\n");
+        }
+        this.mavenFragment = maven.append("        </dependency>\n").toString();
+
+        String coordinates = groupId + ":" + artifactId + (version != null ? ":" + version : "");
+        String groovy = "    " + scope.getGradleConfiguration() + " '" + coordinates + "'\n";
+        String kotlin = "    " + scope.getGradleConfiguration() + "(\"" + coordinates + "\")\n";
+        if (scope == DependencyScope.ANNOTATION_PROCESSOR) {
+            // Gradle sépare le classpath de compilation de celui des processeurs d'annotations
+            groovy = "    compileOnly '" + coordinates + "'\n" + groovy;
+            kotlin = "    compileOnly(\"" + coordinates + "\")\n" + kotlin;
+        }
+        this.groovyFragment = groovy;
+        this.kotlinFragment = kotlin;
+    }
+
+    /**
+     * Dépendance hors catalogue, demandée directement sous la forme {@code groupId:artifactId}.
+     */
+    static CatalogDependency adHoc(String coordinates, int order) {
+        String[] parts = coordinates.split(":");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Dependency ID must be in format 'groupId:artifactId'");
+        }
+        return new CatalogDependency(coordinates, List.of(), coordinates, null, parts[0], parts[1],
+            null, DependencyScope.COMPILE, null, null, Set.of(), order);
+    }
+
+    /**
+     * Copie de l'entrée avec une version explicite (fragments re-rendus), pour supplanter la version gérée par le BOM.
+     */
+    public CatalogDependency withVersion(String newVersion) {
+        return new CatalogDependency(id, aliases, name, group, groupId, artifactId, newVersion, scope, bom,
+            compatibilityRange, conflicts, order);
+    }
+
+    public boolean isCompatibleWith(Version bootVersion) {
+        return compatibilityRange == null || bootVersion == null || compatibilityRange.match(bootVersion);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public List<String> getAliases() {
+        return aliases;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public DependencyScope getScope() {
+        return scope;
+    }
+
+    public String getBom() {
+        return bom;
+    }
+
+    public VersionRange getCompatibilityRange() {
+        return compatibilityRange;
+    }
+
+    public Set<String> getConflicts() {
+        return conflicts;
+    }
+
+    int getOrder() {
+        return order;
+    }
+
+    public String getMavenFragment() {
+        return mavenFragment;
+    }
+
+    public String getGroovyFragment() {
+        return groovyFragment;
+    }
+
+    public String getKotlinFragment() {
+        return kotlinFragment;
+    }
+}
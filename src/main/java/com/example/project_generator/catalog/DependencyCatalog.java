@@ -0,0 +1,233 @@
+package com.example.project_generator.catalog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.generator.version.VersionParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Catalogue immuable des dépendances (classpath:catalog/dependencies.json), chargé une seule fois et indexé
+ * par identifiant et alias. Les "features" regroupent les dépendances ajoutées par une option du projet
+ * (stack réactive, observabilité...) et l'emportent sur les dépendances demandées qui leur sont contraires.
+ */
+public final class DependencyCatalog {
+
+    public static final String LOCATION = "catalog/dependencies.json";
+
+    private final Map<String, CatalogDependency> index;
+    private final Map<String, List<CatalogDependency>> groups;
+    private final Map<String, CatalogBom> boms;
+    private final Map<String, List<String>> features;
+
+    private DependencyCatalog(Map<String, CatalogDependency> index, Map<String, List<CatalogDependency>> groups,
+                              Map<String, CatalogBom> boms, Map<String, List<String>> features) {
+        this.index = index;
+        this.groups = groups;
+        this.boms = boms;
+        this.features = features;
+    }
+
+    public static DependencyCatalog getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    public static DependencyCatalog load(InputStream in) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(in);
+
+        Map<String, CatalogBom> boms = new LinkedHashMap<>();
+        for (JsonNode node : root.path("boms")) {
+            CatalogBom bom = new CatalogBom(node.get("id").asText(), node.get("groupId").asText(),
+                node.get("artifactId").asText(), node.get("version").asText());
+            boms.put(bom.getId(), bom);
+        }
+
+        Map<String, CatalogDependency> index = new HashMap<>();
+        Map<String, List<CatalogDependency>> groups = new LinkedHashMap<>();
+        int order = 0;
+        for (JsonNode groupNode : root.path("groups")) {
+            String group = groupNode.get("name").asText();
+            List<CatalogDependency> members = new ArrayList<>();
+            for (JsonNode node : groupNode.path("dependencies")) {
+                CatalogDependency dependency = new CatalogDependency(
+                    node.get("id").asText(),
+                    texts(node.path("aliases")),
+                    node.path("name").asText(node.get("id").asText()),
+                    group,
+                    node.get("groupId").asText(),
+                    node.get("artifactId").asText(),
+                    textOrNull(node, "version"),
+                    DependencyScope.forId(textOrNull(node, "scope")),
+                    textOrNull(node, "bom"),
+                    node.hasNonNull("compatibilityRange")
+                        ? VersionParser.DEFAULT.parseRange(node.get("compatibilityRange").asText())
+                        : null,
+                    new HashSet<>(texts(node.path("conflicts"))),
+                    order++);
+
+                if (dependency.getBom() != null && !boms.containsKey(dependency.getBom())) {
+                    throw new IllegalStateException("BOM inconnu '" + dependency.getBom() + "' pour " + dependency.getId());
+                }
+                register(index, dependency.getId(), dependency);
+                for (String alias : dependency.getAliases()) {
+                    register(index, alias, dependency);
+                }
+                members.add(dependency);
+            }
+            groups.put(group, List.copyOf(members));
+        }
+
+        Map<String, List<String>> features = new LinkedHashMap<>();
+        root.path("features").fields().forEachRemaining(entry -> {
+            List<String> ids = texts(entry.getValue());
+            for (String id : ids) {
+                if (!index.containsKey(id)) {
+                    throw new IllegalStateException("Dépendance inconnue '" + id + "' dans la feature " + entry.getKey());
+                }
+            }
+            features.put(entry.getKey(), ids);
+        });
+
+        return new DependencyCatalog(Map.copyOf(index), Collections.unmodifiableMap(groups),
+            Collections.unmodifiableMap(boms), Collections.unmodifiableMap(features));
+    }
+
+    public CatalogDependency find(String idOrAlias) {
+        return index.get(idOrAlias);
+    }
+
+    public boolean contains(String idOrAlias) {
+        return index.containsKey(idOrAlias);
+    }
+
+    public Map<String, List<CatalogDependency>> getGroups() {
+        return groups;
+    }
+
+    public Map<String, CatalogBom> getBoms() {
+        return boms;
+    }
+
+    /**
+     * Résout les dépendances d'un projet : features d'abord (dans l'ordre donné), puis dépendances demandées.
+     * Une dépendance demandée en conflit avec une feature est écartée (voir {@link BuildDependencies#getWarnings()}) ;
+     * deux dépendances demandées incompatibles entre elles, ou hors de la plage de versions Spring Boot,
+     * sont une erreur.
+     */
+    public BuildDependencies resolve(Collection<String> requested, Collection<String> enabledFeatures, String bootVersion) {
+        Version platform = parseVersion(bootVersion);
+        Map<String, CatalogDependency> selected = new LinkedHashMap<>();
+        Set<String> fromFeatures = new HashSet<>();
+        List<String> warnings = new ArrayList<>();
+
+        for (String feature : enabledFeatures) {
+            for (String id : features.getOrDefault(feature, List.of())) {
+                CatalogDependency dependency = index.get(id);
+                if (conflicting(selected, dependency) == null && dependency.isCompatibleWith(platform)) {
+                    selected.putIfAbsent(dependency.getId(), dependency);
+                    fromFeatures.add(dependency.getId());
+                }
+            }
+        }
+
+        if (requested != null) {
+            int adHocOrder = Integer.MAX_VALUE / 2;
+            for (String id : new LinkedHashSet<>(requested)) {
+                CatalogDependency dependency = index.containsKey(id) ? index.get(id) : CatalogDependency.adHoc(id, adHocOrder++);
+                if (!dependency.isCompatibleWith(platform)) {
+                    throw new IllegalArgumentException("La dépendance '" + id + "' n'est pas compatible avec Spring Boot "
+                        + bootVersion + " (plage " + dependency.getCompatibilityRange() + ")");
+                }
+                CatalogDependency conflict = conflicting(selected, dependency);
+                if (conflict != null) {
+                    if (!fromFeatures.contains(conflict.getId())) {
+                        throw new IllegalArgumentException("Les dépendances '" + conflict.getId() + "' et '"
+                            + dependency.getId() + "' sont incompatibles");
+                    }
+                    warnings.add("Dépendance '" + id + "' ignorée : remplacée par '" + conflict.getId() + "'");
+                    continue;
+                }
+                selected.putIfAbsent(dependency.getId(), dependency);
+            }
+        }
+
+        List<CatalogDependency> dependencies = new ArrayList<>(selected.values());
+        dependencies.sort(Comparator.comparingInt(CatalogDependency::getOrder).thenComparing(CatalogDependency::getId));
+
+        Map<String, CatalogBom> requiredBoms = new LinkedHashMap<>();
+        for (CatalogDependency dependency : dependencies) {
+            if (dependency.getBom() != null) {
+                requiredBoms.putIfAbsent(dependency.getBom(), boms.get(dependency.getBom()));
+            }
+        }
+        return new BuildDependencies(dependencies, new ArrayList<>(requiredBoms.values()), warnings);
+    }
+
+    private CatalogDependency conflicting(Map<String, CatalogDependency> selected, CatalogDependency candidate) {
+        for (CatalogDependency existing : selected.values()) {
+            if (existing.getConflicts().contains(candidate.getId()) || candidate.getConflicts().contains(existing.getId())) {
+                return existing;
+            }
+        }
+        return null;
+    }
+
+    private static Version parseVersion(String version) {
+        if (version == null || version.isBlank()) {
+            return null;
+        }
+        try {
+            return Version.parse(version);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void register(Map<String, CatalogDependency> index, String key, CatalogDependency dependency) {
+        if (index.putIfAbsent(key, dependency) != null) {
+            throw new IllegalStateException("Identifiant de dépendance dupliqué dans le catalogue : " + key);
+        }
+    }
+
+    private static List<String> texts(JsonNode array) {
+        List<String> values = new ArrayList<>();
+        for (JsonNode node : array) {
+            values.add(node.asText());
+        }
+        return values;
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        return node.hasNonNull(field) ? node.get(field).asText() : null;
+    }
+
+    private static final class DefaultHolder {
+
+        private static final DependencyCatalog INSTANCE = loadDefault();
+
+        private static DependencyCatalog loadDefault() {
+            try (InputStream in = DependencyCatalog.class.getClassLoader().getResourceAsStream(LOCATION)) {
+                if (in == null) {
+                    throw new IllegalStateException("Catalogue de dépendances introuvable : " + LOCATION);
+                }
+                return load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
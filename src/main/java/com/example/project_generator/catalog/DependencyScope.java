@@ -0,0 +1,48 @@
+package com.example.project_generator.catalog;
+
+/**
+ * Portée d'une dépendance du catalogue et sa traduction pour Maven et Gradle.
+ */
+public enum DependencyScope {
+
+    COMPILE("compile", null, "implementation"),
+    RUNTIME("runtime", "runtime", "runtimeOnly"),
+    PROVIDED("provided", "provided", "compileOnly"),
+    ANNOTATION_PROCESSOR("annotation-processor", "provided", "annotationProcessor"),
+    TEST("test", "test", "testImplementation"),
+    TEST_ANNOTATION_PROCESSOR("test-annotation-processor", "test", "testAnnotationProcessor");
+
+    private final String id;
+    private final String mavenScope;
+    private final String gradleConfiguration;
+
+    DependencyScope(String id, String mavenScope, String gradleConfiguration) {
+        this.id = id;
+        this.mavenScope = mavenScope;
+        this.gradleConfiguration = gradleConfiguration;
+    }
+
+    public static DependencyScope forId(String id) {
+        if (id == null) {
+            return COMPILE;
+        }
+        for (DependencyScope scope : values()) {
+            if (scope.id.equals(id)) {
+                return scope;
+            }
+        }
+        throw new IllegalArgumentException("Portée de dépendance inconnue : " + id);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getMavenScope() {
+        return mavenScope;
+    }
+
+    public String getGradleConfiguration() {
+        return gradleConfiguration;
+    }
+}
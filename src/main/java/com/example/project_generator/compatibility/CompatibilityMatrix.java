@@ -0,0 +1,132 @@
+package com.example.project_generator.compatibility;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Matrice de compatibilité Java × Spring Boot × outils de build (classpath:catalog/compatibility.json).
+ */
+public final class CompatibilityMatrix {
+
+    public static final String LOCATION = "catalog/compatibility.json";
+
+    private final String defaultJava;
+    private final String defaultSpringBoot;
+    private final String defaultBuildTool;
+    private final List<String> buildTools;
+    private final TreeMap<Integer, JavaLine> javaLines;
+    private final Map<String, BootLine> bootLines;
+
+    private CompatibilityMatrix(String defaultJava, String defaultSpringBoot, String defaultBuildTool,
+                                List<String> buildTools, TreeMap<Integer, JavaLine> javaLines,
+                                Map<String, BootLine> bootLines) {
+        this.defaultJava = defaultJava;
+        this.defaultSpringBoot = defaultSpringBoot;
+        this.defaultBuildTool = defaultBuildTool;
+        this.buildTools = buildTools;
+        this.javaLines = javaLines;
+        this.bootLines = bootLines;
+    }
+
+    public static CompatibilityMatrix getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    public static CompatibilityMatrix load(InputStream in) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(in);
+        JsonNode defaults = root.get("defaults");
+
+        List<String> buildTools = new ArrayList<>();
+        root.path("buildTools").forEach(node -> buildTools.add(node.asText()));
+
+        TreeMap<Integer, JavaLine> javaLines = new TreeMap<>();
+        for (JsonNode node : root.path("java")) {
+            JavaLine line = new JavaLine(node.get("version").asInt(), node.get("maven").asText(),
+                node.get("gradle").asText(), node.get("lombok").asText());
+            javaLines.put(line.version(), line);
+        }
+
+        Map<String, BootLine> bootLines = new LinkedHashMap<>();
+        for (JsonNode node : root.path("springBoot")) {
+            BootLine line = new BootLine(node.get("line").asText(), node.get("latest").asText(),
+                node.get("java").get(0).asInt(), node.get("java").get(1).asInt(),
+                node.get("maven").asText(), node.get("gradle").asText(),
+                node.get("dependencyManagementPlugin").asText(), node.get("lombok").asText());
+            bootLines.put(line.line(), line);
+        }
+
+        return new CompatibilityMatrix(defaults.get("java").asText(), defaults.get("springBoot").asText(),
+            defaults.get("buildTool").asText(), List.copyOf(buildTools), javaLines,
+            Collections.unmodifiableMap(bootLines));
+    }
+
+    /**
+     * Ligne Java applicable : exacte, sinon la plus proche en dessous (22 utilise les outils de 21).
+     */
+    public JavaLine javaLine(int major) {
+        Map.Entry<Integer, JavaLine> entry = javaLines.floorEntry(major);
+        return entry != null ? entry.getValue() : null;
+    }
+
+    public BootLine bootLine(String springBootVersion) {
+        String key = VersionNumbers.majorMinor(springBootVersion);
+        return key != null ? bootLines.get(key) : null;
+    }
+
+    public List<Integer> getJavaVersions() {
+        return List.copyOf(javaLines.keySet());
+    }
+
+    public List<BootLine> getBootLines() {
+        return List.copyOf(bootLines.values());
+    }
+
+    public List<String> getBuildTools() {
+        return buildTools;
+    }
+
+    public String getDefaultJava() {
+        return defaultJava;
+    }
+
+    public String getDefaultSpringBoot() {
+        return defaultSpringBoot;
+    }
+
+    public String getDefaultBuildTool() {
+        return defaultBuildTool;
+    }
+
+    public record JavaLine(int version, String maven, String gradle, String lombok) {
+    }
+
+    public record BootLine(String line, String latest, int minJava, int maxJava, String maven, String gradle,
+                           String dependencyManagementPlugin, String lombok) {
+    }
+
+    private static final class DefaultHolder {
+
+        private static final CompatibilityMatrix INSTANCE = loadDefault();
+
+        private static CompatibilityMatrix loadDefault() {
+            try (InputStream in = CompatibilityMatrix.class.getClassLoader().getResourceAsStream(LOCATION)) {
+                if (in == null) {
+                    throw new IllegalStateException("Matrice de compatibilité introuvable : " + LOCATION);
+                }
+                return load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
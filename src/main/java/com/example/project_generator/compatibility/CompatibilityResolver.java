@@ -0,0 +1,125 @@
+package com.example.project_generator.compatibility;
+
+import com.example.project_generator.compatibility.CompatibilityMatrix.BootLine;
+import com.example.project_generator.compatibility.CompatibilityMatrix.JavaLine;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Résout une combinaison Java / Spring Boot / outil de build contre la {@link CompatibilityMatrix}.
+ * Les combinaisons demandées sont peu nombreuses : chaque résultat est mémorisé.
+ */
+@Component
+public class CompatibilityResolver {
+
+    // Les entrées viennent des requêtes : au-delà de cette taille on calcule sans mémoriser
+    private static final int MAX_CACHED = 1024;
+
+    private final CompatibilityMatrix matrix;
+    private final ConcurrentMap<Key, ResolvedVersions> cache = new ConcurrentHashMap<>();
+
+    public CompatibilityResolver() {
+        this(CompatibilityMatrix.getDefault());
+    }
+
+    public CompatibilityResolver(CompatibilityMatrix matrix) {
+        this.matrix = matrix;
+    }
+
+    public CompatibilityMatrix getMatrix() {
+        return matrix;
+    }
+
+    public ResolvedVersions resolve(String javaVersion, String springBootVersion, String buildTool) {
+        Key key = new Key(javaVersion, springBootVersion, buildTool);
+        ResolvedVersions cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return cache.size() < MAX_CACHED ? cache.computeIfAbsent(key, this::compute) : compute(key);
+    }
+
+    /**
+     * Comme {@link #resolve}, mais lève {@link IncompatibleVersionsException} si la combinaison est invalide.
+     */
+    public ResolvedVersions check(String javaVersion, String springBootVersion, String buildTool) {
+        ResolvedVersions resolved = resolve(javaVersion, springBootVersion, buildTool);
+        if (!resolved.isValid()) {
+            throw new IncompatibleVersionsException(resolved.errors());
+        }
+        return resolved;
+    }
+
+    private ResolvedVersions compute(Key key) {
+        List<String> errors = new ArrayList<>();
+
+        String javaInput = blankToDefault(key.javaVersion(), matrix.getDefaultJava());
+        int javaMajor = -1;
+        try {
+            javaMajor = VersionNumbers.javaMajor(javaInput);
+        } catch (IllegalArgumentException e) {
+            errors.add(e.getMessage());
+        }
+        JavaLine javaLine = javaMajor > 0 ? matrix.javaLine(javaMajor) : null;
+        if (javaMajor > 0 && javaLine == null) {
+            errors.add("Java " + javaMajor + " n'est pas supporté (versions : " + matrix.getJavaVersions() + ")");
+        }
+
+        String bootInput = blankToDefault(key.springBootVersion(), matrix.getDefaultSpringBoot());
+        BootLine bootLine = matrix.bootLine(bootInput);
+        if (bootLine == null) {
+            errors.add("Spring Boot " + bootInput + " n'est pas supporté (lignes : "
+                + matrix.getBootLines().stream().map(BootLine::line).toList() + ")");
+        } else if (javaMajor > 0 && (javaMajor < bootLine.minJava() || javaMajor > bootLine.maxJava())) {
+            errors.add("Spring Boot " + bootLine.line() + " requiert Java " + bootLine.minJava()
+                + " à " + bootLine.maxJava() + " (demandé : " + javaMajor + ")");
+        }
+
+        String buildTool = blankToDefault(key.buildTool(), matrix.getDefaultBuildTool());
+        if (!matrix.getBuildTools().contains(buildTool)) {
+            errors.add("Outil de build inconnu : " + buildTool + " (valeurs : " + matrix.getBuildTools() + ")");
+        }
+
+        if (!errors.isEmpty()) {
+            return new ResolvedVersions(javaMajor, bootInput, buildTool, null, null, null, null, errors);
+        }
+
+        String springBootVersion = VersionNumbers.isExact(bootInput) ? bootInput.trim() : bootLine.latest();
+        String lombokVersion = VersionNumbers.compare(bootLine.lombok(), javaLine.lombok()) >= 0 ? null : javaLine.lombok();
+        return new ResolvedVersions(
+            javaMajor,
+            springBootVersion,
+            buildTool,
+            VersionNumbers.max(javaLine.maven(), bootLine.maven()),
+            VersionNumbers.max(javaLine.gradle(), bootLine.gradle()),
+            bootLine.dependencyManagementPlugin(),
+            lombokVersion,
+            errors);
+    }
+
+    private static String blankToDefault(String value, String defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private record Key(String javaVersion, String springBootVersion, String buildTool) {
+    }
+
+    public static class IncompatibleVersionsException extends RuntimeException {
+
+        private final List<String> errors;
+
+        public IncompatibleVersionsException(Collection<String> errors) {
+            super("Combinaison de versions incompatible : " + String.join("; ", errors));
+            this.errors = List.copyOf(errors);
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+}
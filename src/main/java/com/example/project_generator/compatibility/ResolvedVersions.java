@@ -0,0 +1,28 @@
+package com.example.project_generator.compatibility;
+
+import java.util.List;
+
+/**
+ * Résultat immuable d'une résolution : versions d'outils retenues, ou erreurs si la combinaison est invalide.
+ *
+ * @param lombokVersion version imposée à Lombok, {@code null} quand celle gérée par Spring Boot convient
+ */
+public record ResolvedVersions(
+    int javaVersion,
+    String springBootVersion,
+    String buildTool,
+    String mavenVersion,
+    String gradleVersion,
+    String dependencyManagementPluginVersion,
+    String lombokVersion,
+    List<String> errors
+) {
+
+    public ResolvedVersions {
+        errors = List.copyOf(errors);
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.project_generator.compatibility;
+
+/**
+ * Lecture tolérante des numéros de version saisis par l'utilisateur ("21-ea", "1.8", "17.0.2", "3.4.x", "3.5.0-M1").
+ */
+public final class VersionNumbers {
+
+    private VersionNumbers() {
+    }
+
+    /**
+     * Version majeure de Java ; "1.8" donne 8. Lève IllegalArgumentException si aucun nombre n'est lisible.
+     */
+    public static int javaMajor(String version) {
+        if (version == null || version.isBlank()) {
+            throw new IllegalArgumentException("Version Java manquante");
+        }
+        String trimmed = version.trim();
+        if (trimmed.startsWith("1.")) {
+            trimmed = trimmed.substring(2);
+        }
+        int major = leadingNumber(trimmed, 0);
+        if (major < 0) {
+            throw new IllegalArgumentException("Version Java illisible : " + version);
+        }
+        return major;
+    }
+
+    /**
+     * Clé "majeure.mineure" d'une version Spring Boot, ou {@code null} si elle n'est pas lisible.
+     */
+    public static String majorMinor(String version) {
+        if (version == null) {
+            return null;
+        }
+        String[] parts = version.trim().split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        int major = leadingNumber(parts[0], 0);
+        int minor = leadingNumber(parts[1], 0);
+        return major < 0 || minor < 0 ? null : major + "." + minor;
+    }
+
+    /**
+     * Vrai si la version comporte un numéro de patch explicite (3.4.4, 3.5.0-M1) plutôt qu'une ligne (3.4, 3.4.x).
+     */
+    public static boolean isExact(String version) {
+        String[] parts = version.trim().split("\\.");
+        return parts.length >= 3 && leadingNumber(parts[2], 0) >= 0;
+    }
+
+    /**
+     * Compare composante par composante la partie numérique de deux versions ; les qualificatifs sont ignorés.
+     */
+    public static int compare(String left, String right) {
+        String[] a = left.split("[.-]");
+        String[] b = right.split("[.-]");
+        for (int i = 0; i < Math.max(a.length, b.length); i++) {
+            int x = i < a.length ? Math.max(0, leadingNumber(a[i], 0)) : 0;
+            int y = i < b.length ? Math.max(0, leadingNumber(b[i], 0)) : 0;
+            if (x != y) {
+                return Integer.compare(x, y);
+            }
+        }
+        return 0;
+    }
+
+    public static String max(String left, String right) {
+        return compare(left, right) >= 0 ? left : right;
+    }
+
+    private static int leadingNumber(String value, int from) {
+        int end = from;
+        while (end < value.length() && Character.isDigit(value.charAt(end))) {
+            end++;
+        }
+        if (end == from || end - from > 9) {
+            return -1;
+        }
+        return Integer.parseInt(value, from, end, 10);
+    }
+}
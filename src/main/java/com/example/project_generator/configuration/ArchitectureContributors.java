@@ -1,44 +1,39 @@
 package com.example.project_generator.configuration;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.beans.factory.annotation.Autowired;
 import com.example.project_generator.model.CustomProjectRequest;
-
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import com.example.project_generator.plan.ProjectPlan;
 
 @Component
 public class ArchitectureContributors {
 
+    private static final Logger log = LoggerFactory.getLogger(ArchitectureContributors.class);
 
-    public void configureArchitecture(String architectureType, Path projectRoot, String groupId , String artifactId) throws IOException {
-        System.out.println("Configuring architecture: " + architectureType);
-
+    public void configureArchitecture(String architectureType, ProjectPlan plan, String groupId, String artifactId) {
         switch (architectureType.toLowerCase()) {
-            case "en-couches" -> generateLayeredArchitecture(projectRoot, groupId, artifactId);
-            case "hexagonale" -> generateHexagonalArchitecture(projectRoot, groupId, artifactId);
-            default -> generateDefaultArchitecture(projectRoot);
+            case "en-couches" -> generateLayeredArchitecture(plan, groupId, artifactId);
+            case "hexagonale" -> generateHexagonalArchitecture(plan, groupId, artifactId);
+            default -> generateDefaultArchitecture();
         }
     }
 
-    private void generateLayeredArchitecture(Path projectRoot, String groupId, String artifactId) throws IOException {
+    private void generateLayeredArchitecture(ProjectPlan plan, String groupId, String artifactId) {
         
         String basePackage = groupId.replace(".", "/") + "/" + artifactId.toLowerCase();
-        Path mainJavaPath = projectRoot.resolve("src/main/java/" + basePackage);
+        String mainJavaPath = "src/main/java/" + basePackage;
     
        
-        createDirectories(mainJavaPath, "config", "controller", "model", "repository", "service");
-    
-        
-        String basePackageName = groupId + "." + artifactId.toLowerCase();
+        createDirectories(plan, mainJavaPath, "config", "controller", "model", "repository", "service");
     }
     
-    private void generateHexagonalArchitecture(Path projectRoot, String groupId, String artifactId) throws IOException {
+    private void generateHexagonalArchitecture(ProjectPlan plan, String groupId, String artifactId) {
         String packageName = groupId + "." + artifactId.toLowerCase();
         String packagePath = packageName.replace(".", "/");
-        Path basePath = projectRoot.resolve("src/main/java/" + packagePath);
-        createDirectories(basePath,
+        String basePath = "src/main/java/" + packagePath;
+        createDirectories(plan, basePath,
             "domain/model",   
             "domain/port/in",      
             "domain/port/out",      
@@ -50,33 +45,15 @@ public class ArchitectureContributors {
     }
 
 
-    private void generateDefaultArchitecture(Path projectRoot) throws IOException {
-        
-        System.out.println("No valid architecture selected, skipping structure generation.");
-    }
-
-    private void generateBaseClass(Path basePath, String packageName, String className, String fullPackageName) throws IOException {
-        Path packagePath = basePath.resolve(packageName);
-        Files.createDirectories(packagePath);
-    
-        Path filePath = packagePath.resolve(className + ".java");
-        if (!Files.exists(filePath)) {
-            String content = "package " + fullPackageName + "." + packageName + ";\n\n" +  
-                             "public class " + className + " {\n" +
-                             "    // TODO: Implement " + className + " functionality\n" +
-                             "}\n";
-            Files.write(filePath, content.getBytes());
-        }
+    private void generateDefaultArchitecture() {
+        // Architecture "standard" : aucune arborescence imposée, cas courant qui ne mérite pas mieux que debug
+        log.debug("Aucune architecture spécifique, arborescence non générée");
     }
 
-    private void createDirectories(Path basePath, String... subDirs) throws IOException {
+    private void createDirectories(ProjectPlan plan, String basePath, String... subDirs) {
       for (String dir : subDirs) {
-        Path fullPath = basePath.resolve(dir);
-        Files.createDirectories(fullPath);
-
-        // Ajouter un fichier temporaire vide pour forcer l'inclusion dans le ZIP
-        Path placeholder = fullPath.resolve(".gitkeep");
-        Files.writeString(placeholder, "");  // fichier vide
+        // Ajouter un fichier vide pour forcer l'inclusion du répertoire dans le ZIP
+        plan.text(basePath + "/" + dir + "/.gitkeep", "");
       }
     }
 }
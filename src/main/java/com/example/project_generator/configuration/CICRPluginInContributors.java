@@ -1,12 +0,0 @@
-package com.example.project_generator.configuration;
-
-import org.springframework.stereotype.Component;
-
-@Component
-public class CICRPluginInContributors {
-
-    public void configureCI() {
-        
-        System.out.println("Configuring CI/CD pipeline...");
-    }
-}
@@ -3,68 +3,74 @@ package com.example.project_generator.configuration;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
-import io.spring.initializr.generator.project.contributor.ProjectContributor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.example.project_generator.model.CustomProjectDescription;
 
-import java.io.BufferedWriter;
+import com.example.project_generator.contributor.GenerationContributor;
+import com.example.project_generator.plan.ProjectPlan;
+import com.example.project_generator.profiling.TemplateEvents;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.StringWriter;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Component
-public class DockerComposeContributor implements ProjectContributor {
+public class DockerComposeContributor implements GenerationContributor {
 
     @Autowired
     private Configuration freemarkerConfig;
 
-    @Autowired
-    private CustomProjectDescription description;
+    @Override
+    public String getName() {
+        return "docker-compose";
+    }
+
+    @Override
+    public int getOrder() {
+        return 110;
+    }
+
+    @Override
+    public boolean isEnabled(CustomProjectDescription description) {
+        return description.isGenerateDocker();
+    }
+
+    @Override
+    public Set<String> getOutputs() {
+        return Set.of("docker-compose.yml", "prometheus.yml");
+    }
+
+    @Override
+    public boolean isOptional() {
+        return false;
+    }
 
     @Override
-    public void contribute(Path projectRoot) throws IOException {
-        Files.createDirectories(projectRoot);
+    public void contribute(ProjectPlan plan, CustomProjectDescription description) {
         Map<String, Object> model = new HashMap<>();
         model.put("serviceName", "app");
         model.put("port", String.valueOf(description.getPort() != null ? description.getPort() : 8080));
         model.put("artifactId", description.getArtifactId());
         model.put("profile", description.getProfile() != null ? description.getProfile() : "dev");
+        model.put("observability", description.isObservability());
 
-        Path composePath = projectRoot.resolve("docker-compose.yml");
-        generateFromTemplate("docker-compose.ftl", model, composePath);
-    }
+        generateFromTemplate(plan, "docker-compose.ftl", model, "docker-compose.yml");
 
-    private void generateFromTemplate(String templateName, Map<String, Object> model, Path outputPath) throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(outputPath)))) {
-            Template template = freemarkerConfig.getTemplate(templateName);
-            template.process(model, writer);
-        } catch (TemplateException e) {
-            throw new IOException("Erreur lors de la génération du template docker-compose", e);
+        if (description.isObservability()) {
+            generateFromTemplate(plan, "prometheus.yml.ftl", model, "prometheus.yml");
         }
     }
-    public String generateContent() throws IOException {
-       Map<String, Object> model = new HashMap<>();
-       model.put("serviceName", "app");
-       model.put("port", description.getPort() != null ? String.valueOf(description.getPort()) : 8080);
-       model.put("artifactId", description.getArtifactId());
-       model.put("profile", description.getProfile() != null ? description.getProfile() : "dev");
-
-        try (StringWriter writer = new StringWriter()) {
-          Template template = freemarkerConfig.getTemplate("docker-compose.ftl");
-          template.process(model, writer);
-          return writer.toString();
-        } catch (TemplateException e) {
-          throw new IOException("Erreur lors de la génération du docker-compose.yml", e);
-        }
-   }
-   public void setDescription(CustomProjectDescription description) {
-    this.description = description;
-}
 
+    private void generateFromTemplate(ProjectPlan plan, String templateName, Map<String, Object> model, String outputPath) {
+        plan.text(outputPath, writer -> {
+            try {
+                Template template = freemarkerConfig.getTemplate(templateName);
+                TemplateEvents.process(template, model, writer);
+            } catch (TemplateException e) {
+                throw new IOException("Erreur lors de la génération du template docker-compose", e);
+            }
+        });
+    }
 }
@@ -1,86 +1,113 @@
 package com.example.project_generator.configuration;
 
+import com.example.project_generator.compatibility.CompatibilityResolver;
 import com.example.project_generator.model.CustomProjectDescription;
+import com.example.project_generator.contributor.GenerationContributor;
+import com.example.project_generator.plan.ProjectPlan;
+import com.example.project_generator.profiling.TemplateEvents;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
-import io.spring.initializr.generator.project.contributor.ProjectContributor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.StringWriter;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 @Component
-public class DockerFileContributors implements ProjectContributor {
+public class DockerFileContributors implements GenerationContributor {
 
-    private  CustomProjectDescription description;
     private final Configuration freemarkerConfig;
+    private final CompatibilityResolver compatibilityResolver;
 
     @Autowired
-    public DockerFileContributors(Configuration freemarkerConfig) {
+    public DockerFileContributors(Configuration freemarkerConfig, CompatibilityResolver compatibilityResolver) {
         this.freemarkerConfig = freemarkerConfig;
+        this.compatibilityResolver = compatibilityResolver;
     }
 
-    @Autowired
-    public void setDescription(CustomProjectDescription description) {
-        this.description = description;
+    @Override
+    public String getName() {
+        return "docker";
+    }
+
+    @Override
+    public int getOrder() {
+        return 100;
+    }
+
+    @Override
+    public boolean isEnabled(CustomProjectDescription description) {
+        return description.isGenerateDocker();
+    }
+
+    @Override
+    public Set<String> getOutputs() {
+        return Set.of("Dockerfile", ".dockerignore");
+    }
+
+    @Override
+    public boolean isOptional() {
+        return false;
     }
 
+    /**
+     * Ajoute le Dockerfile au plan du projet ; le rendu n'a lieu qu'à l'écriture ou à la prévisualisation.
+     */
     @Override
-    public void contribute(Path projectRoot) throws IOException {
+    public void contribute(ProjectPlan plan, CustomProjectDescription description) {
         if (description.isGenerateDocker()) {
-            Files.createDirectories(projectRoot);
-            Map<String, Object> model = createModel();
-            Path dockerfilePath = projectRoot.resolve("Dockerfile");
-            generateFromTemplate("Dockerfile.ftl", model, dockerfilePath);
+            Map<String, Object> model = createModel(description);
+            generateFromTemplate(plan, "Dockerfile.ftl", model, "Dockerfile");
+            generateFromTemplate(plan, "dockerignore.ftl", model, ".dockerignore");
         }
     }
     
-    private Map<String, Object> createModel() {
+    private Map<String, Object> createModel(CustomProjectDescription description) {
+        // jarmode=tools et spring.context.exit (entraînement CDS) arrivent avec Spring Boot 3.3
+        boolean jarmodeTools = isAtLeast(description.getSpringBootVersion(), 3, 3);
+
         Map<String, Object> model = new HashMap<>();
         model.put("artifactId", description.getArtifactId());
         model.put("javaVersion", description.getJavaVersion());
+        model.put("buildTool", description.getBuildTool() != null ? description.getBuildTool() : "maven");
+        model.put("gradleVersion", compatibilityResolver.resolve(description.getJavaVersion(),
+            description.getSpringBootVersion(), description.getBuildTool()).gradleVersion());
+        model.put("jarmodeTools", jarmodeTools);
+        model.put("cds", description.isDockerCds() && jarmodeTools);
+        model.put("launcherClass", isAtLeast(description.getSpringBootVersion(), 3, 2)
+            ? "org.springframework.boot.loader.launch.JarLauncher"
+            : "org.springframework.boot.loader.JarLauncher");
         return model;
     }
 
-    private void generateFromTemplate(String templateName, 
-                                    Map<String, Object> model, 
-                                    Path outputPath) throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(
-                new OutputStreamWriter(Files.newOutputStream(outputPath)))) {
-            String content = processTemplate(templateName, model);
-            writer.write(content);
+    private boolean isAtLeast(String version, int major, int minor) {
+        if (version == null) {
+            return true;
         }
-    }
-
-    private String processTemplate(String templateName, 
-                                 Map<String, Object> model) throws IOException {
-        try (StringWriter writer = new StringWriter()) {
-            Template template = freemarkerConfig.getTemplate(templateName);
-            template.process(model, writer);
-            return writer.toString();
-        } catch (TemplateException e) {
-            throw new IOException("Erreur lors du rendu du template FreeMarker : " + templateName, e);
+        String[] parts = version.split("[.-]");
+        try {
+            int actualMajor = Integer.parseInt(parts[0]);
+            int actualMinor = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+            return actualMajor > major || (actualMajor == major && actualMinor >= minor);
+        } catch (NumberFormatException e) {
+            return true;
         }
     }
-    public String generateContent() throws IOException {
-        Map<String, Object> model = new HashMap<>();
-        model.put("artifactId", description.getArtifactId());
-        model.put("javaVersion", description.getJavaVersion());
-        
-        try (StringWriter writer = new StringWriter()) {
-            Template template = freemarkerConfig.getTemplate("Dockerfile.ftl");
-            template.process(model, writer);
-            return writer.toString();
-        } catch (TemplateException e) {
-            throw new IOException("Erreur lors de la génération du Dockerfile", e);
-        }
+
+    private void generateFromTemplate(ProjectPlan plan,
+                                    String templateName, 
+                                    Map<String, Object> model, 
+                                    String outputPath) {
+        plan.text(outputPath, writer -> {
+            try {
+                Template template = freemarkerConfig.getTemplate(templateName);
+                TemplateEvents.process(template, model, writer);
+            } catch (TemplateException e) {
+                throw new IOException("Erreur lors du rendu du template FreeMarker : " + templateName, e);
+            }
+        });
     }
 }
\ No newline at end of file
@@ -3,38 +3,72 @@ package com.example.project_generator.configuration;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
-import io.spring.initializr.generator.project.contributor.ProjectContributor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.example.project_generator.compatibility.CompatibilityResolver;
 import com.example.project_generator.model.CustomProjectDescription;
 
-import java.io.BufferedWriter;
+import com.example.project_generator.contributor.GenerationContributor;
+import com.example.project_generator.plan.ProjectPlan;
+import com.example.project_generator.profiling.TemplateEvents;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.StringWriter;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Component
-public class GitLabCIContributor implements ProjectContributor {
+public class GitLabCIContributor implements GenerationContributor {
 
     @Autowired
     private Configuration freemarkerConfig;
 
     @Autowired
-    private CustomProjectDescription description;
+    private CompatibilityResolver compatibilityResolver;
 
-    private String dockerRepository;
+    @Override
+    public String getName() {
+        return "gitlab-ci";
+    }
+
+    @Override
+    public int getOrder() {
+        return 300;
+    }
+
+    @Override
+    public boolean isEnabled(CustomProjectDescription description) {
+        return description.isGenerateCLCG();
+    }
 
     @Override
-    public void contribute(Path projectRoot) throws IOException {
+    public Set<String> getOutputs() {
+        return Set.of(".gitlab-ci.yml", "src/test/java/**/benchmark/ApplicationBenchmark.java");
+    }
+
+    @Override
+    public boolean isOptional() {
+        return false;
+    }
+
+    @Override
+    public void contribute(ProjectPlan plan, CustomProjectDescription description) {
         if (description.getArtifactId() == null || description.getArtifactId().isEmpty()) {
             throw new IllegalArgumentException("Artifact ID cannot be null or empty");
         }
-        Files.createDirectories(projectRoot);
+        Map<String, Object> model = createModel(description);
+
+        generateFromTemplate(plan, ".gitlab-ci.yml.ftl", model, ".gitlab-ci.yml");
+
+        if (description.isCiBenchmarks() && description.getEntities() != null && !description.getEntities().isEmpty()) {
+            generateBenchmark(plan, description);
+        }
+    }
+
+    private Map<String, Object> createModel(CustomProjectDescription description) {
+        String buildTool = description.getBuildTool() != null ? description.getBuildTool() : "maven";
+
         Map<String, Object> model = new HashMap<>();
         model.put("artifactId", description.getArtifactId());
         model.put("javaVersion", description.getJavaVersion() != null ? description.getJavaVersion() : "17");
@@ -42,42 +76,41 @@ public class GitLabCIContributor implements ProjectContributor {
             description.getDockerRepository() != null ? 
             description.getDockerRepository() : 
             "your-default-repo");
-
-        Path gitlabCiPath = projectRoot.resolve(".gitlab-ci.yml");
-        generateFromTemplate(".gitlab-ci.yml.ftl", model, gitlabCiPath);
+        model.put("buildTool", buildTool);
+        model.put("gradleVersion", compatibilityResolver.resolve(description.getJavaVersion(),
+            description.getSpringBootVersion(), buildTool).gradleVersion());
+        model.put("gradleBuildFile", "gradle-kotlin".equals(buildTool) ? "build.gradle.kts" : "build.gradle");
+        model.put("gradleSettingsFile", "gradle-kotlin".equals(buildTool) ? "settings.gradle.kts" : "settings.gradle");
+        model.put("docker", description.isGenerateDocker());
+        model.put("benchmarks", description.isCiBenchmarks());
+        model.put("testEntities", description.isGenerateTests() && description.getEntities() != null
+            ? description.getEntities()
+            : List.of());
+        return model;
     }
 
-    private void generateFromTemplate(String templateName, Map<String, Object> model, Path outputPath) throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(outputPath)))) {
-            Template template = freemarkerConfig.getTemplate(templateName);
-            template.process(model, writer);
-        } catch (TemplateException e) {
-            throw new IOException("Erreur lors de la génération du template GitLab CI", e);
-        }
-    }
-    public String generateContent() throws IOException {
-        if (description.getArtifactId() == null || description.getArtifactId().isEmpty()) {
-           throw new IllegalArgumentException("Artifact ID cannot be null or empty");
-        }
+    private void generateBenchmark(ProjectPlan plan, CustomProjectDescription description) {
+        String modelPackage = "hexagonale".equalsIgnoreCase(description.getArchitectureType())
+            ? description.getPackageName() + ".domain.model"
+            : description.getPackageName() + ".model";
 
         Map<String, Object> model = new HashMap<>();
-        model.put("artifactId", description.getArtifactId());
-        model.put("javaVersion", description.getJavaVersion() != null ? description.getJavaVersion() : "17");
-        model.put("dockerRepository", 
-           description.getDockerRepository() != null ? 
-           description.getDockerRepository() : 
-           "your-default-repo");
-
-        try (StringWriter writer = new StringWriter()) {
-          Template template = freemarkerConfig.getTemplate(".gitlab-ci.yml.ftl");
-          template.process(model, writer);
-          return writer.toString();
-        } catch (TemplateException e) {
-           throw new IOException("Erreur lors de la génération du .gitlab-ci.yml", e);
-        }
+        model.put("packageName", description.getPackageName());
+        model.put("modelPackage", modelPackage);
+        model.put("entities", description.getEntities());
+
+        generateFromTemplate(plan, "ApplicationBenchmark.java.ftl", model, "src/test/java/"
+            + description.getPackageName().replace(".", "/") + "/benchmark/ApplicationBenchmark.java");
     }
-    public void setDescription(CustomProjectDescription description) {
-        this.description = description;
+
+    private void generateFromTemplate(ProjectPlan plan, String templateName, Map<String, Object> model, String outputPath) {
+        plan.text(outputPath, writer -> {
+            try {
+                Template template = freemarkerConfig.getTemplate(templateName);
+                TemplateEvents.process(template, model, writer);
+            } catch (TemplateException e) {
+                throw new IOException("Erreur lors de la génération du template " + templateName, e);
+            }
+        });
     }
-    
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.example.project_generator.configuration;
+
+import org.springframework.stereotype.Component;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Valide hors ligne les manifestes générés contre les schémas embarqués
+ * dans {@code kubernetes/schemas.yml} (chargés une seule fois).
+ */
+@Component
+public class KubernetesManifestValidator {
+
+    private static final String SCHEMAS = "kubernetes/schemas.yml";
+
+    private final Map<String, Map<String, Object>> schemas;
+
+    public KubernetesManifestValidator() {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(SCHEMAS)) {
+            if (in == null) {
+                throw new IOException("Resource not found: " + SCHEMAS);
+            }
+            this.schemas = new Yaml().load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public List<String> validate(String fileName, String content) {
+        List<String> errors = new ArrayList<>();
+        for (Object document : new Yaml().loadAll(content)) {
+            if (!(document instanceof Map<?, ?> manifest)) {
+                errors.add(fileName + ": document YAML invalide");
+                continue;
+            }
+            validateManifest(fileName, manifest, errors);
+        }
+        return errors;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void validateManifest(String fileName, Map<?, ?> manifest, List<String> errors) {
+        Object kind = manifest.get("kind");
+        Map<String, Object> schema = schemas.get(String.valueOf(kind));
+        if (schema == null) {
+            errors.add(fileName + ": kind inconnu '" + kind + "'");
+            return;
+        }
+
+        Object apiVersion = manifest.get("apiVersion");
+        if (!schema.get("apiVersion").equals(apiVersion)) {
+            errors.add(fileName + ": apiVersion '" + apiVersion + "' inattendue pour " + kind + " (attendu " + schema.get("apiVersion") + ")");
+        }
+
+        checkFields(fileName, manifest, (Map<String, String>) schema.get("required"), errors);
+
+        Map<String, String> containerFields = (Map<String, String>) schema.get("containers");
+        if (containerFields != null && lookup(manifest, "spec.template.spec.containers") instanceof List<?> containers) {
+            for (Object container : containers) {
+                if (container instanceof Map<?, ?> containerMap) {
+                    checkFields(fileName + " (container " + containerMap.get("name") + ")", containerMap, containerFields, errors);
+                } else {
+                    errors.add(fileName + ": container invalide");
+                }
+            }
+        }
+    }
+
+    private void checkFields(String fileName, Map<?, ?> node, Map<String, String> fields, List<String> errors) {
+        if (fields == null) {
+            return;
+        }
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            Object value = lookup(node, field.getKey());
+            if (value == null) {
+                errors.add(fileName + ": champ obligatoire manquant '" + field.getKey() + "'");
+            } else if (!hasType(value, field.getValue())) {
+                errors.add(fileName + ": '" + field.getKey() + "' doit être de type " + field.getValue());
+            }
+        }
+    }
+
+    private Object lookup(Map<?, ?> node, String path) {
+        Object current = node;
+        for (String key : path.split("\\.")) {
+            if (!(current instanceof Map<?, ?> map)) {
+                return null;
+            }
+            current = map.get(key);
+        }
+        return current;
+    }
+
+    private boolean hasType(Object value, String type) {
+        return switch (type) {
+            case "string" -> value instanceof String || value instanceof Number;
+            case "integer" -> value instanceof Integer || value instanceof Long;
+            case "map" -> value instanceof Map<?, ?> map && !map.isEmpty();
+            case "list" -> value instanceof List<?> list && !list.isEmpty();
+            default -> true;
+        };
+    }
+}
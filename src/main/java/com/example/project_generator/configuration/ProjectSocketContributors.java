@@ -1,11 +0,0 @@
-package com.example.project_generator.configuration;
-
-import org.springframework.stereotype.Component;
-
-@Component
-public class ProjectSocketContributors {
-
-    public void configureSockets() {
-        System.out.println("Configuring project sockets...");
-    }
-}
@@ -1,12 +1,136 @@
 package com.example.project_generator.configuration;
 
+import com.example.project_generator.model.CustomProjectDescription;
+import com.example.project_generator.plan.FileContent;
+import com.example.project_generator.contributor.GenerationContributor;
+import com.example.project_generator.plan.ProjectPlan;
+import com.example.project_generator.profiling.TemplateEvents;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Component
-public class SubconnectManifestContributors {
+public class SubconnectManifestContributors implements GenerationContributor {
+
+    private static final int MIN_REPLICAS = 2;
+    private static final int MAX_REPLICAS = 5;
+    private static final int TARGET_CPU_UTILIZATION = 70;
+
+    @Autowired
+    private Configuration freemarkerConfig;
+
+    @Autowired
+    private KubernetesManifestValidator validator;
 
-    public void generateKubernetesManifests() {
-        System.out.println("Generating Kubernetes manifests...");
+    @Override
+    public String getName() {
+        return "kubernetes";
+    }
+
+    @Override
+    public int getOrder() {
+        return 200;
+    }
+
+    @Override
+    public boolean isEnabled(CustomProjectDescription description) {
+        return description.isGenerateKubernetes();
+    }
+
+    @Override
+    public Set<String> getOutputs() {
+        return Set.of("k8s/**");
+    }
+
+    @Override
+    public boolean isOptional() {
+        return false;
     }
-}
 
+    /**
+     * Ajoute les manifestes au plan. Chacun est validé au moment de son rendu : un manifeste invalide fait
+     * échouer l'écriture du projet comme sa prévisualisation.
+     */
+    @Override
+    public void contribute(ProjectPlan plan, CustomProjectDescription description) {
+        Map<String, Object> model = createModel(description);
+
+        Map<String, FileContent> manifests = new LinkedHashMap<>();
+        manifests.put("k8s/base/deployment.yaml", manifest("k8s/base/deployment.yaml", "k8s/deployment.yaml.ftl", model));
+        manifests.put("k8s/base/service.yaml", manifest("k8s/base/service.yaml", "k8s/service.yaml.ftl", model));
+        manifests.put("k8s/base/hpa.yaml", manifest("k8s/base/hpa.yaml", "k8s/hpa.yaml.ftl", model));
+        manifests.put("k8s/base/pdb.yaml", manifest("k8s/base/pdb.yaml", "k8s/pdb.yaml.ftl", model));
+        manifests.put("k8s/base/kustomization.yaml", manifest("k8s/base/kustomization.yaml", "k8s/kustomization.yaml.ftl", model));
+
+        if (description.isKubernetesOverlays()) {
+            Set<String> overlays = new LinkedHashSet<>();
+            overlays.add((String) model.get("profile"));
+            overlays.add("prod");
+            for (String overlay : overlays) {
+                Map<String, Object> overlayModel = new HashMap<>(model);
+                overlayModel.put("overlay", overlay);
+                overlayModel.put("overlayMinReplicas", "prod".equals(overlay) ? String.valueOf(MIN_REPLICAS) : "1");
+                String fileName = "k8s/overlays/" + overlay + "/kustomization.yaml";
+                manifests.put(fileName, manifest(fileName, "k8s/overlay-kustomization.yaml.ftl", overlayModel));
+            }
+        }
+
+        manifests.forEach(plan::text);
+    }
+
+    private FileContent manifest(String fileName, String templateName, Map<String, Object> model) {
+        return writer -> {
+            String content = processTemplate(templateName, model);
+            List<String> errors = validator.validate(fileName, content);
+            if (!errors.isEmpty()) {
+                throw new IOException("Manifestes Kubernetes invalides : " + String.join("; ", errors));
+            }
+            writer.write(content);
+        };
+    }
+
+    private Map<String, Object> createModel(CustomProjectDescription description) {
+        int cpuMillis = description.getKubernetesCpuMillis();
+        int memoryMb = description.getKubernetesMemoryMb();
+        // La JVM ne voit que la requête CPU : on aligne le nombre de threads GC/JIT dessus
+        int activeProcessors = Math.max(1, (int) Math.ceil(cpuMillis / 1000.0));
+        String appName = description.getArtifactId().toLowerCase().replaceAll("[^a-z0-9-]", "-");
+        String repository = description.getDockerRepository() != null ? description.getDockerRepository() : "your-default-repo";
+
+        Map<String, Object> model = new HashMap<>();
+        model.put("appName", appName);
+        model.put("image", repository + "/" + description.getArtifactId() + ":latest");
+        model.put("port", String.valueOf(description.getPort() != null ? description.getPort() : 8080));
+        model.put("profile", description.getProfile() != null ? description.getProfile() : "dev");
+        model.put("cpuRequest", cpuMillis + "m");
+        model.put("cpuLimit", (cpuMillis * 2) + "m");
+        model.put("memory", memoryMb + "Mi");
+        model.put("javaToolOptions", "-XX:MaxRAMPercentage=75.0 -XX:InitialRAMPercentage=50.0"
+            + " -XX:ActiveProcessorCount=" + activeProcessors);
+        model.put("minReplicas", String.valueOf(MIN_REPLICAS));
+        model.put("maxReplicas", String.valueOf(MAX_REPLICAS));
+        model.put("targetCpuUtilization", String.valueOf(TARGET_CPU_UTILIZATION));
+        return model;
+    }
+
+    private String processTemplate(String templateName, Map<String, Object> model) throws IOException {
+        try (StringWriter writer = new StringWriter()) {
+            Template template = freemarkerConfig.getTemplate(templateName);
+            TemplateEvents.process(template, model, writer);
+            return writer.toString();
+        } catch (TemplateException e) {
+            throw new IOException("Erreur lors du rendu du template FreeMarker : " + templateName, e);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.project_generator.contributor;
+
+import com.example.project_generator.model.CustomProjectDescription;
+import com.example.project_generator.plan.ProjectPlan;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Découvre les {@link GenerationContributor} (beans Spring et {@link ServiceLoader}), les ordonne
+ * et les exécute sous budget de temps.
+ * <p>
+ * Chaque contributeur travaille sur une copie du plan, dans un pool de threads borné
+ * ({@code project.contributors.threads}) : s'il dépasse son budget, il est interrompu et sa copie abandonnée,
+ * sans bloquer la génération. Les contenus qu'il ajoute sont rendus aussitôt, sous le même budget, si bien
+ * qu'un rendu en échec écarte le contributeur optionnel au lieu de faire échouer l'écriture du projet.
+ * Les durées sont publiées par contributeur et par phase ({@code generator.contributor.duration}),
+ * ainsi que les dépassements ({@code generator.contributor.timeouts}).
+ */
+@Component
+public class ContributorRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ContributorRegistry.class);
+
+    @Value("${project.contributors.time-budget:2s}")
+    private Duration defaultTimeBudget;
+
+    @Value("${project.contributors.threads:8}")
+    private int threads;
+
+    @Autowired
+    private ObjectProvider<GenerationContributor> beans;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private List<GenerationContributor> contributors = List.of();
+    private final Map<GenerationContributor, List<Pattern>> outputPatterns = new HashMap<>();
+    private ThreadPoolExecutor executor;
+
+    public static class ContributorFailedException extends RuntimeException {
+
+        private final String contributor;
+
+        public ContributorFailedException(String contributor, String message, Throwable cause) {
+            super("Contributeur " + contributor + " : " + message, cause);
+            this.contributor = contributor;
+        }
+
+        public String getContributor() {
+            return contributor;
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        List<GenerationContributor> discovered = new ArrayList<>();
+        Set<Class<?>> types = new HashSet<>();
+        beans.orderedStream().forEach(contributor -> {
+            if (types.add(contributor.getClass())) {
+                discovered.add(contributor);
+            }
+        });
+        try {
+            for (GenerationContributor contributor : ServiceLoader.load(GenerationContributor.class, getClass().getClassLoader())) {
+                if (types.add(contributor.getClass())) {
+                    discovered.add(contributor);
+                }
+            }
+        } catch (ServiceConfigurationError e) {
+            log.warn("Contributeur ServiceLoader ignoré : {}", e.getMessage());
+        }
+        start(discovered);
+    }
+
+    void start(List<GenerationContributor> discovered) {
+        contributors = order(discovered);
+        contributors.forEach(contributor -> outputPatterns.put(contributor,
+            contributor.getOutputs().stream().map(ContributorRegistry::glob).toList()));
+
+        // Pool borné : un contributeur qui ignore l'interruption occupe au plus un thread, et une file pleine
+        // écarte la contribution plutôt que de créer des threads sans limite
+        AtomicInteger created = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(threads * 4),
+            task -> {
+                Thread thread = new Thread(task, "contributor-" + created.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public List<GenerationContributor> getContributors() {
+        return contributors;
+    }
+
+    public Duration getTimeBudget(GenerationContributor contributor) {
+        return contributor.getTimeBudget() != null ? contributor.getTimeBudget() : defaultTimeBudget;
+    }
+
+    /**
+     * Exécute les contributeurs actifs pour cette description, dans l'ordre, et reporte leurs fichiers dans le plan.
+     */
+    public void contribute(ProjectPlan plan, CustomProjectDescription description) {
+        for (GenerationContributor contributor : contributors) {
+            if (!contributor.isEnabled(description)) {
+                continue;
+            }
+            Duration budget = getTimeBudget(contributor);
+            try {
+                ProjectPlan scratch = plan.copy();
+                call(contributor, "contribute", budget, () -> {
+                    contributor.contribute(scratch, description);
+                    return null;
+                });
+                List<String> changes = plan.changesIn(scratch);
+                checkOutputs(contributor, plan, changes);
+                Map<String, String> rendered = render(contributor, budget, scratch, changes);
+                for (String path : changes) {
+                    plan.adopt(scratch, path, content -> writer -> writer.write(rendered.get(path)));
+                }
+            } catch (ContributorFailedException e) {
+                if (!contributor.isOptional()) {
+                    throw e;
+                }
+                log.warn("{} ; contributeur écarté", e.getMessage());
+                meterRegistry.counter("generator.contributor.skipped", "contributor", contributor.getName()).increment();
+            }
+        }
+    }
+
+    private void checkOutputs(GenerationContributor contributor, ProjectPlan plan, List<String> changes) {
+        List<Pattern> outputs = outputPatterns.get(contributor);
+        for (String path : changes) {
+            if (plan.contains(path)) {
+                throw new ContributorFailedException(contributor.getName(), path + " est déjà produit par la génération", null);
+            }
+            if (outputs.stream().noneMatch(output -> output.matcher(path).matches())) {
+                throw new ContributorFailedException(contributor.getName(),
+                    path + " hors des sorties déclarées " + contributor.getOutputs(), null);
+            }
+        }
+    }
+
+    /**
+     * Rend chaque fichier texte ajouté, sous budget, avant d'en reprendre un seul dans le plan : un rendu
+     * en échec ou abandonné écarte tout le contributeur, jamais une partie de ses fichiers.
+     */
+    private Map<String, String> render(GenerationContributor contributor, Duration budget, ProjectPlan scratch,
+                                       List<String> changes) {
+        Map<String, String> rendered = new LinkedHashMap<>();
+        for (String path : changes) {
+            if (!scratch.getFile(path).binary()) {
+                rendered.put(path, call(contributor, "render", budget, () -> scratch.render(path)));
+            }
+        }
+        return rendered;
+    }
+
+    private <T> T call(GenerationContributor contributor, String phase, Duration budget, Callable<T> task) {
+        Timer timer = Timer.builder("generator.contributor.duration")
+            .description("Durée d'exécution des contributeurs")
+            .tag("contributor", contributor.getName())
+            .tag("phase", phase)
+            .register(meterRegistry);
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ContributorFailedException(contributor.getName(), phase + " : aucun thread disponible", e);
+        }
+        try {
+            return future.get(budget.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            Counter.builder("generator.contributor.timeouts")
+                .description("Contributeurs interrompus pour dépassement de budget")
+                .tag("contributor", contributor.getName())
+                .register(meterRegistry)
+                .increment();
+            throw new ContributorFailedException(contributor.getName(),
+                phase + " : budget de " + budget.toMillis() + " ms dépassé", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw new ContributorFailedException(contributor.getName(), phase + " : " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ContributorFailedException(contributor.getName(), phase + " interrompu", e);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Tri par ordre puis par nom, corrigé pour que tout producteur d'une entrée passe avant son consommateur.
+     */
+    static List<GenerationContributor> order(List<GenerationContributor> discovered) {
+        List<GenerationContributor> pending = new ArrayList<>(discovered);
+        pending.sort(Comparator.comparingInt(GenerationContributor::getOrder).thenComparing(GenerationContributor::getName));
+        List<GenerationContributor> ordered = new ArrayList<>(pending.size());
+        while (!pending.isEmpty()) {
+            GenerationContributor next = null;
+            for (GenerationContributor candidate : pending) {
+                boolean ready = pending.stream().noneMatch(other -> other != candidate && feeds(other, candidate));
+                if (ready) {
+                    next = candidate;
+                    break;
+                }
+            }
+            if (next == null) {
+                throw new IllegalStateException("Dépendance circulaire entre contributeurs : "
+                    + pending.stream().map(GenerationContributor::getName).toList());
+            }
+            pending.remove(next);
+            ordered.add(next);
+        }
+        return List.copyOf(ordered);
+    }
+
+    private static boolean feeds(GenerationContributor producer, GenerationContributor consumer) {
+        for (String input : consumer.getInputs()) {
+            for (String output : producer.getOutputs()) {
+                if (glob(output).matcher(input).matches() || glob(input).matcher(output).matches()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Motif glob vers expression régulière : {@code **} traverse les répertoires, {@code *} et {@code ?} non.
+     */
+    static Pattern glob(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*' && i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                boolean directory = i + 2 < glob.length() && glob.charAt(i + 2) == '/';
+                regex.append(directory ? "(?:.*/)?" : ".*");
+                i += directory ? 2 : 1;
+            } else if (c == '*') {
+                regex.append("[^/]*");
+            } else if (c == '?') {
+                regex.append("[^/]");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.project_generator.contributor;
+
+import com.example.project_generator.model.CustomProjectDescription;
+import com.example.project_generator.plan.ProjectPlan;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Point d'extension de la génération : un contributeur ajoute des fichiers au {@link ProjectPlan}.
+ * Les implémentations sont des beans Spring ou sont découvertes par {@link java.util.ServiceLoader}
+ * (fichier {@code META-INF/services/com.example.project_generator.contributor.GenerationContributor}
+ * d'un jar placé dans le classpath). Voir {@link ContributorRegistry} pour l'ordre d'exécution et les budgets.
+ */
+public interface GenerationContributor {
+
+    /**
+     * Nom stable, utilisé dans les journaux et comme tag {@code contributor} des métriques.
+     */
+    default String getName() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Ordre d'exécution, croissant ; les dépendances déclarées par {@link #getInputs()} priment.
+     */
+    default int getOrder() {
+        return 0;
+    }
+
+    /**
+     * Condition d'activation, évaluée sur la description avant toute contribution.
+     */
+    default boolean isEnabled(CustomProjectDescription description) {
+        return true;
+    }
+
+    /**
+     * Fichiers du plan lus par ce contributeur (chemins ou motifs glob) : les contributeurs qui les produisent
+     * s'exécutent avant lui.
+     */
+    default Set<String> getInputs() {
+        return Set.of();
+    }
+
+    /**
+     * Fichiers que ce contributeur peut ajouter (motifs glob, {@code **} traverse les répertoires).
+     * Une écriture hors de ces motifs, ou sur un fichier déjà produit, est refusée.
+     */
+    Set<String> getOutputs();
+
+    /**
+     * Budget de temps de la contribution puis de chaque rendu de fichier ; {@code null} : budget par défaut
+     * ({@code project.contributors.time-budget}).
+     */
+    default Duration getTimeBudget() {
+        return null;
+    }
+
+    /**
+     * Un contributeur optionnel qui échoue ou dépasse son budget est écarté et la génération continue
+     * sans ses fichiers ; sinon la génération échoue.
+     */
+    default boolean isOptional() {
+        return true;
+    }
+
+    void contribute(ProjectPlan plan, CustomProjectDescription description) throws IOException;
+}
@@ -0,0 +1,277 @@
+package com.example.project_generator.controller;
+
+import com.example.project_generator.archive.ArchiveFormat;
+import com.example.project_generator.catalog.CatalogDependency;
+import com.example.project_generator.catalog.DependencyCatalog;
+import com.example.project_generator.compatibility.CompatibilityMatrix;
+import com.example.project_generator.compatibility.CompatibilityResolver;
+import com.example.project_generator.model.CustomProjectRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Métadonnées au format du client Spring Initializr (IDE, CLI {@code spring init}) et actions
+ * {@code /starter.zip} / {@code /starter.tgz}.
+ * Le document ne dépend que des catalogues embarqués : il est sérialisé une fois au démarrage et servi
+ * avec un ETag fort, les clients qui interrogent régulièrement reçoivent un 304 sans corps.
+ */
+@RestController
+public class ClientMetadataController {
+
+    public static final MediaType INITIALIZR_V2_2 = MediaType.parseMediaType("application/vnd.initializr.v2.2+json");
+    public static final MediaType INITIALIZR_V2_1 = MediaType.parseMediaType("application/vnd.initializr.v2.1+json");
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
+    // Dépendances ajoutées d'office à tout projet : inutile de les proposer
+    private static final Set<String> IMPLICIT_DEPENDENCIES = Set.of("starter", "starter-test", "lombok");
+
+    @Autowired
+    private DependencyCatalog dependencyCatalog;
+
+    @Autowired
+    private CompatibilityResolver compatibilityResolver;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectGeneratorController projectGeneratorController;
+
+    private byte[] metadata;
+    private Map<MediaType, String> etags;
+
+    @PostConstruct
+    void precompute() throws JsonProcessingException, NoSuchAlgorithmException {
+        // Ordre d'insertion conservé partout : mêmes octets, donc même ETag, sur toutes les instances
+        metadata = objectMapper.writeValueAsBytes(buildMetadata());
+        String digest = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(metadata), 0, 16);
+        etags = Map.of(
+            INITIALIZR_V2_2, "\"" + digest + "-v2.2\"",
+            INITIALIZR_V2_1, "\"" + digest + "-v2.1\"",
+            MediaType.APPLICATION_JSON, "\"" + digest + "\"");
+    }
+
+    @GetMapping(value = {"/", "/metadata/client"},
+        produces = {"application/vnd.initializr.v2.2+json", "application/vnd.initializr.v2.1+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<byte[]> clientMetadata(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        MediaType contentType = negotiate(accept);
+        String etag = etags.get(contentType);
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+        }
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .eTag(etag)
+            .cacheControl(CACHE_CONTROL)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(metadata);
+    }
+
+    /**
+     * Action des types de projet : traduit les paramètres du protocole Initializr en {@link CustomProjectRequest}.
+     */
+    @GetMapping({"/starter.zip", "/starter.tgz"})
+    public ResponseEntity<?> starter(@RequestParam(defaultValue = "maven-project") String type,
+                                     @RequestParam(required = false) List<String> dependencies,
+                                     @RequestParam(required = false) String javaVersion,
+                                     @RequestParam(required = false) String bootVersion,
+                                     @RequestParam(defaultValue = "com.example") String groupId,
+                                     @RequestParam(defaultValue = "demo") String artifactId,
+                                     @RequestParam(required = false) String name,
+                                     @RequestParam(defaultValue = "en-couches") String architecture,
+                                     @RequestHeader(value = ProjectGeneratorController.TENANT_HEADER, required = false) String tenant,
+                                     HttpServletRequest servletRequest) throws IOException {
+        CustomProjectRequest request = new CustomProjectRequest();
+        request.setBuildTool(switch (type) {
+            case "gradle-project" -> "gradle-groovy";
+            case "gradle-project-kotlin" -> "gradle-kotlin";
+            default -> "maven";
+        });
+        request.setDependencies(dependencies != null ? new LinkedHashSet<>(dependencies) : new LinkedHashSet<>());
+        request.setJavaVersion(javaVersion);
+        request.setSpringBootVersion(bootVersion);
+        request.setGroupId(groupId);
+        request.setArtifactId(artifactId);
+        request.setName(name != null ? name : artifactId);
+        request.setArchitectureType(architecture);
+        request.setEntities(new ArrayList<>());
+        request.setEntityFields(new LinkedHashMap<>());
+        request.setRestEndpoints(new LinkedHashMap<>());
+        request.setGenerateTests(false);
+        ArchiveFormat format = servletRequest.getRequestURI().endsWith(".tgz") ? ArchiveFormat.TAR_GZ : ArchiveFormat.ZIP;
+        return projectGeneratorController.generateProject(request, format, tenant);
+    }
+
+    private Map<String, Object> buildMetadata() {
+        CompatibilityMatrix matrix = compatibilityResolver.getMatrix();
+        Map<String, Object> root = new LinkedHashMap<>();
+
+        List<Map<String, Object>> groups = new ArrayList<>();
+        dependencyCatalog.getGroups().forEach((group, members) -> {
+            List<Map<String, Object>> values = new ArrayList<>();
+            for (CatalogDependency dependency : members) {
+                if (IMPLICIT_DEPENDENCIES.contains(dependency.getId())) {
+                    continue;
+                }
+                Map<String, Object> value = new LinkedHashMap<>();
+                value.put("id", dependency.getId());
+                value.put("name", dependency.getName());
+                value.put("description", dependency.getName());
+                if (dependency.getCompatibilityRange() != null) {
+                    value.put("versionRange", dependency.getCompatibilityRange().toRangeString());
+                }
+                values.add(value);
+            }
+            if (!values.isEmpty()) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("name", group);
+                entry.put("values", values);
+                groups.add(entry);
+            }
+        });
+        root.put("dependencies", select("hierarchical-multi-select", null, groups));
+
+        root.put("type", select("action", "maven-project", List.of(
+            projectType("maven-project", "Maven", "maven", null),
+            projectType("gradle-project", "Gradle - Groovy", "gradle", "groovy"),
+            projectType("gradle-project-kotlin", "Gradle - Kotlin", "gradle", "kotlin"))));
+        root.put("packaging", singleSelect("jar", List.of(option("jar", "Jar"))));
+
+        List<Map<String, Object>> javaVersions = new ArrayList<>();
+        for (Integer version : matrix.getJavaVersions()) {
+            javaVersions.add(option(String.valueOf(version), String.valueOf(version)));
+        }
+        root.put("javaVersion", singleSelect(matrix.getDefaultJava(), javaVersions));
+        root.put("language", singleSelect("java", List.of(option("java", "Java"))));
+
+        List<Map<String, Object>> bootVersions = new ArrayList<>();
+        matrix.getBootLines().forEach(line -> bootVersions.add(0, option(line.latest(), line.latest())));
+        root.put("bootVersion", singleSelect(matrix.getDefaultSpringBoot(), bootVersions));
+
+        // Extension propre au générateur, ignorée par les clients qui ne la connaissent pas
+        root.put("architecture", singleSelect("en-couches", List.of(
+            option("en-couches", "En couches"),
+            option("hexagonale", "Hexagonale"))));
+
+        root.put("groupId", text("com.example"));
+        root.put("artifactId", text("demo"));
+        root.put("version", text("0.0.1-SNAPSHOT"));
+        root.put("name", text("demo"));
+        root.put("description", text("Demo project for Spring Boot"));
+        root.put("packageName", text("com.example.demo"));
+        return root;
+    }
+
+    private Map<String, Object> projectType(String id, String name, String build, String dialect) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("build", build);
+        if (dialect != null) {
+            tags.put("dialect", dialect);
+        }
+        tags.put("format", "project");
+
+        Map<String, Object> type = new LinkedHashMap<>();
+        type.put("id", id);
+        type.put("name", name);
+        type.put("description", "Generate a " + name + " based project archive.");
+        type.put("action", "/starter.zip");
+        type.put("tags", tags);
+        return type;
+    }
+
+    private Map<String, Object> singleSelect(String defaultValue, List<Map<String, Object>> values) {
+        return select("single-select", defaultValue, values);
+    }
+
+    private Map<String, Object> select(String type, String defaultValue, List<Map<String, Object>> values) {
+        Map<String, Object> select = new LinkedHashMap<>();
+        select.put("type", type);
+        if (defaultValue != null) {
+            select.put("default", defaultValue);
+        }
+        select.put("values", values);
+        return select;
+    }
+
+    private Map<String, Object> option(String id, String name) {
+        Map<String, Object> option = new LinkedHashMap<>();
+        option.put("id", id);
+        option.put("name", name);
+        return option;
+    }
+
+    private Map<String, Object> text(String defaultValue) {
+        Map<String, Object> text = new LinkedHashMap<>();
+        text.put("type", "text");
+        text.put("default", defaultValue);
+        return text;
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Type le plus précis demandé par le client ; {@code application/json} pour les clients génériques
+     * et les en-têtes {@code Accept} illisibles.
+     */
+    private MediaType negotiate(String accept) {
+        if (accept != null) {
+            List<MediaType> requested;
+            try {
+                requested = MediaType.parseMediaTypes(accept);
+            } catch (InvalidMediaTypeException e) {
+                // En-tête mal formé : même réponse qu'à un client générique
+                return MediaType.APPLICATION_JSON;
+            }
+            MimeTypeUtils.sortBySpecificity(requested);
+            for (MediaType mediaType : requested) {
+                if (mediaType.equalsTypeAndSubtype(INITIALIZR_V2_2)) {
+                    return INITIALIZR_V2_2;
+                }
+                if (mediaType.equalsTypeAndSubtype(INITIALIZR_V2_1)) {
+                    return INITIALIZR_V2_1;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
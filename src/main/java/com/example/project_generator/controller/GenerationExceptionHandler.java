@@ -0,0 +1,63 @@
+package com.example.project_generator.controller;
+
+import com.example.project_generator.admission.AdmissionControl.AdmissionRejectedException;
+import com.example.project_generator.compatibility.CompatibilityResolver.IncompatibleVersionsException;
+import com.example.project_generator.validation.ProjectRequestValidator.InvalidProjectRequestException;
+import com.example.project_generator.verification.GeneratedSourceVerifier.VerificationException;
+import com.example.project_generator.verification.GeneratedSourceVerifier.VerifierUnavailableException;
+import com.example.project_generator.workspace.WorkspaceManager.WorkspaceQuotaExceededException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * Réponses d'erreur des générations, communes à /generate et aux actions Initializr ({@code /starter.zip},
+ * {@code /starter.tgz}) qui délèguent à {@link ProjectGeneratorController} : un {@code @ExceptionHandler}
+ * déclaré dans un contrôleur ne s'applique qu'aux requêtes que ce contrôleur a lui-même reçues.
+ */
+@RestControllerAdvice
+public class GenerationExceptionHandler {
+
+    @ExceptionHandler(VerificationException.class)
+    public ResponseEntity<Map<String, Object>> handleVerificationFailure(VerificationException e) {
+        return ResponseEntity.unprocessableEntity()
+            .body(Map.of("message", e.getMessage(), "errors", e.getErrors()));
+    }
+
+    @ExceptionHandler(VerifierUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleVerifierUnavailable(VerifierUnavailableException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(Map.of("message", e.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidProjectRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRequest(InvalidProjectRequestException e) {
+        return ResponseEntity.badRequest()
+            .body(Map.of("message", e.getMessage(), "errors", e.getErrors()));
+    }
+
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleAdmissionRejected(AdmissionRejectedException e) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(e.getStatus());
+        if (e.getRetryAfterSeconds() > 0) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        }
+        return response.body(Map.of("message", e.getMessage()));
+    }
+
+    @ExceptionHandler(WorkspaceQuotaExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleQuotaExceeded(WorkspaceQuotaExceededException e) {
+        return ResponseEntity.status(HttpStatus.INSUFFICIENT_STORAGE)
+            .body(Map.of("message", e.getMessage(), "tenant", e.getTenant(), "usage", e.getUsage(), "quota", e.getQuota()));
+    }
+
+    @ExceptionHandler(IncompatibleVersionsException.class)
+    public ResponseEntity<Map<String, Object>> handleIncompatibleVersions(IncompatibleVersionsException e) {
+        return ResponseEntity.badRequest()
+            .body(Map.of("message", e.getMessage(), "errors", e.getErrors()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.project_generator.controller;
+
+import com.example.project_generator.compatibility.CompatibilityMatrix;
+import com.example.project_generator.compatibility.CompatibilityResolver;
+import com.example.project_generator.compatibility.ResolvedVersions;
+import com.example.project_generator.contributor.ContributorRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/metadata")
+public class MetadataController {
+
+    @Autowired
+    private CompatibilityResolver compatibilityResolver;
+
+    @Autowired
+    private ContributorRegistry contributorRegistry;
+
+    @GetMapping
+    public Map<String, Object> metadata() {
+        CompatibilityMatrix matrix = compatibilityResolver.getMatrix();
+
+        List<Map<String, Object>> springBoot = matrix.getBootLines().stream()
+            .map(line -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("line", line.line());
+                entry.put("latest", line.latest());
+                entry.put("minJava", line.minJava());
+                entry.put("maxJava", line.maxJava());
+                return entry;
+            })
+            .toList();
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("defaults", Map.of(
+            "javaVersion", matrix.getDefaultJava(),
+            "springBootVersion", matrix.getDefaultSpringBoot(),
+            "buildTool", matrix.getDefaultBuildTool()));
+        metadata.put("javaVersions", matrix.getJavaVersions());
+        metadata.put("springBoot", springBoot);
+        metadata.put("buildTools", matrix.getBuildTools());
+        return metadata;
+    }
+
+    /**
+     * Vérifie une combinaison avant génération ; 400 avec la liste des erreurs si elle est invalide.
+     */
+    @GetMapping("/validate")
+    public ResponseEntity<ResolvedVersions> validate(@RequestParam(required = false) String javaVersion,
+                                                     @RequestParam(required = false) String springBootVersion,
+                                                     @RequestParam(required = false) String buildTool) {
+        ResolvedVersions resolved = compatibilityResolver.resolve(javaVersion, springBootVersion, buildTool);
+        return resolved.isValid() ? ResponseEntity.ok(resolved) : ResponseEntity.badRequest().body(resolved);
+    }
+
+    /**
+     * Contributeurs chargés, dans leur ordre d'exécution ; leurs durées sont sous /actuator/metrics/generator.contributor.duration.
+     */
+    @GetMapping("/contributors")
+    public List<Map<String, Object>> contributors() {
+        return contributorRegistry.getContributors().stream()
+            .map(contributor -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("name", contributor.getName());
+                entry.put("order", contributor.getOrder());
+                entry.put("inputs", contributor.getInputs());
+                entry.put("outputs", contributor.getOutputs());
+                entry.put("timeBudgetMillis", contributorRegistry.getTimeBudget(contributor).toMillis());
+                entry.put("optional", contributor.isOptional());
+                return entry;
+            })
+            .toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.project_generator.controller;
+
+import com.example.project_generator.profiling.ProfilingService;
+import com.example.project_generator.profiling.ProfilingService.ProfilingStateException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Profilage JFR à la demande : démarrage borné, arrêt, téléchargement du fichier {@code .jfr}
+ * (à ouvrir avec JDK Mission Control ou {@code jfr print}).
+ *
+ * Désactivé par défaut : l'application n'a pas d'authentification et un enregistrement contient piles d'appels,
+ * noms de classes et chemins de fichiers. À n'activer ({@code project.profiling.enabled=true}) que sur une
+ * instance dont /admin n'est pas exposé publiquement.
+ */
+@RestController
+@RequestMapping("/admin/profiling")
+@ConditionalOnProperty(name = "project.profiling.enabled", havingValue = "true")
+public class ProfilingController {
+
+    @Autowired
+    private ProfilingService profilingService;
+
+    @GetMapping
+    public Map<String, Object> status() {
+        return profilingService.status();
+    }
+
+    /**
+     * {@code duration} au format des propriétés Spring ({@code 30s}, {@code 5m}) ; plafonnée par
+     * {@code project.profiling.max-duration}.
+     */
+    @PostMapping("/start")
+    public Map<String, Object> start(@RequestParam(required = false) String duration) throws IOException {
+        try {
+            return profilingService.start(duration != null ? DurationStyle.detectAndParse(duration) : null);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Durée invalide : " + duration);
+        }
+    }
+
+    @PostMapping("/stop")
+    public Map<String, Object> stop() {
+        return profilingService.stop();
+    }
+
+    @GetMapping("/recording")
+    public ResponseEntity<Resource> download() {
+        Path file = profilingService.getRecordingFile();
+        if (file == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Aucun enregistrement terminé");
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(file.getFileName().toString())
+                .build()
+                .toString())
+            .body(new FileSystemResource(file));
+    }
+
+    @ExceptionHandler(ProfilingStateException.class)
+    public ResponseEntity<Map<String, Object>> handleState(ProfilingStateException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+    }
+}
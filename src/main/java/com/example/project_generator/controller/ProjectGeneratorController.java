@@ -1,60 +1,187 @@
 package com.example.project_generator.controller;
 
+import com.example.project_generator.admission.AdmissionControl;
+import com.example.project_generator.archive.ArchiveFormat;
+import com.example.project_generator.archive.ProjectArchiver;
 import com.example.project_generator.model.CustomProjectRequest;
 import com.example.project_generator.model.CustomProjectDescription;
+import com.example.project_generator.plan.ProjectPlan;
 import com.example.project_generator.converter.CustomProjectRequestToDescriptionConverter;
+import com.example.project_generator.service.GenerationCoalescer;
 import com.example.project_generator.service.ProjectGenerationService;
+import com.example.project_generator.validation.ProjectRequestValidator;
+import com.example.project_generator.workspace.WorkspaceManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/generate")
 public class ProjectGeneratorController {
 
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+    // Condensat du contenu renvoyé (RFC 9530)
+    private static final String REPR_DIGEST_HEADER = "Repr-Digest";
+
     @Autowired
     private CustomProjectRequestToDescriptionConverter converter;
 
     @Autowired
     private ProjectGenerationService projectGenerationService;
 
+    @Autowired
+    private ProjectArchiver projectArchiver;
+
+    @Autowired
+    private WorkspaceManager workspaceManager;
+
+    @Autowired
+    private GenerationCoalescer generationCoalescer;
+
+    @Autowired
+    private AdmissionControl admissionControl;
+
+    @Autowired
+    private ProjectRequestValidator projectRequestValidator;
+
+    /**
+     * Format de sortie : paramètre {@code format} (zip, tar, tar.gz, directory) prioritaire, sinon en-tête
+     * {@code Accept}, ZIP par défaut. {@code compression} (0 à 9) remplace le niveau configuré ;
+     * 0 stocke sans compresser, pour les clients du réseau local.
+     */
     @PostMapping
-    public ResponseEntity<byte[]> generateProject(@RequestBody CustomProjectRequest request) throws IOException {
-        CustomProjectDescription description = converter.convert(request);
-    
-      
-        String projectPath = projectGenerationService.generateProject(description);
-    
-      
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (ZipOutputStream zipOut = new ZipOutputStream(baos)) {
-           Path projectDir = Paths.get(projectPath); // Supprimer les :
-           addDirectoryToZip(zipOut, projectDir, projectDir);
-        } catch (Exception e) {
-           throw new IOException("Failed to create ZIP file: " + e.getMessage());
+    public ResponseEntity<?> generateProject(@RequestBody CustomProjectRequest request,
+                                             @RequestParam(required = false) String format,
+                                             @RequestParam(required = false) Integer compression,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                             @RequestHeader(value = TENANT_HEADER, required = false) String tenant) throws IOException {
+        if (compression != null && (compression < 0 || compression > 9)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "compression doit être compris entre 0 et 9");
         }
-    
+        return generateProject(request, negotiate(format, accept), tenant, compression);
+    }
+
+    public ResponseEntity<?> generateProject(CustomProjectRequest request, ArchiveFormat format, String tenant) throws IOException {
+        return generateProject(request, format, tenant, null);
+    }
+
+    /**
+     * La requête est validée en entier avant toute écriture disque. Le répertoire de travail est libéré dès
+     * l'archive produite ; en format répertoire il est conservé jusqu'à expiration (voir {@link WorkspaceManager}).
+     */
+    public ResponseEntity<?> generateProject(CustomProjectRequest request, ArchiveFormat format, String tenant,
+                                             Integer compression) throws IOException {
+        String tenantId = tenant != null && !tenant.isBlank() ? tenant : WorkspaceManager.DEFAULT_TENANT;
+        if (!WorkspaceManager.isValidTenant(tenantId)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "En-tête " + TENANT_HEADER + " invalide : " + tenantId);
+        }
+        projectRequestValidator.check(request);
+        admissionControl.admit(request);
+
+        if (format == ArchiveFormat.DIRECTORY) {
+            CustomProjectDescription description = converter.convert(request);
+            Path projectDir;
+            try (AdmissionControl.Permit permit = admissionControl.acquire()) {
+                projectDir = Paths.get(projectGenerationService.generateProject(description, tenantId));
+            }
+            workspaceManager.retain(projectDir);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("artifactId", description.getArtifactId());
+            body.put("path", projectDir.toString());
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+
+        // Les requêtes identiques simultanées partagent une seule génération et les mêmes octets d'archive
+        int level = compression != null ? compression : projectArchiver.getDefaultCompressionLevel();
+        String key = generationCoalescer.keyOf(request, format.getId(), String.valueOf(level), tenantId);
+        byte[] archive = generationCoalescer.execute(key, () -> {
+            try (AdmissionControl.Permit permit = admissionControl.acquire()) {
+                CustomProjectDescription description = converter.convert(request);
+                Path projectDir = Paths.get(projectGenerationService.generateProject(description, tenantId));
+                try {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    projectArchiver.write(projectDir, format, out, level);
+                    return out.toByteArray();
+                } finally {
+                    workspaceManager.release(projectDir);
+                }
+            }
+        });
+        // Sortie reproductible : l'empreinte du contenu est un ETag fort, exploitable par les caches HTTP
+        String digest = ProjectArchiver.sha256(archive);
         return ResponseEntity.ok()
-            .header("Content-Disposition", "attachment; filename=" + description.getArtifactId() + ".zip")
-            .body(baos.toByteArray());
+            .contentType(format.getMediaType())
+            .contentLength(archive.length)
+            .eTag("\"" + digest + "\"")
+            .header(REPR_DIGEST_HEADER, "sha-256=:" + Base64.getEncoder().encodeToString(HexFormat.of().parseHex(digest)) + ":")
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(request.getArtifactId() + format.getExtension())
+                .build()
+                .toString())
+            .body(archive);
     }
 
-    private void addDirectoryToZip(ZipOutputStream zipOut, Path rootPath, Path currentPath) throws IOException {
-        for (Path path : Files.newDirectoryStream(currentPath)) {
-            if (Files.isDirectory(path)) {
-                addDirectoryToZip(zipOut, rootPath, path);
-            } else {
-                String zipEntryName = rootPath.relativize(path).toString().replace("\\", "/");
-                ZipEntry zipEntry = new ZipEntry(zipEntryName);
-                zipOut.putNextEntry(zipEntry);
-                zipOut.write(Files.readAllBytes(path));
-                zipOut.closeEntry();
+    /**
+     * Prévisualisation sans écriture disque : sans {@code path}, l'arborescence complète sans aucun rendu ;
+     * avec {@code path}, le contenu de ce seul fichier, rendu à la demande. Le plan est construit sur le thread
+     * de la requête : même admission que /generate (budget, débit, générations simultanées).
+     */
+    @PostMapping("/preview")
+    public ResponseEntity<?> preview(@RequestBody CustomProjectRequest request,
+                                     @RequestParam(required = false) String path) throws IOException {
+        projectRequestValidator.check(request);
+        admissionControl.admit(request);
+
+        try (AdmissionControl.Permit permit = admissionControl.acquire()) {
+            ProjectPlan plan = projectGenerationService.planProject(converter.convert(request));
+            if (path == null || path.isBlank()) {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("artifactId", request.getArtifactId());
+                body.put("files", plan.getFiles());
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
             }
+
+            ProjectPlan.PlannedFile file = plan.getFile(path);
+            if (file == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Fichier absent du projet : " + path);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            plan.render(path, out);
+            return ResponseEntity.ok()
+                .contentType(file.binary() ? MediaType.APPLICATION_OCTET_STREAM : new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(out.toByteArray());
+        }
+    }
+
+    private ArchiveFormat negotiate(String format, String accept) {
+        if (format != null && !format.isBlank()) {
+            return ArchiveFormat.fromParameter(format).orElseThrow(() -> new ResponseStatusException(
+                HttpStatus.BAD_REQUEST, "Format inconnu : " + format + " (zip, tar, tar.gz, directory)"));
+        }
+        if (accept == null || accept.isBlank()) {
+            return ArchiveFormat.ZIP;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return ArchiveFormat.ZIP;
         }
+        return ArchiveFormat.fromAccept(accepted).orElseThrow(() -> new ResponseStatusException(
+            HttpStatus.NOT_ACCEPTABLE, "Formats disponibles : application/zip, application/x-tar, application/gzip"));
     }
-}
\ No newline at end of file
+}
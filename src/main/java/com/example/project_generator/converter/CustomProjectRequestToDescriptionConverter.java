@@ -4,15 +4,24 @@ import com.example.project_generator.model.CustomProjectRequest;
 import com.example.project_generator.model.CustomProjectDescription;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.TreeSet;
+
 @Component
 public class CustomProjectRequestToDescriptionConverter {
     public CustomProjectDescription convert(CustomProjectRequest request) {
         CustomProjectDescription description = new CustomProjectDescription();
         description.setArchitectureType(request.getArchitectureType());
         description.setGenerateDocker(request.isGenerateDocker());
+        description.setDockerCds(request.isDockerCds());
         description.setGenerateKubernetes(request.isGenerateKubernetes());
+        description.setKubernetesCpuMillis(request.getKubernetesCpuMillis());
+        description.setKubernetesMemoryMb(request.getKubernetesMemoryMb());
+        description.setKubernetesOverlays(request.isKubernetesOverlays());
         description.setGenerateCLCG(request.isGenerateCLCG());
-        description.setEntities(request.getEntities());
+        description.setCiBenchmarks(request.isCiBenchmarks());
+        description.setEntities(request.getEntities() != null ? request.getEntities() : new ArrayList<>());
         description.setDockerRepository(request.getDockerRepository());
         description.setArtifactId(request.getArtifactId());
         description.setName(request.getName());
@@ -21,12 +30,20 @@ public class CustomProjectRequestToDescriptionConverter {
         description.setProfile(request.getProfile());
         description.setBuildTool(request.getBuildTool());
         description.setSpringBootVersion(request.getSpringBootVersion());
-        description.setDependencies(request.getDependencies());
+        // Ordre stable : les dépendances sans entrée de catalogue sont écrites dans l'ordre d'itération
+        description.setDependencies(request.getDependencies() != null ? new TreeSet<>(request.getDependencies()) : new TreeSet<>());
         description.setGroupId(request.getGroupId() != null ? request.getGroupId() : "com.example");
         description.setMavenVersion(request.getMavenVersion());
-        description.setEntityFields(request.getEntityFields());
-        description.setRestEndpoints(request.getRestEndpoints());
+        description.setEntityFields(request.getEntityFields() != null ? request.getEntityFields() : new HashMap<>());
+        description.setRestEndpoints(request.getRestEndpoints() != null ? request.getRestEndpoints() : new HashMap<>());
         description.setGenerateTests(request.isGenerateTests());
+        description.setVerifyCompilation(request.isVerifyCompilation());
+        description.setGenerateLoadTests(request.isGenerateLoadTests());
+        description.setObservability(request.isObservability());
+        description.setStack(request.getStack());
+        description.setLoadTestRps(request.getLoadTestRps());
+        description.setLoadTestDurationSeconds(request.getLoadTestDurationSeconds());
+        description.setLoadTestP99Millis(request.getLoadTestP99Millis());
         return description;
     }
 }
\ No newline at end of file
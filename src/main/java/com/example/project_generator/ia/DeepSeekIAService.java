@@ -1,5 +1,6 @@
 package com.example.project_generator.ia;
 
+import com.example.project_generator.profiling.AiRequestEvent;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -13,7 +14,10 @@ public class DeepSeekIAService {
     @Value("${together.api.key}")
     private String apiKey;
 
-    private static final String API_URL = "https://api.together.xyz/v1/chat/completions";
+    // Remplaçable par un fournisseur local (bouchon du test de charge, proxy d'entreprise)
+    @Value("${together.api.url:https://api.together.xyz/v1/chat/completions}")
+    private String apiUrl;
+
     private static final String MODEL_NAME = "mistralai/Mixtral-8x7B-Instruct-v0.1";  // ✅ Disponible
 
     public String getSecurityAdvice(String projectSummary) {
@@ -33,21 +37,34 @@ public class DeepSeekIAService {
 
         HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
 
+        AiRequestEvent event = new AiRequestEvent();
+        event.begin();
         try {
             ResponseEntity<Map> response = restTemplate.exchange(
-                API_URL, HttpMethod.POST, request, Map.class
+                apiUrl, HttpMethod.POST, request, Map.class
             );
+            event.status = response.getStatusCode().value();
 
             List<Map<String, Object>> choices = (List<Map<String, Object>>) response.getBody().get("choices");
             if (choices != null && !choices.isEmpty()) {
                 Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-                return (String) message.get("content");
+                String content = (String) message.get("content");
+                event.responseLength = content != null ? content.length() : 0;
+                return content;
             } else {
                 return "⚠️ Aucune réponse générée par le modèle IA.";
             }
 
         } catch (Exception e) {
+            event.error = e.getMessage();
             return "❌ Erreur lors de l’appel à Together.ai : " + e.getMessage();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.url = apiUrl;
+                event.model = MODEL_NAME;
+                event.commit();
+            }
         }
     }
 }
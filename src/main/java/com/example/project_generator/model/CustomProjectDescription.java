@@ -1,6 +1,9 @@
 package com.example.project_generator.model;
 
 
+import com.example.project_generator.catalog.CatalogDependency;
+import com.example.project_generator.catalog.DependencyCatalog;
+import com.example.project_generator.compatibility.VersionNumbers;
 import io.spring.initializr.generator.language.Language;
 import io.spring.initializr.generator.language.java.JavaLanguage;
 import io.spring.initializr.generator.packaging.Packaging;
@@ -10,11 +13,13 @@ import io.spring.initializr.generator.buildsystem.gradle.GradleBuildSystem;
 import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
 import io.spring.initializr.generator.buildsystem.BuildSystem;
 import io.spring.initializr.generator.buildsystem.Dependency;
-import org.springframework.stereotype.Component;
 
 import java.util.*;
 
-@Component
+/**
+ * Description d'une génération, créée par requête (CustomProjectRequestToDescriptionConverter) et passée
+ * explicitement aux contributeurs : jamais partagée entre générations.
+ */
 public class CustomProjectDescription implements ProjectDescription {
 
     private String architectureType;
@@ -40,9 +45,134 @@ public class CustomProjectDescription implements ProjectDescription {
     private String buildTool = "maven"; 
     private String springBootVersion = "3.2.0";
     private Set<String> dependencies = new HashSet<>();
+    private Map<String, Dependency> requestedDependencies;
     private Map<String, Boolean> restEndpoints;
     private Map<String, List<FieldDefinition>> entityFields;
     private boolean generateTests = true;   
+    private boolean generateLoadTests;
+    private boolean observability;
+    private boolean verifyCompilation;
+    private Integer kubernetesCpuMillis = 500;
+    private Integer kubernetesMemoryMb = 512;
+    private boolean kubernetesOverlays;
+    private boolean ciBenchmarks;
+    private boolean dockerCds;
+    private String stack = "servlet";
+    private Integer loadTestRps = 50;
+    private Integer loadTestDurationSeconds = 30;
+    private Integer loadTestP99Millis = 500;
+
+    public boolean isVerifyCompilation() {
+        return verifyCompilation;
+    }
+
+    public void setVerifyCompilation(boolean verifyCompilation) {
+        this.verifyCompilation = verifyCompilation;
+    }
+
+    public Integer getKubernetesCpuMillis() {
+        return kubernetesCpuMillis;
+    }
+
+    public void setKubernetesCpuMillis(Integer kubernetesCpuMillis) {
+        if (kubernetesCpuMillis != null) {
+            this.kubernetesCpuMillis = kubernetesCpuMillis;
+        }
+    }
+
+    public Integer getKubernetesMemoryMb() {
+        return kubernetesMemoryMb;
+    }
+
+    public void setKubernetesMemoryMb(Integer kubernetesMemoryMb) {
+        if (kubernetesMemoryMb != null) {
+            this.kubernetesMemoryMb = kubernetesMemoryMb;
+        }
+    }
+
+    public boolean isKubernetesOverlays() {
+        return kubernetesOverlays;
+    }
+
+    public void setKubernetesOverlays(boolean kubernetesOverlays) {
+        this.kubernetesOverlays = kubernetesOverlays;
+    }
+
+    public boolean isCiBenchmarks() {
+        return ciBenchmarks;
+    }
+
+    public void setCiBenchmarks(boolean ciBenchmarks) {
+        this.ciBenchmarks = ciBenchmarks;
+    }
+
+    public boolean isDockerCds() {
+        return dockerCds;
+    }
+
+    public void setDockerCds(boolean dockerCds) {
+        this.dockerCds = dockerCds;
+    }
+
+    public String getStack() {
+        return stack;
+    }
+
+    public void setStack(String stack) {
+        if (stack != null && !stack.isBlank()) {
+            this.stack = stack.toLowerCase();
+        }
+    }
+
+    public boolean isReactive() {
+        return "reactive".equals(stack);
+    }
+
+    public boolean isObservability() {
+        return observability;
+    }
+
+    public void setObservability(boolean observability) {
+        this.observability = observability;
+    }
+
+    public boolean isGenerateLoadTests() {
+        return generateLoadTests;
+    }
+
+    public void setGenerateLoadTests(boolean generateLoadTests) {
+        this.generateLoadTests = generateLoadTests;
+    }
+
+    public Integer getLoadTestRps() {
+        return loadTestRps;
+    }
+
+    public void setLoadTestRps(Integer loadTestRps) {
+        if (loadTestRps != null) {
+            this.loadTestRps = loadTestRps;
+        }
+    }
+
+    public Integer getLoadTestDurationSeconds() {
+        return loadTestDurationSeconds;
+    }
+
+    public void setLoadTestDurationSeconds(Integer loadTestDurationSeconds) {
+        if (loadTestDurationSeconds != null) {
+            this.loadTestDurationSeconds = loadTestDurationSeconds;
+        }
+    }
+
+    public Integer getLoadTestP99Millis() {
+        return loadTestP99Millis;
+    }
+
+    public void setLoadTestP99Millis(Integer loadTestP99Millis) {
+        if (loadTestP99Millis != null) {
+            this.loadTestP99Millis = loadTestP99Millis;
+        }
+    }
 
     public boolean isGenerateTests() {
         return generateTests;
@@ -100,31 +230,27 @@ public class CustomProjectDescription implements ProjectDescription {
 
     @Override
     public Map<String, Dependency> getRequestedDependencies() {
-        Map<String, Dependency> map = new HashMap<>();
-
-   
-      Map<String, String> predefinedDeps = Map.of(
-        "web", "org.springframework.boot:spring-boot-starter-web",
-        "data-jpa", "org.springframework.boot:spring-boot-starter-data-jpa",
-        "security", "org.springframework.boot:spring-boot-starter-security"
-        
-      );
-
-      if (dependencies != null) {
-        for (String id : dependencies) {
-            String resolved = predefinedDeps.getOrDefault(id, id); 
-            String[] parts = resolved.split(":");
-
-            if (parts.length == 2) {
-                map.put(id, Dependency.withCoordinates(parts[0], parts[1]).build());
-            } else {
-                throw new IllegalArgumentException("Dependency ID must be in format 'groupId:artifactId'");
+        if (requestedDependencies == null) {
+            Map<String, Dependency> map = new LinkedHashMap<>();
+            if (dependencies != null) {
+                DependencyCatalog catalog = DependencyCatalog.getDefault();
+                for (String id : dependencies) {
+                    CatalogDependency entry = catalog.find(id);
+                    if (entry != null) {
+                        map.put(id, Dependency.withCoordinates(entry.getGroupId(), entry.getArtifactId()).build());
+                    } else {
+                        String[] parts = id.split(":");
+                        if (parts.length != 2) {
+                            throw new IllegalArgumentException("Dependency ID must be in format 'groupId:artifactId'");
+                        }
+                        map.put(id, Dependency.withCoordinates(parts[0], parts[1]).build());
+                    }
+                }
             }
+            requestedDependencies = Collections.unmodifiableMap(map);
         }
-      }
-
-    return map;
-}
+        return requestedDependencies;
+    }
 
 
     @Override
@@ -204,7 +330,12 @@ public class CustomProjectDescription implements ProjectDescription {
     }
 
     public void setJavaVersion(String javaVersion) {
-        this.javaVersion = javaVersion.split("\\.")[0]; 
+        // "1.8" -> 8, "21-ea" -> 21 ; une valeur illisible est conservée pour être signalée par la validation
+        try {
+            this.javaVersion = String.valueOf(VersionNumbers.javaMajor(javaVersion));
+        } catch (IllegalArgumentException e) {
+            this.javaVersion = javaVersion;
+        }
     }
 
     @Override
@@ -241,6 +372,7 @@ public class CustomProjectDescription implements ProjectDescription {
 
     public void setDependencies(Set<String> dependencies) {
         this.dependencies = dependencies;
+        this.requestedDependencies = null;
     }
 
     public Integer getPort() {
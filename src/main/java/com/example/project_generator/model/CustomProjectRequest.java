@@ -27,6 +27,114 @@ public class CustomProjectRequest {
     private Map<String, Boolean> restEndpoints;
     private Map<String, List<FieldDefinition>> entityFields;
     private boolean generateTests = true;   
+    private boolean generateLoadTests;
+    private boolean observability;
+    private boolean verifyCompilation;
+    private Integer kubernetesCpuMillis;
+    private Integer kubernetesMemoryMb;
+    private boolean kubernetesOverlays;
+    private boolean ciBenchmarks;
+    private boolean dockerCds;
+    private String stack;
+    private Integer loadTestRps;
+    private Integer loadTestDurationSeconds;
+    private Integer loadTestP99Millis;
+
+    public boolean isVerifyCompilation() {
+        return verifyCompilation;
+    }
+
+    public void setVerifyCompilation(boolean verifyCompilation) {
+        this.verifyCompilation = verifyCompilation;
+    }
+
+    public Integer getKubernetesCpuMillis() {
+        return kubernetesCpuMillis;
+    }
+
+    public void setKubernetesCpuMillis(Integer kubernetesCpuMillis) {
+        this.kubernetesCpuMillis = kubernetesCpuMillis;
+    }
+
+    public Integer getKubernetesMemoryMb() {
+        return kubernetesMemoryMb;
+    }
+
+    public void setKubernetesMemoryMb(Integer kubernetesMemoryMb) {
+        this.kubernetesMemoryMb = kubernetesMemoryMb;
+    }
+
+    public boolean isKubernetesOverlays() {
+        return kubernetesOverlays;
+    }
+
+    public void setKubernetesOverlays(boolean kubernetesOverlays) {
+        this.kubernetesOverlays = kubernetesOverlays;
+    }
+
+    public boolean isCiBenchmarks() {
+        return ciBenchmarks;
+    }
+
+    public void setCiBenchmarks(boolean ciBenchmarks) {
+        this.ciBenchmarks = ciBenchmarks;
+    }
+
+    public boolean isDockerCds() {
+        return dockerCds;
+    }
+
+    public void setDockerCds(boolean dockerCds) {
+        this.dockerCds = dockerCds;
+    }
+
+    public String getStack() {
+        return stack;
+    }
+
+    public void setStack(String stack) {
+        this.stack = stack;
+    }
+
+    public boolean isObservability() {
+        return observability;
+    }
+
+    public void setObservability(boolean observability) {
+        this.observability = observability;
+    }
+
+    public boolean isGenerateLoadTests() {
+        return generateLoadTests;
+    }
+
+    public void setGenerateLoadTests(boolean generateLoadTests) {
+        this.generateLoadTests = generateLoadTests;
+    }
+
+    public Integer getLoadTestRps() {
+        return loadTestRps;
+    }
+
+    public void setLoadTestRps(Integer loadTestRps) {
+        this.loadTestRps = loadTestRps;
+    }
+
+    public Integer getLoadTestDurationSeconds() {
+        return loadTestDurationSeconds;
+    }
+
+    public void setLoadTestDurationSeconds(Integer loadTestDurationSeconds) {
+        this.loadTestDurationSeconds = loadTestDurationSeconds;
+    }
+
+    public Integer getLoadTestP99Millis() {
+        return loadTestP99Millis;
+    }
+
+    public void setLoadTestP99Millis(Integer loadTestP99Millis) {
+        this.loadTestP99Millis = loadTestP99Millis;
+    }
 
     public boolean isGenerateTests() {
         return generateTests;
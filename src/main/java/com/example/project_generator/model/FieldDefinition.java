@@ -6,7 +6,9 @@ public class FieldDefinition {
     private boolean primaryKey;
     private boolean notNull;
 
-   
+    // Requis par Jackson (corps JSON, fichiers de spécification)
+    public FieldDefinition() {
+    }
 
     public FieldDefinition(String name, String type, boolean primaryKey, boolean notNull) {
         this.name = name;
@@ -0,0 +1,61 @@
+package com.example.project_generator.output;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+
+/**
+ * Pool par thread de tampons directs et d'encodeurs UTF-8, réutilisés d'un fichier à l'autre
+ * pendant une génération. Acquisition/restitution en pile : les écritures imbriquées restent sûres.
+ */
+final class ByteBufferPool {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_POOLED = 4;
+
+    private static final ThreadLocal<ArrayDeque<ByteBuffer>> DIRECT_BUFFERS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<ArrayDeque<ByteBuffer>> HEAP_BUFFERS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<ArrayDeque<CharsetEncoder>> ENCODERS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private ByteBufferPool() {
+    }
+
+    static ByteBuffer acquireDirect() {
+        ByteBuffer buffer = DIRECT_BUFFERS.get().pollFirst();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    /**
+     * Tampon adossé à un tableau, pour les puits qui n'acceptent que des {@code byte[]} (ZipOutputStream).
+     */
+    static ByteBuffer acquireHeap() {
+        ByteBuffer buffer = HEAP_BUFFERS.get().pollFirst();
+        return buffer != null ? buffer.clear() : ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    static void release(ByteBuffer buffer) {
+        ArrayDeque<ByteBuffer> pool = buffer.isDirect() ? DIRECT_BUFFERS.get() : HEAP_BUFFERS.get();
+        if (pool.size() < MAX_POOLED) {
+            pool.addFirst(buffer);
+        }
+    }
+
+    static CharsetEncoder acquireEncoder() {
+        CharsetEncoder encoder = ENCODERS.get().pollFirst();
+        if (encoder == null) {
+            encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        return encoder.reset();
+    }
+
+    static void release(CharsetEncoder encoder) {
+        ArrayDeque<CharsetEncoder> pool = ENCODERS.get();
+        if (pool.size() < MAX_POOLED) {
+            pool.addFirst(encoder);
+        }
+    }
+}
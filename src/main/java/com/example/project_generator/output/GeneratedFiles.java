@@ -0,0 +1,63 @@
+package com.example.project_generator.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Point d'écriture unique des fichiers générés : toujours en UTF-8, via les tampons du {@link ByteBufferPool}.
+ */
+public final class GeneratedFiles {
+
+    private GeneratedFiles() {
+    }
+
+    /**
+     * Ouvre un writer UTF-8 sur le fichier (créé ou tronqué) ; à utiliser comme sortie des templates FreeMarker.
+     */
+    public static Writer newWriter(Path path) throws IOException {
+        return new Utf8ChannelWriter(FileChannel.open(path,
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), true);
+    }
+
+    public static void write(Path path, CharSequence content) throws IOException {
+        try (Writer writer = newWriter(path)) {
+            writer.append(content);
+        }
+    }
+
+    /**
+     * Transfère un fichier vers un canal avec {@link FileChannel#transferTo} : copie noyau vers un fichier
+     * ou une socket, lecture mappée sinon. Aucun tampon du tas n'est alloué.
+     */
+    public static void transfer(Path path, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    /**
+     * Recopie un fichier vers un flux (entrée ZIP) à travers un tampon réutilisé, sans charger le fichier en mémoire.
+     */
+    public static void copy(Path path, OutputStream out) throws IOException {
+        ByteBuffer buffer = ByteBufferPool.acquireHeap();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            byte[] array = buffer.array();
+            int read;
+            while ((read = channel.read(buffer.clear())) != -1) {
+                out.write(array, 0, read);
+            }
+        } finally {
+            ByteBufferPool.release(buffer);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.project_generator.output;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * {@link Writer} qui encode directement en UTF-8 dans un tampon direct du pool et le vide
+ * dans un canal (fichier, entrée ZIP...), sans {@code String} ni {@code byte[]} intermédiaire.
+ * Non thread-safe : une instance par fichier rendu.
+ */
+public class Utf8ChannelWriter extends Writer {
+
+    private final WritableByteChannel channel;
+    private final boolean closeChannel;
+    private ByteBuffer buffer;
+    private CharsetEncoder encoder;
+    // Deux tampons distincts : single porte l'argument de write(int), pair la paire reconstituée ;
+    // un même tampon servirait à la fois d'entrée et de paire quand un surrogate est en attente
+    private final CharBuffer single = CharBuffer.allocate(1);
+    private final CharBuffer pair = CharBuffer.allocate(2);
+    private char pendingHighSurrogate;
+
+    public Utf8ChannelWriter(WritableByteChannel channel, boolean closeChannel) {
+        this.channel = channel;
+        this.closeChannel = closeChannel;
+        this.buffer = ByteBufferPool.acquireDirect();
+        this.encoder = ByteBufferPool.acquireEncoder();
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        encode(CharBuffer.wrap(chars, offset, length));
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+        encode(CharBuffer.wrap(str, offset, offset + length));
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        single.clear();
+        single.put((char) c).flip();
+        encode(single);
+    }
+
+    @Override
+    public Writer append(CharSequence csq) throws IOException {
+        // Writer.append ferait csq.toString() : on encode la séquence telle quelle
+        encode(CharBuffer.wrap(csq != null ? csq : "null"));
+        return this;
+    }
+
+    @Override
+    public Writer append(CharSequence csq, int start, int end) throws IOException {
+        encode(CharBuffer.wrap(csq != null ? csq : "null", start, end));
+        return this;
+    }
+
+    private void encode(CharBuffer chars) throws IOException {
+        ensureOpen();
+        while (pendingHighSurrogate != 0 && chars.hasRemaining()) {
+            // Paire de substitution coupée entre deux appels ; si le caractère suivant est lui-même
+            // un high surrogate, le premier est remplacé et le second reste en attente
+            pair.clear();
+            pair.put(pendingHighSurrogate).put(chars.get()).flip();
+            pendingHighSurrogate = 0;
+            encodeAvailable(pair, false);
+            if (pair.hasRemaining()) {
+                pendingHighSurrogate = pair.get();
+            }
+        }
+        if (pendingHighSurrogate != 0) {
+            return;
+        }
+        encodeAvailable(chars, false);
+        if (chars.hasRemaining()) {
+            pendingHighSurrogate = chars.get();
+        }
+    }
+
+    private void encodeAvailable(CharBuffer chars, boolean endOfInput) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, endOfInput);
+            if (result.isOverflow()) {
+                drain();
+            } else if (result.isUnderflow()) {
+                return;
+            } else {
+                result.throwException();
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        drain();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            pair.clear();
+            if (pendingHighSurrogate != 0) {
+                pair.put(pendingHighSurrogate);
+            }
+            pair.flip();
+            encodeAvailable(pair, true);
+            while (encoder.flush(buffer).isOverflow()) {
+                drain();
+            }
+            drain();
+        } finally {
+            ByteBufferPool.release(buffer);
+            ByteBufferPool.release(encoder);
+            buffer = null;
+            encoder = null;
+            if (closeChannel) {
+                channel.close();
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (buffer == null) {
+            throw new IOException("Writer fermé");
+        }
+    }
+}
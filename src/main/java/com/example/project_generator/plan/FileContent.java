@@ -0,0 +1,14 @@
+package com.example.project_generator.plan;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Contenu texte d'un fichier planifié : le rendu (template FreeMarker, source Java...) n'a lieu
+ * qu'à l'écriture du projet ou à la prévisualisation de ce fichier.
+ */
+@FunctionalInterface
+public interface FileContent {
+
+    void writeTo(Writer writer) throws IOException;
+}
@@ -0,0 +1,206 @@
+package com.example.project_generator.plan;
+
+import com.example.project_generator.output.GeneratedFiles;
+import com.example.project_generator.profiling.FileWriteEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Arborescence d'un projet à générer, en mémoire : chaque fichier est associé à son contenu sans être rendu.
+ * Lister le projet ne coûte rien ; un fichier n'est rendu que lorsqu'on l'écrit ({@link #writeTo(Path)})
+ * ou qu'on le prévisualise ({@link #render(String)}). Les chemins sont relatifs à la racine, séparés par '/'.
+ * Non thread-safe : un plan par génération.
+ */
+public final class ProjectPlan {
+
+    /**
+     * Entrée de l'arborescence telle que renvoyée par la prévisualisation.
+     *
+     * @param binary ressource copiée telle quelle (wrapper Maven), non prévisualisable en texte
+     */
+    public record PlannedFile(String path, boolean executable, boolean binary) {
+    }
+
+    private record Entry(PlannedFile file, FileContent content, String resource) {
+    }
+
+    private final Map<String, Entry> files = new TreeMap<>();
+
+    public ProjectPlan text(String path, FileContent content) {
+        return text(path, content, false);
+    }
+
+    public ProjectPlan text(String path, FileContent content, boolean executable) {
+        String normalized = normalize(path);
+        files.put(normalized, new Entry(new PlannedFile(normalized, executable, false), content, null));
+        return this;
+    }
+
+    public ProjectPlan text(String path, CharSequence content) {
+        return text(path, writer -> writer.append(content));
+    }
+
+    /**
+     * Ajoute une ressource du classpath, recopiée octet pour octet.
+     */
+    public ProjectPlan resource(String path, String resourcePath, boolean executable) {
+        String normalized = normalize(path);
+        files.put(normalized, new Entry(new PlannedFile(normalized, executable, true), null, resourcePath));
+        return this;
+    }
+
+    /**
+     * Copie indépendante du plan (les contenus, non rendus, sont partagés) : un contributeur y travaille
+     * sans toucher au plan de la génération.
+     */
+    public ProjectPlan copy() {
+        ProjectPlan copy = new ProjectPlan();
+        copy.files.putAll(files);
+        return copy;
+    }
+
+    /**
+     * Chemins ajoutés ou remplacés dans {@code derived}, obtenu par {@link #copy()} de ce plan.
+     */
+    public List<String> changesIn(ProjectPlan derived) {
+        List<String> changed = new ArrayList<>();
+        derived.files.forEach((path, entry) -> {
+            if (files.get(path) != entry) {
+                changed.add(path);
+            }
+        });
+        return changed;
+    }
+
+    /**
+     * Reprend un fichier de {@code derived} ; {@code decorator} enveloppe son contenu texte (budget, mesures).
+     */
+    public void adopt(ProjectPlan derived, String path, UnaryOperator<FileContent> decorator) {
+        Entry entry = derived.files.get(normalize(path));
+        if (entry == null) {
+            throw new IllegalArgumentException("Fichier absent du plan : " + path);
+        }
+        FileContent content = entry.content() != null ? decorator.apply(entry.content()) : null;
+        files.put(entry.file().path(), new Entry(entry.file(), content, entry.resource()));
+    }
+
+    public boolean contains(String path) {
+        return files.containsKey(normalize(path));
+    }
+
+    public PlannedFile getFile(String path) {
+        Entry entry = files.get(normalize(path));
+        return entry != null ? entry.file() : null;
+    }
+
+    /**
+     * Arborescence complète triée par chemin, sans rien rendre.
+     */
+    public List<PlannedFile> getFiles() {
+        List<PlannedFile> result = new ArrayList<>(files.size());
+        files.values().forEach(entry -> result.add(entry.file()));
+        return result;
+    }
+
+    /**
+     * Rend un seul fichier texte.
+     */
+    public String render(String path) throws IOException {
+        Entry entry = entry(path);
+        if (entry.content() == null) {
+            throw new IOException("Fichier binaire, pas de rendu texte : " + path);
+        }
+        StringWriter writer = new StringWriter();
+        entry.content().writeTo(writer);
+        return writer.toString();
+    }
+
+    /**
+     * Écrit le contenu d'un seul fichier, texte (UTF-8) ou binaire, sur un flux qui n'est pas fermé.
+     */
+    public void render(String path, OutputStream out) throws IOException {
+        Entry entry = entry(path);
+        if (entry.content() == null) {
+            try (InputStream in = openResource(entry.resource())) {
+                in.transferTo(out);
+            }
+        } else {
+            out.write(render(path).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Matérialise le plan sous {@code root} : répertoires créés une seule fois, textes encodés directement
+     * dans le fichier ({@link GeneratedFiles#newWriter}), ressources recopiées.
+     */
+    public void writeTo(Path root) throws IOException {
+        Set<Path> directories = new HashSet<>();
+        for (Entry entry : files.values()) {
+            Path target = root.resolve(entry.file().path());
+            Path parent = target.getParent();
+            if (parent != null && directories.add(parent)) {
+                Files.createDirectories(parent);
+            }
+            FileWriteEvent event = new FileWriteEvent();
+            event.begin();
+            if (entry.content() != null) {
+                try (Writer writer = GeneratedFiles.newWriter(target)) {
+                    entry.content().writeTo(writer);
+                }
+            } else {
+                try (InputStream in = openResource(entry.resource())) {
+                    Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (entry.file().executable()) {
+                target.toFile().setExecutable(true);
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.path = entry.file().path();
+                event.bytes = Files.size(target);
+                event.commit();
+            }
+        }
+    }
+
+    private Entry entry(String path) throws NoSuchFileException {
+        Entry entry = files.get(normalize(path));
+        if (entry == null) {
+            throw new NoSuchFileException(path);
+        }
+        return entry;
+    }
+
+    private InputStream openResource(String resourcePath) throws IOException {
+        InputStream in = ProjectPlan.class.getClassLoader().getResourceAsStream(resourcePath);
+        if (in == null) {
+            throw new IOException("Resource not found: " + resourcePath);
+        }
+        return in;
+    }
+
+    private static String normalize(String path) {
+        String normalized = path.replace('\\', '/');
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        return normalized;
+    }
+}
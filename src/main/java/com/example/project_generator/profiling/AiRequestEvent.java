@@ -0,0 +1,28 @@
+package com.example.project_generator.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.generator.AiRequest")
+@Label("AI Provider Request")
+@Category({"Project Generator", "AI"})
+public class AiRequestEvent extends jdk.jfr.Event {
+
+    @Label("URL")
+    public String url;
+
+    @Label("Model")
+    public String model;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Response Length")
+    @Description("Longueur de la réponse du modèle, en caractères")
+    public long responseLength;
+
+    @Label("Error")
+    public String error;
+}
@@ -0,0 +1,21 @@
+package com.example.project_generator.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.generator.FileWrite")
+@Label("Generated File Write")
+@Category({"Project Generator", "Output"})
+@StackTrace(false)
+public class FileWriteEvent extends jdk.jfr.Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes;
+}
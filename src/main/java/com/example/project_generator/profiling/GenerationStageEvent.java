@@ -0,0 +1,21 @@
+package com.example.project_generator.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.generator.GenerationStage")
+@Label("Generation Stage")
+@Category({"Project Generator", "Generation"})
+@Description("Étape de generateProject : planification (par section), écriture, vérification")
+@StackTrace(false)
+public class GenerationStageEvent extends jdk.jfr.Event {
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Artifact Id")
+    public String artifactId;
+}
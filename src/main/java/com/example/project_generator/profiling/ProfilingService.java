@@ -0,0 +1,141 @@
+package com.example.project_generator.profiling;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Enregistrements JFR à la demande, bornés en durée et en taille : un seul à la fois, le fichier du dernier
+ * est conservé jusqu'au suivant. Les réglages « profile » du JDK sont utilisés, avec les événements du générateur
+ * ({@code com.example.generator.*}) ; les variables d'environnement et propriétés système (clés d'API)
+ * sont exclues du fichier.
+ */
+@Component
+public class ProfilingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfilingService.class);
+    private static final String RECORDING_NAME = "generator-profiling";
+
+    @Value("${project.profiling.max-duration:10m}")
+    private Duration maxDuration;
+
+    @Value("${project.profiling.max-size:100MB}")
+    private DataSize maxSize;
+
+    @Value("${project.profiling.directory:${java.io.tmpdir}}")
+    private Path directory;
+
+    private Recording recording;
+    private Path destination;
+
+    public static class ProfilingStateException extends RuntimeException {
+        public ProfilingStateException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Démarre un enregistrement ; il s'arrête seul après {@code duration} (plafonnée à
+     * {@code project.profiling.max-duration}) et son fichier est alors disponible.
+     */
+    public synchronized Map<String, Object> start(Duration duration) throws IOException {
+        if (isRunning()) {
+            throw new ProfilingStateException("Un enregistrement est déjà en cours");
+        }
+        discard();
+
+        Duration bounded = duration == null || duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0
+            ? maxDuration
+            : duration;
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration("profile");
+        } catch (ParseException e) {
+            throw new IOException("Réglages JFR « profile » illisibles", e);
+        }
+
+        Files.createDirectories(directory);
+        destination = directory.resolve(RECORDING_NAME + "-" + Instant.now().toEpochMilli() + ".jfr");
+        recording = new Recording(configuration);
+        recording.setName(RECORDING_NAME);
+        recording.disable("jdk.InitialEnvironmentVariable");
+        recording.disable("jdk.InitialSystemProperty");
+        recording.setToDisk(true);
+        recording.setMaxSize(maxSize.toBytes());
+        recording.setDuration(bounded);
+        recording.setDestination(destination);
+        recording.start();
+        log.info("Enregistrement JFR démarré pour {} : {}", bounded, destination);
+        return status();
+    }
+
+    /**
+     * Arrête l'enregistrement en cours ; le fichier est écrit à l'arrêt.
+     */
+    public synchronized Map<String, Object> stop() {
+        if (!isRunning()) {
+            throw new ProfilingStateException("Aucun enregistrement en cours");
+        }
+        recording.stop();
+        log.info("Enregistrement JFR arrêté : {}", destination);
+        return status();
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording != null ? recording.getState().name() : "NONE");
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("duration", recording.getDuration());
+            status.put("maxSize", recording.getMaxSize());
+            status.put("available", getRecordingFile() != null);
+        }
+        return status;
+    }
+
+    /**
+     * Fichier du dernier enregistrement terminé, ou {@code null} s'il n'y en a pas (ou s'il tourne encore).
+     */
+    public synchronized Path getRecordingFile() {
+        if (recording == null || isRunning() || destination == null || !Files.isRegularFile(destination)) {
+            return null;
+        }
+        return destination;
+    }
+
+    private boolean isRunning() {
+        return recording != null
+            && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED);
+    }
+
+    private void discard() throws IOException {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        if (destination != null) {
+            Files.deleteIfExists(destination);
+            destination = null;
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        discard();
+    }
+}
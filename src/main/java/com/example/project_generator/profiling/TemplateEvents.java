@@ -0,0 +1,90 @@
+package com.example.project_generator.profiling;
+
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Rendu FreeMarker instrumenté : un {@link TemplateRenderEvent} par template. Quand l'événement est désactivé
+ * (aucun enregistrement JFR en cours), le rendu n'est pas enveloppé et ne coûte rien de plus.
+ */
+public final class TemplateEvents {
+
+    private TemplateEvents() {
+    }
+
+    public static void process(Template template, Object model, Writer writer) throws TemplateException, IOException {
+        TemplateRenderEvent event = new TemplateRenderEvent();
+        if (!event.isEnabled()) {
+            template.process(model, writer);
+            return;
+        }
+        Utf8CountingWriter counting = new Utf8CountingWriter(writer);
+        event.begin();
+        template.process(model, counting);
+        event.end();
+        if (event.shouldCommit()) {
+            event.template = template.getName();
+            event.bytes = counting.bytes;
+            event.commit();
+        }
+    }
+
+    /**
+     * Compte la taille UTF-8 de ce qui traverse le writer, sans rien encoder.
+     */
+    private static final class Utf8CountingWriter extends Writer {
+
+        private final Writer delegate;
+        private long bytes;
+
+        Utf8CountingWriter(Writer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                count(chars[i]);
+            }
+            delegate.write(chars, offset, length);
+        }
+
+        @Override
+        public void write(String str, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                count(str.charAt(i));
+            }
+            delegate.write(str, offset, length);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            count((char) c);
+            delegate.write(c);
+        }
+
+        private void count(char c) {
+            // Une paire de substitution (4 octets) compte 2 + 2
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                bytes += 2;
+            } else {
+                bytes += 3;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.project_generator.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.generator.TemplateRender")
+@Label("Template Render")
+@Category({"Project Generator", "Rendering"})
+@Description("Rendu d'un template FreeMarker, avec la taille produite en UTF-8")
+@StackTrace(false)
+public class TemplateRenderEvent extends jdk.jfr.Event {
+
+    @Label("Template")
+    public String template;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes;
+}
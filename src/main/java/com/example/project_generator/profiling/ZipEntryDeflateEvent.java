@@ -0,0 +1,28 @@
+package com.example.project_generator.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.generator.ZipEntryDeflate")
+@Label("ZIP Entry Deflate")
+@Category({"Project Generator", "Output"})
+@StackTrace(false)
+public class ZipEntryDeflateEvent extends jdk.jfr.Event {
+
+    @Label("Entry")
+    public String entry;
+
+    @Label("Compression Level")
+    public int level;
+
+    @Label("Size")
+    @DataAmount(DataAmount.BYTES)
+    public long size;
+
+    @Label("Compressed Size")
+    @DataAmount(DataAmount.BYTES)
+    public long compressedSize;
+}
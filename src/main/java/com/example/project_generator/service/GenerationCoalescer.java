@@ -0,0 +1,144 @@
+package com.example.project_generator.service;
+
+import com.example.project_generator.model.CustomProjectRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Regroupe les générations identiques en cours (« single flight ») : la première requête pour une description
+ * donnée fait le travail, les doublons qui arrivent pendant ce temps attendent le même résultat et
+ * partagent ses octets. Rien n'est conservé une fois le résultat rendu : ce n'est pas un cache.
+ */
+@Component
+public class GenerationCoalescer {
+
+    @FunctionalInterface
+    public interface Generation {
+        byte[] run() throws IOException;
+    }
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+    private Counter leaders;
+    private Counter coalesced;
+
+    @PostConstruct
+    void registerMetrics() {
+        leaders = Counter.builder("generator.requests.generated")
+            .description("Générations effectivement exécutées")
+            .register(meterRegistry);
+        coalesced = Counter.builder("generator.requests.coalesced")
+            .description("Requêtes servies par une génération identique déjà en cours")
+            .register(meterRegistry);
+        Gauge.builder("generator.requests.in-flight", inFlight, Map::size)
+            .description("Générations distinctes en cours")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Clé canonique d'une requête : JSON aux clés triées (ensembles et tables compris), complété par les
+     * paramètres qui changent la sortie (format, niveau de compression, tenant), puis condensé en SHA-256.
+     */
+    public String keyOf(CustomProjectRequest request, String... qualifiers) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> canonical = (Map<String, Object>) canonicalize(objectMapper.convertValue(request, Map.class));
+        // Ensemble désérialisé en liste dans un ordre arbitraire
+        if (canonical.get("dependencies") instanceof List<?> dependencies) {
+            List<String> ordered = new ArrayList<>();
+            dependencies.forEach(dependency -> ordered.add(String.valueOf(dependency)));
+            ordered.sort(null);
+            canonical.put("dependencies", ordered);
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(objectMapper.writeValueAsBytes(canonical));
+            for (String qualifier : qualifiers) {
+                digest.update((byte) 0);
+                digest.update(String.valueOf(qualifier).getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Impossible de calculer la clé de la requête", e);
+        }
+    }
+
+    public byte[] execute(String key, Generation generation) throws IOException {
+        CompletableFuture<byte[]> created = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        leaders.increment();
+        try {
+            created.complete(generation.run());
+        } catch (Throwable e) {
+            created.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, created);
+        }
+        return await(created);
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Chaque requête reçoit l'exception d'origine, traitée par les @ExceptionHandler habituels
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Tables triées par clé ; les listes d'entités et de champs gardent leur ordre, qui est significatif.
+     */
+    private static Object canonicalize(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            map.forEach((key, nested) -> sorted.put(String.valueOf(key), canonicalize(nested)));
+            return sorted;
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> items = new ArrayList<>(collection.size());
+            collection.forEach(item -> items.add(canonicalize(item)));
+            return items;
+        }
+        return value;
+    }
+}
@@ -1,23 +1,37 @@
 package com.example.project_generator.service;
 
-import com.example.project_generator.configuration.*;
+import com.example.project_generator.catalog.BuildDependencies;
+import com.example.project_generator.catalog.DependencyCatalog;
+import com.example.project_generator.compatibility.CompatibilityResolver;
+import com.example.project_generator.compatibility.CompatibilityResolver.IncompatibleVersionsException;
+import com.example.project_generator.compatibility.ResolvedVersions;
+import com.example.project_generator.configuration.ArchitectureContributors;
+import com.example.project_generator.contributor.ContributorRegistry;
 import com.example.project_generator.model.CustomProjectDescription;
 import com.example.project_generator.model.FieldDefinition;
+import com.example.project_generator.plan.ProjectPlan;
+import com.example.project_generator.profiling.GenerationStageEvent;
+import com.example.project_generator.profiling.TemplateEvents;
+import com.example.project_generator.source.JavaAnnotation;
+import com.example.project_generator.source.JavaFieldDeclaration;
+import com.example.project_generator.source.JavaMethodDeclaration;
+import com.example.project_generator.source.JavaParameter;
+import com.example.project_generator.source.JavaSourceFile;
+import com.example.project_generator.source.JavaSourceWriter;
+import com.example.project_generator.source.JavaTypeDeclaration;
+import com.example.project_generator.verification.GeneratedSourceVerifier;
+import com.example.project_generator.verification.GeneratedSourceVerifier.VerificationException;
+import com.example.project_generator.verification.GeneratedSourceVerifier.VerifierUnavailableException;
+import com.example.project_generator.workspace.WorkspaceManager;
+import com.example.project_generator.workspace.WorkspaceManager.WorkspaceQuotaExceededException;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import io.spring.initializr.generator.buildsystem.Dependency;
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.Writer;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.TreeSet;
 import java.util.List;
 import java.util.Map;
 
@@ -27,280 +41,452 @@ import java.util.Map;
 @Service
 public class ProjectGenerationService {
 
-    @Value("${project.directory}")
-    private Path projectDirectory;
-
-    @Autowired
-    private DockerFileContributors dockerFileContributors;
-
     @Autowired
-    private DockerComposeContributor dockerComposeContributor;
+    private WorkspaceManager workspaceManager;
 
     @Autowired
     private ArchitectureContributors architectureContributors;
 
     @Autowired
-    private ProjectSocketContributors projectSocketContributors;
+    private ContributorRegistry contributorRegistry;
 
     @Autowired
-    private SubconnectManifestContributors subconnectManifestContributors;
+    private freemarker.template.Configuration freemarkerConfig;
 
-    @Autowired
-    private CICRPluginInContributors cicrPluginInContributors;
 
-    @Autowired
-    private GitLabCIContributor gitLabCIContributor;
 
 
 
+    @Autowired
+    private GeneratedSourceVerifier generatedSourceVerifier;
 
+    @Autowired
+    private DependencyCatalog dependencyCatalog;
 
     @Autowired
-    private Map<String, String> dependencyDescriptions;
+    private CompatibilityResolver compatibilityResolver;
 
     public String generateProject(CustomProjectDescription description) {
+        return generateProject(description, WorkspaceManager.DEFAULT_TENANT);
+    }
+
+    /**
+     * Génère le projet dans un répertoire propre à cet appel : plusieurs générations peuvent
+     * s'exécuter en parallèle (lot CLI, requêtes web simultanées) sans partager de fichiers.
+     * L'appelant libère le répertoire ({@link WorkspaceManager#release}) une fois la sortie produite ;
+     * en cas d'échec il est libéré ici.
+     */
+    public String generateProject(CustomProjectDescription description, String tenant) {
+        Path projectDirectory = null;
+        boolean generated = false;
         try {
-           
-            architectureContributors.configureArchitecture(
-            description.getArchitectureType(), 
-            projectDirectory,
-            description.getGroupId(),
-            description.getArtifactId()
-        );
-        generateMainApplication(description);
-
-        System.out.println("Architecture: " + description.getArchitectureType());
-        System.out.println("Artifact: " + description.getArtifactId());
-           
-            generateBuildFile(description);
-            generateApplicationProperties(description);
-
-            generateEntities(description);
-            generateRestControllers(description);
-            generateServiceAndRepository(description);
-
-           
-            projectSocketContributors.configureSockets();
-
-            
-            if (description.isGenerateDocker()) {
-                dockerFileContributors.setDescription(description);
-                dockerFileContributors.contribute(projectDirectory);
-                dockerComposeContributor.setDescription(description);
-                dockerComposeContributor.contribute(projectDirectory);
+            ProjectPlan plan = planProject(description);
+
+            projectDirectory = workspaceManager.create(tenant, description.getArtifactId());
+            Path root = projectDirectory;
+            stage("write", description, () -> plan.writeTo(root));
+
+            if (description.isVerifyCompilation()) {
+                stage("verify", description, () -> {
+                    List<String> errors = generatedSourceVerifier.verify(root);
+                    if (!errors.isEmpty()) {
+                        throw new VerificationException(errors);
+                    }
+                });
             }
 
-           
-            if (description.isGenerateKubernetes()) {
-                subconnectManifestContributors.generateKubernetesManifests();
+
+            workspaceManager.complete(projectDirectory);
+            generated = true;
+            return projectDirectory.toAbsolutePath().toString();
+
+
+        } catch (VerificationException | VerifierUnavailableException | IncompatibleVersionsException
+                 | WorkspaceQuotaExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ProjectGenerationException("Failed to generate project: " + e.getMessage(), e);
+        } finally {
+            if (!generated && projectDirectory != null) {
+                workspaceManager.release(projectDirectory);
             }
+        }
+    }
 
-           
-            if (description.isGenerateCLCG()) {
-                cicrPluginInContributors.configureCI();
-                gitLabCIContributor.setDescription(description);
-                gitLabCIContributor.contribute(projectDirectory);
+    /**
+     * Construit l'arborescence du projet sans rien rendre ni écrire sur disque : la génération écrit
+     * ensuite tout le plan, la prévisualisation ne rend que le fichier demandé.
+     */
+    public ProjectPlan planProject(CustomProjectDescription description) throws IOException {
+        applyResolvedVersions(description);
+        ProjectPlan plan = new ProjectPlan();
+
+        stage("plan.architecture", description, () -> {
+            architectureContributors.configureArchitecture(
+                description.getArchitectureType(),
+                plan,
+                description.getGroupId(),
+                description.getArtifactId()
+            );
+            generateMainApplication(plan, description);
+        });
+
+        stage("plan.build", description, () -> {
+            generateBuildFile(plan, description);
+            generateApplicationProperties(plan, description);
+        });
+
+        stage("plan.sources", description, () -> {
+            generateEntities(plan, description);
+            generateRestControllers(plan, description);
+            generateServiceAndRepository(plan, description);
+            if (description.isObservability()) {
+                generateObservabilityConfig(plan, description);
             }
+        });
 
-            generateGitFiles();
-            generateDocumentation(description);
+        stage("plan.documentation", description, () -> {
+            generateGitFiles(plan);
+            generateDocumentation(plan, description);
+        });
+        stage("plan.tests", description, () -> {
             if (description.isGenerateTests()) {
-               generateTests(description);   
+                generateTests(plan, description);
             }
+            if (description.isGenerateLoadTests()) {
+                generateLoadTests(plan, description);
+            }
+        });
 
+        // Docker, Kubernetes, CI et extensions tierces : contributeurs ordonnés, sous budget de temps
+        stage("plan.contributors", description, () -> contributorRegistry.contribute(plan, description));
+        return plan;
+    }
 
-            return projectDirectory.toAbsolutePath().toString();
+    @FunctionalInterface
+    private interface Stage {
+        void run() throws IOException;
+    }
 
+    /**
+     * Exécute une étape en émettant un {@link GenerationStageEvent} JFR (sans coût hors enregistrement).
+     */
+    private void stage(String name, CustomProjectDescription description, Stage stage) throws IOException {
+        GenerationStageEvent event = new GenerationStageEvent();
+        event.begin();
+        try {
+            stage.run();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.stage = name;
+                event.artifactId = description.getArtifactId();
+                event.commit();
+            }
+        }
+    }
 
-        } catch (Exception e) {
-            throw new ProjectGenerationException("Failed to generate project: " + e.getMessage(), e);
+    /**
+     * Valide la combinaison Java / Spring Boot / build avant toute écriture et normalise les versions
+     * ("21-ea" devient 21, une ligne "3.4" devient sa dernière version).
+     */
+    private void applyResolvedVersions(CustomProjectDescription description) {
+        ResolvedVersions versions = compatibilityResolver.check(
+            description.getJavaVersion(), description.getSpringBootVersion(), description.getBuildTool());
+        description.setJavaVersion(String.valueOf(versions.javaVersion()));
+        description.setSpringBootVersion(versions.springBootVersion());
+        description.setBuildTool(versions.buildTool());
+        if (description.getMavenVersion() == null) {
+            description.setMavenVersion(versions.mavenVersion());
         }
     }
 
-    private void generateBuildFile(CustomProjectDescription description) throws IOException {
+    private ResolvedVersions resolvedVersions(CustomProjectDescription description) {
+        return compatibilityResolver.resolve(
+            description.getJavaVersion(), description.getSpringBootVersion(), description.getBuildTool());
+    }
+
+    private void generateBuildFile(ProjectPlan plan, CustomProjectDescription description) throws IOException {
         switch (description.getBuildTool()) {
             case "maven":
-                generateMavenPom(description);
+                generateMavenPom(plan, description);
                 break;
             case "gradle-groovy":
-                generateGradleBuildGroovy(description);
+                generateGradleBuildGroovy(plan, description);
                 break;
             case "gradle-kotlin":
-                generateGradleBuildKotlin(description);
+                generateGradleBuildKotlin(plan, description);
                 break;
             default:
-                generateMavenPom(description);
+                generateMavenPom(plan, description);
         }
     }
 
-    private void generateEntities(CustomProjectDescription description) throws IOException {
+    private void generateEntities(ProjectPlan plan, CustomProjectDescription description) throws IOException {
     Map<String, List<FieldDefinition>> entityFieldsMap = description.getEntityFields();
 
     for (String entityName : description.getEntities()) {
         List<FieldDefinition> fields = entityFieldsMap.get(entityName);
         if (fields == null) continue;
 
-        String packageName;
         String packagePath;
 
-        if ("hexagonale".equalsIgnoreCase(description.getArchitectureType())) {
-            // Architecture hexagonale : placer les entités dans domain.model
-            packageName = description.getGroupId() + "." + description.getArtifactId().toLowerCase() + ".domain.model";
-        } else {
-            // Architecture en couches : placer les entités dans artifactId.model
-            packageName = description.getGroupId() + "." + description.getArtifactId().toLowerCase() + ".model";
-        }
+        // Architecture hexagonale : entités dans domain.model ; en couches : dans artifactId.model
+        String packageName = "hexagonale".equalsIgnoreCase(description.getArchitectureType())
+            ? description.getGroupId() + "." + description.getArtifactId().toLowerCase() + ".domain.model"
+            : description.getGroupId() + "." + description.getArtifactId().toLowerCase() + ".model";
 
         packagePath = packageName.replace(".", "/");
-        Path entityPath = projectDirectory.resolve("src/main/java/" + packagePath + "/" + entityName + ".java");
-        Files.createDirectories(entityPath.getParent());
-
-        try (BufferedWriter writer = Files.newBufferedWriter(entityPath)) {
-            writer.write("package " + packageName + ";\n\n");
-            writer.write("import jakarta.persistence.*;\n");
-            writer.write("import lombok.*;\n");
-            writer.write("import java.time.*;\n\n");
+        plan.text("src/main/java/" + packagePath + "/" + entityName + ".java",
+            writer -> writer.append(JavaSourceWriter.render(buildEntity(description, packageName, entityName, fields))));
+    }
+}
 
-            writer.write("@Entity\n@Data\n@NoArgsConstructor\n@AllArgsConstructor\n@Builder\n");
-            writer.write("public class " + entityName + " {\n\n");
 
-            for (FieldDefinition field : fields) {
-                if (field.isPrimaryKey()) {
-                    writer.write("    @Id\n");
-                    writer.write("    @GeneratedValue(strategy = GenerationType.IDENTITY)\n");
-                }
+    private JavaSourceFile buildEntity(CustomProjectDescription description, String packageName,
+                                       String entityName, List<FieldDefinition> fields) {
+        JavaSourceFile file = new JavaSourceFile(packageName);
+        file.importType("java.time.*");
 
-                if (field.isNotNull()) {
-                    writer.write("    @Column(nullable = false)\n");
+        JavaTypeDeclaration type = file.addClass(entityName);
+        if (description.isReactive()) {
+            // R2DBC : pas de JPA, mapping Spring Data Relational
+            type.annotate(JavaAnnotation.of(file.importType("org.springframework.data.relational.core.mapping.Table"))
+                .value(toSnakeCase(entityName)));
+        } else {
+            type.annotate(JavaAnnotation.of(file.importType("jakarta.persistence.Entity")));
+        }
+        type.annotate(JavaAnnotation.of(file.importType("lombok.Data")))
+            .annotate(JavaAnnotation.of(file.importType("lombok.NoArgsConstructor")))
+            .annotate(JavaAnnotation.of(file.importType("lombok.AllArgsConstructor")))
+            .annotate(JavaAnnotation.of(file.importType("lombok.Builder")));
+
+        for (FieldDefinition field : fields) {
+            JavaFieldDeclaration declaration = new JavaFieldDeclaration("private", field.getType(), field.getName());
+            if (field.isPrimaryKey()) {
+                if (description.isReactive()) {
+                    declaration.annotate(JavaAnnotation.of(file.importType("org.springframework.data.annotation.Id")));
+                } else {
+                    declaration.annotate(JavaAnnotation.of(file.importType("jakarta.persistence.Id")))
+                        .annotate(JavaAnnotation.of(file.importType("jakarta.persistence.GeneratedValue"))
+                            .attribute("strategy", file.importType("jakarta.persistence.GenerationType") + ".IDENTITY"));
                 }
-
-                writer.write("    private " + field.getType() + " " + field.getName() + ";\n\n");
             }
 
-            writer.write("}\n");
+            if (field.isNotNull() && !description.isReactive()) {
+                declaration.annotate(JavaAnnotation.of(file.importType("jakarta.persistence.Column"))
+                    .attribute("nullable", "false"));
+            }
+            type.field(declaration);
         }
+        return file;
     }
-}
-
 
-    private void generateMainApplication(CustomProjectDescription description) throws IOException {
+    private void generateMainApplication(ProjectPlan plan, CustomProjectDescription description) throws IOException {
         String className = capitalize(description.getArtifactId()) + "Application";
         String packagePath = description.getGroupId().replace(".", "/") + "/" + description.getArtifactId().toLowerCase();
         String packageName = description.getGroupId() + "." + description.getArtifactId().toLowerCase();
 
-        Path mainPath = projectDirectory.resolve("src/main/java/" + packagePath);
-        Files.createDirectories(mainPath);
-
-        Path appFile = mainPath.resolve(className + ".java");
-        if (!Files.exists(appFile)) {
-          String content = "package " + packageName + ";\n\n"
-            + "import org.springframework.boot.SpringApplication;\n"
-            + "import org.springframework.boot.autoconfigure.SpringBootApplication;\n\n"
-            + "@SpringBootApplication\n"
-            + "public class " + className + " {\n"
-            + "    public static void main(String[] args) {\n"
-            + "        SpringApplication.run(" + className + ".class, args);\n"
-            + "    }\n"
-            + "}\n";
-          Files.write(appFile, content.getBytes());
+        String appFile = "src/main/java/" + packagePath + "/" + className + ".java";
+        if (!plan.contains(appFile)) {
+          plan.text(appFile, writer -> {
+            JavaSourceFile file = new JavaSourceFile(packageName);
+            file.addClass(className)
+              .annotate(JavaAnnotation.of(file.importType("org.springframework.boot.autoconfigure.SpringBootApplication")))
+              .method(new JavaMethodDeclaration("public static", "void", "main")
+                  .parameter(new JavaParameter("String[]", "args"))
+                  .body(file.importType("org.springframework.boot.SpringApplication") + ".run(" + className + ".class, args);"));
+            writer.append(JavaSourceWriter.render(file));
+          });
         }
     }
 
 
-    private void generateMavenPom(CustomProjectDescription description) throws IOException {
+    private void generateMavenPom(ProjectPlan plan, CustomProjectDescription description) throws IOException {
         if (description.getDependencies() == null) {
-           description.setDependencies(new HashSet<>());
+           description.setDependencies(new TreeSet<>());
         }
 
         Map<String, Object> model = new HashMap<>();
         model.put("description", description);
         model.put("mavenVersion", description.getMavenVersion());
+        model.put("build", buildDependencies(description));
 
 
-        Path pomPath = projectDirectory.resolve("pom.xml");
-        generateFromTemplate("pom.xml.ftl", model, pomPath);
+        generateFromTemplate(plan, "pom.xml.ftl", model, "pom.xml");
 
-        copyResourceToFile("maven-wrapper/mvnw", projectDirectory.resolve("mvnw"));
-        copyResourceToFile("maven-wrapper/mvnw.cmd", projectDirectory.resolve("mvnw.cmd"));
-        copyResourceToFile("maven-wrapper/.mvn/wrapper/maven-wrapper.jar", projectDirectory.resolve(".mvn/wrapper/maven-wrapper.jar"));
-        generateFromTemplate("maven-wrapper.properties.ftl", model, projectDirectory.resolve(".mvn/wrapper/maven-wrapper.properties"));
-
-        if (!System.getProperty("os.name").toLowerCase().contains("win")) {
-           projectDirectory.resolve("mvnw").toFile().setExecutable(true);
-        }
+        plan.resource("mvnw", "maven-wrapper/mvnw", true);
+        plan.resource("mvnw.cmd", "maven-wrapper/mvnw.cmd", false);
+        plan.resource(".mvn/wrapper/maven-wrapper.jar", "maven-wrapper/.mvn/wrapper/maven-wrapper.jar", false);
+        generateFromTemplate(plan, "maven-wrapper.properties.ftl", model, ".mvn/wrapper/maven-wrapper.properties");
     }
 
 
-     private void generateGradleBuildGroovy(CustomProjectDescription description) throws IOException {
+     private void generateGradleBuildGroovy(ProjectPlan plan, CustomProjectDescription description) throws IOException {
         Map<String, Object> model = new HashMap<>();
         model.put("groupId", description.getGroupId());
         model.put("artifactId", description.getArtifactId());
         model.put("javaVersion", description.getJavaVersion());
-        model.put("springBootVersion", "3.2.5");
-        model.put("dependencies", description.getRequestedDependencies());
-
-        generateFromTemplate("build.gradle.ftl", model, projectDirectory.resolve("build.gradle"));
-        generateFromTemplate("settings.gradle.ftl", model, projectDirectory.resolve("settings.gradle"));
+        model.put("springBootVersion", description.getSpringBootVersion());
+        model.put("dependencyManagementPluginVersion", resolvedVersions(description).dependencyManagementPluginVersion());
+        model.put("build", buildDependencies(description));
+        model.put("packageName", description.getPackageName());
+        model.put("generateLoadTests", description.isGenerateLoadTests());
+        model.put("ciBenchmarks", description.isCiBenchmarks() && description.isGenerateCLCG());
+
+        generateFromTemplate(plan, "build.gradle.ftl", model, "build.gradle");
+        generateFromTemplate(plan, "settings.gradle.ftl", model, "settings.gradle");
     }
 
 
 
 
-    private void generateApplicationProperties(CustomProjectDescription description) throws IOException {
-        Path resourcesPath = projectDirectory.resolve("src/main/resources");
-        Files.createDirectories(resourcesPath);
-
-        Path propertiesFile = resourcesPath.resolve("application.properties");
-
+    private void generateApplicationProperties(ProjectPlan plan, CustomProjectDescription description) throws IOException {
         String content = "server.port=" + description.getPort() + "\n"
                    + "spring.profiles.active=" + description.getProfile() + "\n";
 
-        Files.write(propertiesFile, content.getBytes());
+        if (description.isReactive()) {
+            String database = description.getArtifactId().toLowerCase().replaceAll("[^a-z0-9]", "");
+            content += "\n"
+                   + "spring.r2dbc.url=r2dbc:h2:mem:///" + database + "db\n"
+                   + "spring.r2dbc.pool.enabled=true\n"
+                   + "spring.r2dbc.pool.initial-size=10\n"
+                   + "spring.r2dbc.pool.max-size=20\n"
+                   + "spring.r2dbc.pool.max-idle-time=30m\n"
+                   + "spring.r2dbc.pool.validation-query=SELECT 1\n"
+                   + "spring.sql.init.mode=always\n";
+        }
+
+        if (description.isGenerateKubernetes()) {
+            content += "\n"
+                   + "management.endpoint.health.probes.enabled=true\n"
+                   + "server.shutdown=graceful\n";
+        }
+
+        if (description.isObservability()) {
+            content += "\n"
+                   + "management.endpoints.web.exposure.include=health,info,metrics,prometheus\n"
+                   + "management.metrics.tags.application=" + description.getArtifactId() + "\n"
+                   + "management.metrics.distribution.percentiles-histogram.http.server.requests=true\n";
+            if (!description.isReactive()) {
+                content += "spring.datasource.hikari.register-mbeans=true\n"
+                       + "spring.jpa.properties.hibernate.generate_statistics=true\n";
+            }
+        }
+
+        plan.text("src/main/resources/application.properties", content);
+
+        if (description.isReactive()) {
+            generateSchema(plan, description, "src/main/resources/schema.sql");
+        }
+    }
+
+    // R2DBC ne crée pas les tables : on génère le DDL équivalent aux entités
+    private void generateSchema(ProjectPlan plan, CustomProjectDescription description, String schemaPath) throws IOException {
+        List<Map<String, Object>> tables = new ArrayList<>();
+        for (String entity : description.getEntities()) {
+            List<FieldDefinition> fields = description.getEntityFields().get(entity);
+            if (fields == null) continue;
+
+            List<String> columns = new ArrayList<>();
+            for (FieldDefinition field : fields) {
+                String column = toSnakeCase(field.getName()) + " " + toSqlType(field.getType());
+                if (field.isPrimaryKey()) {
+                    boolean numeric = "Long".equals(field.getType()) || "Integer".equals(field.getType());
+                    column += numeric ? " AUTO_INCREMENT PRIMARY KEY" : " PRIMARY KEY";
+                } else if (field.isNotNull()) {
+                    column += " NOT NULL";
+                }
+                columns.add(column);
+            }
+            tables.add(Map.of("name", toSnakeCase(entity), "columns", columns));
+        }
+        generateFromTemplate(plan, "schema.sql.ftl", Map.of("tables", tables), schemaPath);
+    }
+
+    private String toSqlType(String javaType) {
+        return switch (javaType) {
+            case "Long", "long" -> "BIGINT";
+            case "Integer", "int" -> "INT";
+            case "Boolean", "boolean" -> "BOOLEAN";
+            case "Double", "double" -> "DOUBLE";
+            case "Float", "float" -> "REAL";
+            case "BigDecimal" -> "DECIMAL(19, 2)";
+            case "LocalDate" -> "DATE";
+            case "LocalDateTime" -> "TIMESTAMP";
+            case "Instant" -> "TIMESTAMP WITH TIME ZONE";
+            case "UUID" -> "UUID";
+            default -> "VARCHAR(255)";
+        };
+    }
+
+    private String toSnakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
     }
 
 
-    private void generateGitFiles() throws IOException {
+    private void generateGitFiles(ProjectPlan plan) throws IOException {
         Map<String, Object> model = new HashMap<>(); 
 
-        generateFromTemplate("gitignore.ftl", model, projectDirectory.resolve(".gitignore"));
-        generateFromTemplate("gitattributes.ftl", model, projectDirectory.resolve(".gitattributes"));
+        generateFromTemplate(plan, "gitignore.ftl", model, ".gitignore");
+        generateFromTemplate(plan, "gitattributes.ftl", model, ".gitattributes");
     }
 
 
 
 
-    private void generateGradleBuildKotlin(CustomProjectDescription description) throws IOException {
+    private void generateGradleBuildKotlin(ProjectPlan plan, CustomProjectDescription description) throws IOException {
         Map<String, Object> model = new HashMap<>();
         model.put("groupId", description.getGroupId());
         model.put("artifactId", description.getArtifactId());
         model.put("javaVersion", description.getJavaVersion());
-        model.put("springBootVersion", "3.2.5");
-        model.put("dependencies", description.getRequestedDependencies());
-
-        generateFromTemplate("build.gradle.kts.ftl", model, projectDirectory.resolve("build.gradle.kts"));
-        generateFromTemplate("settings.gradle.kts.ftl", model, projectDirectory.resolve("settings.gradle.kts"));
+        model.put("springBootVersion", description.getSpringBootVersion());
+        model.put("dependencyManagementPluginVersion", resolvedVersions(description).dependencyManagementPluginVersion());
+        model.put("build", buildDependencies(description));
+        model.put("packageName", description.getPackageName());
+        model.put("generateLoadTests", description.isGenerateLoadTests());
+        model.put("ciBenchmarks", description.isCiBenchmarks() && description.isGenerateCLCG());
+
+        generateFromTemplate(plan, "build.gradle.kts.ftl", model, "build.gradle.kts");
+        generateFromTemplate(plan, "settings.gradle.kts.ftl", model, "settings.gradle.kts");
     }
 
-    private void generateFromTemplate(String templateName, Map<String, Object> model, Path outputPath) throws IOException {
-        try (Writer writer = Files.newBufferedWriter(outputPath)) {
-            freemarker.template.Configuration cfg = new freemarker.template.Configuration(freemarker.template.Configuration.VERSION_2_3_32);
-            cfg.setClassLoaderForTemplateLoading(getClass().getClassLoader(), "templates");
-            freemarker.template.Template template = cfg.getTemplate(templateName);
-            template.process(model, writer);
-        } catch (Exception e) {
-            throw new IOException("Failed to generate from template: " + templateName, e);
+    private BuildDependencies buildDependencies(CustomProjectDescription description) {
+        List<String> features = new ArrayList<>();
+        features.add("base");
+        if (description.isReactive()) {
+            // WebFlux + R2DBC remplacent Spring MVC + JPA
+            features.add("reactive");
         }
+        if (description.isObservability() || description.isGenerateKubernetes()) {
+            features.add("actuator");
+        }
+        if (description.isObservability()) {
+            features.add("observability");
+        }
+        if (description.isCiBenchmarks() && description.isGenerateCLCG()) {
+            features.add("benchmarks");
+        }
+        BuildDependencies dependencies =
+            dependencyCatalog.resolve(description.getDependencies(), features, description.getSpringBootVersion());
+        // Lombok géré par Spring Boot trop ancien pour la version de Java demandée
+        String lombokVersion = resolvedVersions(description).lombokVersion();
+        return lombokVersion != null ? dependencies.withVersion("lombok", lombokVersion) : dependencies;
     }
 
-    private void copyResourceToFile(String resourcePath, Path targetPath) throws IOException {
-    try (InputStream in = getClass().getClassLoader().getResourceAsStream(resourcePath)) {
-        if (in == null) {
-            throw new IOException("Resource not found: " + resourcePath);
-        }
-        Files.createDirectories(targetPath.getParent());
-        Files.copy(in, targetPath, StandardCopyOption.REPLACE_EXISTING);
+    /**
+     * Planifie le rendu d'un template : il n'est traité qu'à l'écriture ou à la prévisualisation du fichier.
+     */
+    private void generateFromTemplate(ProjectPlan plan, String templateName, Map<String, Object> model, String outputPath) {
+        plan.text(outputPath, writer -> {
+            try {
+                freemarker.template.Template template = freemarkerConfig.getTemplate(templateName);
+                TemplateEvents.process(template, model, writer);
+            } catch (Exception e) {
+                throw new IOException("Failed to generate from template: " + templateName, e);
+            }
+        });
     }
-}
 
 
 private String capitalize(String str) {
@@ -311,68 +497,7 @@ private String capitalize(String str) {
 
  
 
-private void addMavenDependencies(Map<String, Dependency> requestedDeps) throws IOException {
-    
-    Path pomPath = projectDirectory.resolve("pom.xml");
-
-    
-    try (BufferedReader reader = Files.newBufferedReader(pomPath)) {
-        StringBuilder content = new StringBuilder();
-        String line;
-        while ((line = reader.readLine()) != null) {
-            content.append(line).append(System.lineSeparator());
-        }
-
-        
-        for (Map.Entry<String, Dependency> entry : requestedDeps.entrySet()) {
-            Dependency dep = entry.getValue();
-            content.append("<dependency>").append(System.lineSeparator())
-                   .append("    <groupId>").append(dep.getGroupId()).append("</groupId>").append(System.lineSeparator())
-                   .append("    <artifactId>").append(dep.getArtifactId()).append("</artifactId>").append(System.lineSeparator())
-                   .append("    <version>").append(dep.getVersion()).append("</version>").append(System.lineSeparator())
-                   .append("</dependency>").append(System.lineSeparator());
-        }
-
-        
-        try (BufferedWriter writer = Files.newBufferedWriter(pomPath)) {
-            writer.write(content.toString());
-        }
-    } catch (IOException e) {
-        throw new IOException("Failed to update pom.xml with dependencies", e);
-    }
-}
-
-private void addGradleDependencies(Map<String, Dependency> requestedDeps, String buildTool) throws IOException {
-    
-    Path gradlePath = projectDirectory.resolve(buildTool.equals("gradle-groovy") ? "build.gradle" : "build.gradle.kts");
-
-    StringBuilder content = new StringBuilder();
-    for (Map.Entry<String, Dependency> entry : requestedDeps.entrySet()) {
-        Dependency dep = entry.getValue();
-        if (buildTool.equals("gradle-groovy")) {
-            content.append("implementation '").append(dep.getGroupId()).append(":").append(dep.getArtifactId()).append(":").append(dep.getVersion()).append("'").append(System.lineSeparator());
-        } else {
-            content.append("implementation(\"").append(dep.getGroupId()).append(":").append(dep.getArtifactId()).append(":").append(dep.getVersion()).append("\")").append(System.lineSeparator());
-        }
-    }
-
-    
-    try (BufferedReader reader = Files.newBufferedReader(gradlePath)) {
-        String line;
-        while ((line = reader.readLine()) != null) {
-            content.append(line).append(System.lineSeparator());
-        }
-
-    
-        try (BufferedWriter writer = Files.newBufferedWriter(gradlePath)) {
-            writer.write(content.toString());
-        }
-    } catch (IOException e) {
-        throw new IOException("Failed to update build.gradle with dependencies", e);
-    }
-}
-
-    private void generateDocumentation(CustomProjectDescription description) throws IOException {
+    private void generateDocumentation(ProjectPlan plan, CustomProjectDescription description) throws IOException {
    
         Map<String, Object> readmeModel = new HashMap<>();
         readmeModel.put("name", description.getName());
@@ -384,11 +509,15 @@ private void addGradleDependencies(Map<String, Dependency> requestedDeps, String
         readmeModel.put("architectureType", description.getArchitectureType());
         readmeModel.put("port", description.getPort());
         readmeModel.put("groupId", description.getGroupId());
+        readmeModel.put("generateLoadTests", description.isGenerateLoadTests());
+        readmeModel.put("rps", description.getLoadTestRps());
+        readmeModel.put("durationSeconds", description.getLoadTestDurationSeconds());
+        readmeModel.put("p99Millis", description.getLoadTestP99Millis());
 
-        generateFromTemplate("Readme.md.ftl", readmeModel, projectDirectory.resolve("README.md"));
+        generateFromTemplate(plan, "Readme.md.ftl", readmeModel, "README.md");
     }
 
-    private void generateRestControllers(CustomProjectDescription description) throws IOException {
+    private void generateRestControllers(ProjectPlan plan, CustomProjectDescription description) throws IOException {
        Map<String, List<FieldDefinition>> fieldsMap = description.getEntityFields();
        String architecture = description.getArchitectureType();
        String groupId = description.getGroupId();
@@ -432,44 +561,123 @@ private void addGradleDependencies(Map<String, Dependency> requestedDeps, String
                 modelPackageName = groupId + "." + artifactId + ".model";
             }
 
+            String servicePackageName = "hexagonale".equalsIgnoreCase(architecture)
+                ? groupId + "." + artifactId + ".application.service"
+                : groupId + "." + artifactId + ".service";
+
             String controllerClassName = entity + "Controller";
-            Path controllerPath = projectDirectory.resolve("src/main/java/" + controllerPackagePath + "/" + controllerClassName + ".java");
-            Files.createDirectories(controllerPath.getParent());
-
-            String content = "package " + controllerPackageName + ";\n\n" +
-               "import org.springframework.web.bind.annotation.*;\n" +
-               "import " + modelPackageName + "." + entity + ";\n" +
-               "import java.util.*;\n\n" +
-               "@RestController\n" +
-               "@RequestMapping(\"/" + entity.toLowerCase() + "s\")\n" +
-               "public class " + controllerClassName + " {\n\n" +
-               "    @GetMapping\n" +
-               "    public List<" + entity + "> getAll() {\n" +
-               "        return new ArrayList<>();\n" +
-               "    }\n\n" +
-               "    @PostMapping\n" +
-               "    public " + entity + " create(@RequestBody " + entity + " obj) {\n" +
-               "        return obj;\n" +
-               "    }\n\n" +
-               "    @GetMapping(\"/{" + idName + "}\")\n" +
-               "    public " + entity + " getById(@PathVariable " + idType + " " + idName + ") {\n" +
-               "        return new " + entity + "();\n" +
-               "    }\n\n" +
-               "    @PutMapping(\"/{" + idName + "}\")\n" +
-               "    public " + entity + " update(@PathVariable " + idType + " " + idName + ", @RequestBody " + entity + " obj) {\n" +
-               "        obj.set" + capitalize(idName) + "(" + idName + ");\n" +
-               "        return obj;\n" +
-               "    }\n\n" +
-               "    @DeleteMapping(\"/{" + idName + "}\")\n" +
-               "    public void delete(@PathVariable " + idType + " " + idName + ") {\n" +
-               "    }\n" +
-               "}\n";
-
-            Files.write(controllerPath, content.getBytes());
+            String controllerPath = "src/main/java/" + controllerPackagePath + "/" + controllerClassName + ".java";
+            String controllerPackage = controllerPackageName;
+            String modelPackage = modelPackageName;
+
+            plan.text(controllerPath, writer -> writer.append(JavaSourceWriter.render(description.isReactive()
+                ? buildReactiveController(description, entity, controllerClassName, controllerPackage,
+                    modelPackage, servicePackageName, idType, idName)
+                : buildController(description, entity, controllerClassName, controllerPackage,
+                    modelPackage, idType, idName))));
         }
     }
 }
-    private void generateServiceAndRepository(CustomProjectDescription description) throws IOException {
+
+    private JavaSourceFile buildController(CustomProjectDescription description, String entity, String controllerClassName,
+                                           String controllerPackageName, String modelPackageName,
+                                           String idType, String idName) {
+        JavaSourceFile file = new JavaSourceFile(controllerPackageName);
+        file.importType(modelPackageName + "." + entity);
+        String list = file.importType("java.util.List");
+
+        JavaTypeDeclaration type = startController(description, file, entity, controllerClassName);
+        type.method(new JavaMethodDeclaration("public", list + "<" + entity + ">", "getAll")
+                .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.GetMapping")))
+                .body("return new " + file.importType("java.util.ArrayList") + "<>();"))
+            .method(new JavaMethodDeclaration("public", entity, "create")
+                .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.PostMapping")))
+                .parameter(requestBody(file, entity))
+                .body("return obj;"))
+            .method(new JavaMethodDeclaration("public", entity, "getById")
+                .annotate(idMapping(file, "GetMapping", idName))
+                .parameter(pathVariable(file, idType, idName))
+                .body("return new " + entity + "();"))
+            .method(new JavaMethodDeclaration("public", entity, "update")
+                .annotate(idMapping(file, "PutMapping", idName))
+                .parameter(pathVariable(file, idType, idName))
+                .parameter(requestBody(file, entity))
+                .body("obj.set" + capitalize(idName) + "(" + idName + ");", "return obj;"))
+            .method(new JavaMethodDeclaration("public", "void", "delete")
+                .annotate(idMapping(file, "DeleteMapping", idName))
+                .parameter(pathVariable(file, idType, idName)));
+        return file;
+    }
+
+    private JavaSourceFile buildReactiveController(CustomProjectDescription description, String entity, String controllerClassName,
+                                                   String controllerPackageName, String modelPackageName,
+                                                   String servicePackageName, String idType, String idName) {
+        JavaSourceFile file = new JavaSourceFile(controllerPackageName);
+        file.importType(modelPackageName + "." + entity);
+        String serviceClassName = file.importType(servicePackageName + "." + entity + "Service");
+        String flux = file.importType("reactor.core.publisher.Flux");
+        String mono = file.importType("reactor.core.publisher.Mono");
+        String mediaType = file.importType("org.springframework.http.MediaType");
+
+        JavaTypeDeclaration type = startController(description, file, entity, controllerClassName);
+        type.field(new JavaFieldDeclaration("private final", serviceClassName, "service"))
+            .method(JavaMethodDeclaration.constructor("public", controllerClassName)
+                .parameter(new JavaParameter(serviceClassName, "service"))
+                .body("this.service = service;"))
+            .method(new JavaMethodDeclaration("public", flux + "<" + entity + ">", "getAll")
+                .comment("application/x-ndjson diffuse les lignes au fil de l'eau en respectant la demande du client")
+                .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.GetMapping"))
+                    .attribute("produces", "{" + mediaType + ".APPLICATION_NDJSON_VALUE, " + mediaType + ".APPLICATION_JSON_VALUE}"))
+                .body("return service.findAll().limitRate(256);"))
+            .method(new JavaMethodDeclaration("public", mono + "<" + entity + ">", "create")
+                .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.PostMapping")))
+                .parameter(requestBody(file, entity))
+                .body("return service.save(obj);"))
+            .method(new JavaMethodDeclaration("public", mono + "<" + entity + ">", "getById")
+                .annotate(idMapping(file, "GetMapping", idName))
+                .parameter(pathVariable(file, idType, idName))
+                .body("return service.findById(" + idName + ");"))
+            .method(new JavaMethodDeclaration("public", mono + "<" + entity + ">", "update")
+                .annotate(idMapping(file, "PutMapping", idName))
+                .parameter(pathVariable(file, idType, idName))
+                .parameter(requestBody(file, entity))
+                .body("obj.set" + capitalize(idName) + "(" + idName + ");", "return service.save(obj);"))
+            .method(new JavaMethodDeclaration("public", mono + "<Void>", "delete")
+                .annotate(idMapping(file, "DeleteMapping", idName))
+                .parameter(pathVariable(file, idType, idName))
+                .body("return service.deleteById(" + idName + ");"));
+        return file;
+    }
+
+    private JavaTypeDeclaration startController(CustomProjectDescription description, JavaSourceFile file,
+                                                String entity, String controllerClassName) {
+        JavaTypeDeclaration type = file.addClass(controllerClassName)
+            .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.RestController")));
+        if (description.isObservability()) {
+            type.annotate(JavaAnnotation.of(file.importType("io.micrometer.core.annotation.Timed"))
+                .stringAttribute("value", "http.controller." + entity.toLowerCase())
+                .attribute("histogram", "true"));
+        }
+        return type.annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.RequestMapping"))
+            .value("/" + entity.toLowerCase() + "s"));
+    }
+
+    private JavaAnnotation idMapping(JavaSourceFile file, String mapping, String idName) {
+        return JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation." + mapping))
+            .value("/{" + idName + "}");
+    }
+
+    private JavaParameter pathVariable(JavaSourceFile file, String idType, String idName) {
+        return new JavaParameter(idType, idName)
+            .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.PathVariable")));
+    }
+
+    private JavaParameter requestBody(JavaSourceFile file, String entity) {
+        return new JavaParameter(entity, "obj")
+            .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.RequestBody")));
+    }
+
+    private void generateServiceAndRepository(ProjectPlan plan, CustomProjectDescription description) throws IOException {
     Map<String, List<FieldDefinition>> entityFieldsMap = description.getEntityFields();
     String groupId = description.getGroupId();
     String artifactId = description.getArtifactId().toLowerCase();
@@ -523,75 +731,117 @@ private void addGradleDependencies(Map<String, Dependency> requestedDeps, String
         model.put("repositoryPackage", repositoryPackage);
         model.put("servicePackage", servicePackage);
         model.put("modelPackage", modelPackage);
+        model.put("observability", description.isObservability());
+        model.put("reactive", description.isReactive());
 
         // Générer le repository
-        Path repoPath = projectDirectory.resolve("src/main/java/" + repositoryPackagePath + "/" + entity + "Repository.java");
-        generateFromTemplate("Repository.java.ftl", model, repoPath);
+        generateFromTemplate(plan, "Repository.java.ftl", model,
+            "src/main/java/" + repositoryPackagePath + "/" + entity + "Repository.java");
 
         // Générer le service
-        Path servicePath = projectDirectory.resolve("src/main/java/" + servicePackagePath + "/" + entity + "Service.java");
-        generateFromTemplate("Service.java.ftl", model, servicePath);
+        generateFromTemplate(plan, "Service.java.ftl", model,
+            "src/main/java/" + servicePackagePath + "/" + entity + "Service.java");
     }
 }
 
-private void generateTests(CustomProjectDescription description) throws IOException {
+private void generateTests(ProjectPlan plan, CustomProjectDescription description) throws IOException {
     String basePath = description.getGroupId().replace(".", "/") + "/" + description.getArtifactId().toLowerCase();
-    Path testPath = projectDirectory.resolve("src/test/java/" + basePath);
-
-    if (!Files.exists(testPath)) {
-        Files.createDirectories(testPath);
-    }
+    String testPath = "src/test/java/" + basePath + "/";
 
     for (String entity : description.getEntities()) {
         // === 1. Entity test ===
-        Path entityTestPath = testPath.resolve("model/" + entity + "Test.java");
-        Files.createDirectories(entityTestPath.getParent());
-        generateFromTemplate("EntityTest.java.ftl", Map.of(
+        generateFromTemplate(plan, "EntityTest.java.ftl", Map.of(
             "packageName", description.getPackageName(),
             "entityName", entity
-        ), entityTestPath);
+        ), testPath + "model/" + entity + "Test.java");
 
         // === 2. Controller test ===
         if (Boolean.TRUE.equals(description.getRestEndpoints().get(entity))) {
-            Path controllerTestPath;
+            String controllerTestPath;
             String controllerPackage;
 
             if ("hexagonale".equalsIgnoreCase(description.getArchitectureType())) {
                 controllerPackage = description.getPackageName() + ".infrastructure.rest";
-                controllerTestPath = testPath.resolve("infrastructure/rest/" + entity + "ControllerTest.java");
+                controllerTestPath = testPath + "infrastructure/rest/" + entity + "ControllerTest.java";
             } else {
                 controllerPackage = description.getPackageName() + ".controller";
-                controllerTestPath = testPath.resolve("controller/" + entity + "ControllerTest.java");
+                controllerTestPath = testPath + "controller/" + entity + "ControllerTest.java";
             }
 
-            Files.createDirectories(controllerTestPath.getParent());
-            generateFromTemplate("ControllerTest.java.ftl", Map.of(
+            generateFromTemplate(plan, "ControllerTest.java.ftl", Map.of(
                 "packageName", controllerPackage,
                 "entityName", entity,
-                "architecture", description.getArchitectureType()
+                "architecture", description.getArchitectureType(),
+                "reactive", description.isReactive()
             ), controllerTestPath);
         }
 
         // === 3. Service test ===
-        Path serviceTestPath;
+        String serviceTestPath;
         String servicePackage;
 
         if ("hexagonale".equalsIgnoreCase(description.getArchitectureType())) {
             servicePackage = description.getPackageName() + ".application.service";
-            serviceTestPath = testPath.resolve("application/service/" + entity + "ServiceTest.java");
+            serviceTestPath = testPath + "application/service/" + entity + "ServiceTest.java";
         } else {
             servicePackage = description.getPackageName() + ".service";
-            serviceTestPath = testPath.resolve("service/" + entity + "ServiceTest.java");
+            serviceTestPath = testPath + "service/" + entity + "ServiceTest.java";
         }
 
-        Files.createDirectories(serviceTestPath.getParent());
-        generateFromTemplate("ServiceTest.java.ftl", Map.of(
+        generateFromTemplate(plan, "ServiceTest.java.ftl", Map.of(
             "packageName", servicePackage,
-            "entityName", entity
+            "entityName", entity,
+            "reactive", description.isReactive()
         ), serviceTestPath);
     }
 }
 
+private void generateObservabilityConfig(ProjectPlan plan, CustomProjectDescription description) throws IOException {
+    String configPackage = "hexagonale".equalsIgnoreCase(description.getArchitectureType())
+        ? description.getPackageName() + ".infrastructure.config"
+        : description.getPackageName() + ".config";
+
+    generateFromTemplate(plan, "ObservabilityConfig.java.ftl", Map.of("configPackage", configPackage),
+        "src/main/java/" + configPackage.replace(".", "/") + "/ObservabilityConfig.java");
+}
+
+private void generateLoadTests(ProjectPlan plan, CustomProjectDescription description) throws IOException {
+    String basePath = description.getGroupId().replace(".", "/") + "/" + description.getArtifactId().toLowerCase();
+    String loadTestPath = "src/test/java/" + basePath + "/loadtest/";
+
+    List<String> restEntities = new ArrayList<>();
+    for (String entity : description.getEntities()) {
+        if (!Boolean.TRUE.equals(description.getRestEndpoints().get(entity))) continue;
+
+        List<FieldDefinition> fields = description.getEntityFields().get(entity);
+        String idType = fields == null ? "Long" : fields.stream()
+            .filter(FieldDefinition::isPrimaryKey)
+            .map(FieldDefinition::getType)
+            .findFirst()
+            .orElse("Long");
+
+        Map<String, Object> model = new HashMap<>();
+        model.put("packageName", description.getPackageName());
+        model.put("entityName", entity);
+        model.put("path", entity.toLowerCase() + "s");
+        model.put("sampleId", "UUID".equals(idType) ? "00000000-0000-0000-0000-000000000001" : "1");
+        generateFromTemplate(plan, "LoadTest.java.ftl", model, loadTestPath + entity + "LoadTest.java");
+        restEntities.add(entity);
+    }
+
+    if (restEntities.isEmpty()) return;
+
+    Map<String, Object> model = new HashMap<>();
+    model.put("packageName", description.getPackageName());
+    model.put("entities", restEntities);
+    model.put("port", description.getPort() != null ? description.getPort() : 8080);
+    model.put("rps", description.getLoadTestRps());
+    model.put("durationSeconds", description.getLoadTestDurationSeconds());
+    model.put("p99Millis", description.getLoadTestP99Millis());
+    generateFromTemplate(plan, "LoadTestResult.java.ftl", model, loadTestPath + "LoadTestResult.java");
+    generateFromTemplate(plan, "LoadTestMain.java.ftl", model, loadTestPath + "LoadTestMain.java");
+}
+
     public static class ProjectGenerationException extends RuntimeException {
         public ProjectGenerationException(String message, Throwable cause) {
             super(message, cause);
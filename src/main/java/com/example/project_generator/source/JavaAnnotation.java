@@ -0,0 +1,42 @@
+package com.example.project_generator.source;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Annotation Java : nom simple et attributs, dont les valeurs sont des expressions Java brutes.
+ */
+public class JavaAnnotation {
+
+    private final String name;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+
+    private JavaAnnotation(String name) {
+        this.name = name;
+    }
+
+    public static JavaAnnotation of(String name) {
+        return new JavaAnnotation(name);
+    }
+
+    public JavaAnnotation attribute(String attributeName, String expression) {
+        attributes.put(attributeName, expression);
+        return this;
+    }
+
+    public JavaAnnotation stringAttribute(String attributeName, String value) {
+        return attribute(attributeName, JavaSourceWriter.quote(value));
+    }
+
+    public JavaAnnotation value(String value) {
+        return stringAttribute("value", value);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+}
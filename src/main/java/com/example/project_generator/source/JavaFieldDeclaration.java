@@ -0,0 +1,39 @@
+package com.example.project_generator.source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class JavaFieldDeclaration {
+
+    private final String modifiers;
+    private final String type;
+    private final String name;
+    private final List<JavaAnnotation> annotations = new ArrayList<>();
+
+    public JavaFieldDeclaration(String modifiers, String type, String name) {
+        this.modifiers = modifiers;
+        this.type = type;
+        this.name = name;
+    }
+
+    public JavaFieldDeclaration annotate(JavaAnnotation annotation) {
+        annotations.add(annotation);
+        return this;
+    }
+
+    public String getModifiers() {
+        return modifiers;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<JavaAnnotation> getAnnotations() {
+        return annotations;
+    }
+}
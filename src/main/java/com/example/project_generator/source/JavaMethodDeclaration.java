@@ -0,0 +1,77 @@
+package com.example.project_generator.source;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Méthode ou constructeur (type de retour {@code null}) ; le corps est une liste d'instructions.
+ */
+public class JavaMethodDeclaration {
+
+    private final String modifiers;
+    private final String returnType;
+    private final String name;
+    private String comment;
+    private final List<JavaAnnotation> annotations = new ArrayList<>();
+    private final List<JavaParameter> parameters = new ArrayList<>();
+    private final List<String> statements = new ArrayList<>();
+
+    public JavaMethodDeclaration(String modifiers, String returnType, String name) {
+        this.modifiers = modifiers;
+        this.returnType = returnType;
+        this.name = name;
+    }
+
+    public static JavaMethodDeclaration constructor(String modifiers, String typeName) {
+        return new JavaMethodDeclaration(modifiers, null, typeName);
+    }
+
+    public JavaMethodDeclaration comment(String comment) {
+        this.comment = comment;
+        return this;
+    }
+
+    public JavaMethodDeclaration annotate(JavaAnnotation annotation) {
+        annotations.add(annotation);
+        return this;
+    }
+
+    public JavaMethodDeclaration parameter(JavaParameter parameter) {
+        parameters.add(parameter);
+        return this;
+    }
+
+    public JavaMethodDeclaration body(String... statements) {
+        Collections.addAll(this.statements, statements);
+        return this;
+    }
+
+    public String getModifiers() {
+        return modifiers;
+    }
+
+    public String getReturnType() {
+        return returnType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public List<JavaAnnotation> getAnnotations() {
+        return annotations;
+    }
+
+    public List<JavaParameter> getParameters() {
+        return parameters;
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+}
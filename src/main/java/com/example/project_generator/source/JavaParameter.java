@@ -0,0 +1,33 @@
+package com.example.project_generator.source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class JavaParameter {
+
+    private final String type;
+    private final String name;
+    private final List<JavaAnnotation> annotations = new ArrayList<>();
+
+    public JavaParameter(String type, String name) {
+        this.type = type;
+        this.name = name;
+    }
+
+    public JavaParameter annotate(JavaAnnotation annotation) {
+        annotations.add(annotation);
+        return this;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<JavaAnnotation> getAnnotations() {
+        return annotations;
+    }
+}
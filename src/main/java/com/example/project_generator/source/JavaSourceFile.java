@@ -0,0 +1,83 @@
+package com.example.project_generator.source;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Unité de compilation : package, imports (dédupliqués et triés) et déclarations de types.
+ * Un nom simple désigne un seul type dans le fichier : le premier type déclaré ou importé sous ce nom
+ * le garde, les suivants restent qualifiés.
+ */
+public class JavaSourceFile {
+
+    private final String packageName;
+    private final Set<String> imports = new TreeSet<>();
+    private final List<JavaTypeDeclaration> types = new ArrayList<>();
+    // Nom simple -> type qualifié qu'il désigne (types déclarés, importés, du package ou de java.lang)
+    private final Map<String, String> simpleNames = new HashMap<>();
+
+    public JavaSourceFile(String packageName) {
+        this.packageName = packageName;
+    }
+
+    /**
+     * Enregistre l'import d'un type (ou d'un package avec {@code .*}) et renvoie le nom à employer :
+     * le nom simple, ou le nom qualifié si un autre type du fichier porte déjà ce nom simple.
+     */
+    public String importType(String qualifiedName) {
+        int lastDot = qualifiedName.lastIndexOf('.');
+        String simpleName = qualifiedName.substring(lastDot + 1);
+        if (simpleName.equals("*")) {
+            imports.add(qualifiedName);
+            return simpleName;
+        }
+        String existing = simpleNames.putIfAbsent(simpleName, qualifiedName);
+        if (existing != null && !existing.equals(qualifiedName)) {
+            return qualifiedName;
+        }
+        String typePackage = lastDot > 0 ? qualifiedName.substring(0, lastDot) : "";
+        if (!typePackage.equals("java.lang") && !typePackage.equals(packageName)) {
+            imports.add(qualifiedName);
+        }
+        return simpleName;
+    }
+
+    public JavaTypeDeclaration addClass(String name) {
+        return addType("public", "class", name);
+    }
+
+    public JavaTypeDeclaration addInterface(String name) {
+        return addType("public", "interface", name);
+    }
+
+    /**
+     * Les types sont à déclarer avant d'importer un type homonyme : le nom simple déjà renvoyé par
+     * {@link #importType} ne peut plus être requalifié.
+     */
+    private JavaTypeDeclaration addType(String modifiers, String kind, String name) {
+        String qualifiedName = packageName.isEmpty() ? name : packageName + "." + name;
+        String existing = simpleNames.putIfAbsent(name, qualifiedName);
+        if (existing != null && !existing.equals(qualifiedName)) {
+            throw new IllegalStateException("Le type " + name + " masquerait l'import de " + existing);
+        }
+        JavaTypeDeclaration type = new JavaTypeDeclaration(modifiers, kind, name);
+        types.add(type);
+        return type;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public Set<String> getImports() {
+        return imports;
+    }
+
+    public List<JavaTypeDeclaration> getTypes() {
+        return types;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.project_generator.source;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Émet un {@link JavaSourceFile} en une seule passe dans un {@link StringBuilder} réutilisé par thread.
+ */
+public final class JavaSourceWriter {
+
+    private static final String INDENT = "    ";
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private JavaSourceWriter() {
+    }
+
+    public static String write(JavaSourceFile file) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        try {
+            write(file, out);
+            return out.toString();
+        } finally {
+            if (out.capacity() > MAX_RETAINED_CAPACITY) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    /**
+     * Rend le fichier dans le tampon du thread courant, sans copie en {@code String}.
+     * La séquence renvoyée n'est valable que jusqu'au prochain rendu sur ce thread.
+     */
+    public static CharSequence render(JavaSourceFile file) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        write(file, out);
+        if (out.capacity() > MAX_RETAINED_CAPACITY) {
+            // Le tampon agrandi reste à l'appelant, qui le libère en abandonnant la séquence
+            BUFFER.remove();
+        }
+        return out;
+    }
+
+    public static void write(JavaSourceFile file, StringBuilder out) {
+        out.append("package ").append(file.getPackageName()).append(";\n\n");
+
+        // Imports tiers d'abord, puis java.* / javax.*
+        boolean hasJdkImports = false;
+        boolean hasOtherImports = false;
+        for (String imported : file.getImports()) {
+            if (isJdk(imported)) {
+                hasJdkImports = true;
+            } else {
+                out.append("import ").append(imported).append(";\n");
+                hasOtherImports = true;
+            }
+        }
+        if (hasJdkImports) {
+            if (hasOtherImports) {
+                out.append('\n');
+            }
+            for (String imported : file.getImports()) {
+                if (isJdk(imported)) {
+                    out.append("import ").append(imported).append(";\n");
+                }
+            }
+        }
+        if (hasJdkImports || hasOtherImports) {
+            out.append('\n');
+        }
+
+        List<JavaTypeDeclaration> types = file.getTypes();
+        for (int i = 0; i < types.size(); i++) {
+            if (i > 0) {
+                out.append('\n');
+            }
+            writeType(types.get(i), out);
+        }
+    }
+
+    private static void writeType(JavaTypeDeclaration type, StringBuilder out) {
+        writeAnnotations(type.getAnnotations(), "", out);
+        out.append(type.getModifiers()).append(' ').append(type.getKind()).append(' ').append(type.getName());
+        if (type.getExtendsClause() != null) {
+            out.append(" extends ").append(type.getExtendsClause());
+        }
+        out.append(" {\n");
+
+        for (JavaFieldDeclaration field : type.getFields()) {
+            out.append('\n');
+            writeAnnotations(field.getAnnotations(), INDENT, out);
+            out.append(INDENT);
+            appendModifiers(field.getModifiers(), out);
+            out.append(field.getType()).append(' ').append(field.getName()).append(";\n");
+        }
+
+        for (JavaMethodDeclaration method : type.getMethods()) {
+            out.append('\n');
+            writeMethod(method, "interface".equals(type.getKind()), out);
+        }
+
+        out.append("}\n");
+    }
+
+    private static void writeMethod(JavaMethodDeclaration method, boolean abstractMethod, StringBuilder out) {
+        if (method.getComment() != null) {
+            out.append(INDENT).append("// ").append(method.getComment()).append('\n');
+        }
+        writeAnnotations(method.getAnnotations(), INDENT, out);
+        out.append(INDENT);
+        appendModifiers(method.getModifiers(), out);
+        if (method.getReturnType() != null) {
+            out.append(method.getReturnType()).append(' ');
+        }
+        out.append(method.getName()).append('(');
+
+        List<JavaParameter> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            JavaParameter parameter = parameters.get(i);
+            for (JavaAnnotation annotation : parameter.getAnnotations()) {
+                writeAnnotation(annotation, out);
+                out.append(' ');
+            }
+            out.append(parameter.getType()).append(' ').append(parameter.getName());
+        }
+
+        if (abstractMethod && method.getStatements().isEmpty()) {
+            out.append(");\n");
+            return;
+        }
+
+        out.append(") {\n");
+        for (String statement : method.getStatements()) {
+            out.append(INDENT).append(INDENT).append(statement).append('\n');
+        }
+        out.append(INDENT).append("}\n");
+    }
+
+    private static void writeAnnotations(List<JavaAnnotation> annotations, String indent, StringBuilder out) {
+        for (JavaAnnotation annotation : annotations) {
+            out.append(indent);
+            writeAnnotation(annotation, out);
+            out.append('\n');
+        }
+    }
+
+    private static void writeAnnotation(JavaAnnotation annotation, StringBuilder out) {
+        out.append('@').append(annotation.getName());
+        Map<String, String> attributes = annotation.getAttributes();
+        if (attributes.isEmpty()) {
+            return;
+        }
+
+        out.append('(');
+        if (attributes.size() == 1 && attributes.containsKey("value")) {
+            out.append(attributes.get("value"));
+        } else {
+            boolean first = true;
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                if (!first) {
+                    out.append(", ");
+                }
+                out.append(attribute.getKey()).append(" = ").append(attribute.getValue());
+                first = false;
+            }
+        }
+        out.append(')');
+    }
+
+    private static void appendModifiers(String modifiers, StringBuilder out) {
+        if (modifiers != null && !modifiers.isEmpty()) {
+            out.append(modifiers).append(' ');
+        }
+    }
+
+    private static boolean isJdk(String imported) {
+        return imported.startsWith("java.") || imported.startsWith("javax.");
+    }
+
+    static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                default -> quoted.append(c);
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
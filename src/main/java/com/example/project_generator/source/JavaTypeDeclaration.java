@@ -0,0 +1,69 @@
+package com.example.project_generator.source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class JavaTypeDeclaration {
+
+    private final String modifiers;
+    private final String kind;
+    private final String name;
+    private String extendsClause;
+    private final List<JavaAnnotation> annotations = new ArrayList<>();
+    private final List<JavaFieldDeclaration> fields = new ArrayList<>();
+    private final List<JavaMethodDeclaration> methods = new ArrayList<>();
+
+    JavaTypeDeclaration(String modifiers, String kind, String name) {
+        this.modifiers = modifiers;
+        this.kind = kind;
+        this.name = name;
+    }
+
+    public JavaTypeDeclaration annotate(JavaAnnotation annotation) {
+        annotations.add(annotation);
+        return this;
+    }
+
+    public JavaTypeDeclaration extend(String type) {
+        this.extendsClause = type;
+        return this;
+    }
+
+    public JavaTypeDeclaration field(JavaFieldDeclaration field) {
+        fields.add(field);
+        return this;
+    }
+
+    public JavaTypeDeclaration method(JavaMethodDeclaration method) {
+        methods.add(method);
+        return this;
+    }
+
+    public String getModifiers() {
+        return modifiers;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getExtendsClause() {
+        return extendsClause;
+    }
+
+    public List<JavaAnnotation> getAnnotations() {
+        return annotations;
+    }
+
+    public List<JavaFieldDeclaration> getFields() {
+        return fields;
+    }
+
+    public List<JavaMethodDeclaration> getMethods() {
+        return methods;
+    }
+}
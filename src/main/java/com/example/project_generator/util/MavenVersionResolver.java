@@ -1,15 +1,19 @@
 package com.example.project_generator.util;
 
+import com.example.project_generator.compatibility.CompatibilityMatrix;
+import com.example.project_generator.compatibility.CompatibilityMatrix.JavaLine;
+import com.example.project_generator.compatibility.VersionNumbers;
+
+/**
+ * Version du Maven Wrapper pour une version de Java, lue dans la matrice de compatibilité.
+ */
 public class MavenVersionResolver {
     public static String resolve(String javaVersion) {
-        int version = Integer.parseInt(javaVersion.replace("1.", ""));
-        return switch (version) {
-            case 8 -> "3.6.3";
-            case 11 -> "3.8.1";
-            case 17 -> "3.8.6";
-            case 21 -> "3.9.6";
-            default -> "3.9.9";
-        };
+        JavaLine line = CompatibilityMatrix.getDefault().javaLine(VersionNumbers.javaMajor(javaVersion));
+        if (line == null) {
+            throw new IllegalArgumentException("Java " + javaVersion + " n'est pas supporté");
+        }
+        return line.maven();
     }
 }
 
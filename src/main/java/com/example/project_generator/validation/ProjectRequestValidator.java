@@ -0,0 +1,354 @@
+package com.example.project_generator.validation;
+
+import com.example.project_generator.catalog.CatalogDependency;
+import com.example.project_generator.catalog.DependencyCatalog;
+import com.example.project_generator.compatibility.CompatibilityResolver;
+import com.example.project_generator.compatibility.ResolvedVersions;
+import com.example.project_generator.model.CustomProjectRequest;
+import com.example.project_generator.model.FieldDefinition;
+import io.spring.initializr.generator.version.Version;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Valide une {@link CustomProjectRequest} en une seule passe, sans aucune entrée/sortie, et rassemble
+ * toutes les erreurs : une requête invalide est refusée avant d'écrire le moindre fichier.
+ */
+@Component
+public class ProjectRequestValidator {
+
+    private static final Set<String> ARCHITECTURES = Set.of("en-couches", "hexagonale", "standard");
+    private static final Set<String> STACKS = Set.of("servlet", "reactive");
+
+    private static final Set<String> JAVA_KEYWORDS = Set.of(
+        "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const", "continue",
+        "default", "do", "double", "else", "enum", "extends", "final", "finally", "float", "for", "goto", "if",
+        "implements", "import", "instanceof", "int", "interface", "long", "native", "new", "package", "private",
+        "protected", "public", "return", "short", "static", "strictfp", "super", "switch", "synchronized", "this",
+        "throw", "throws", "transient", "try", "void", "volatile", "while", "true", "false", "null", "_");
+
+    // Noms simples importés un par un par le code généré à côté des entités (modèle, repository, service,
+    // contrôleur, tests) : une entité du même nom rendrait ces fichiers impossibles à compiler
+    private static final Set<String> GENERATED_IMPORTS = Set.of(
+        "AllArgsConstructor", "ArrayList", "Arrays", "AtomicLong", "AtomicLongArray", "Autowired", "Bean", "Builder",
+        "Column", "Configuration", "CountDownLatch", "Data", "Duration", "Entity", "Executors", "Flux", "GeneratedValue",
+        "GenerationType", "GetMapping", "HttpClient", "HttpRequest", "HttpResponse", "Id", "JpaRepository", "List",
+        "MediaType", "MeterRegistry", "MockBean", "MockMvc", "Mono", "NoArgsConstructor", "Optional", "PathVariable",
+        "PostMapping", "ReactiveCrudRepository", "Repository", "RequestBody", "RequestMapping", "RestController",
+        "ScheduledExecutorService", "Service", "SpringApplication", "SpringBootApplication", "Table", "Test", "TimeUnit",
+        "Timed", "TimedAspect", "URI", "WebFluxTest", "WebMvcTest", "WebTestClient");
+
+    // groupId et artifactId d'une dépendance hors catalogue, recopiés tels quels dans le fichier de build
+    private static final Pattern COORDINATE = Pattern.compile("[A-Za-z0-9_.-]+");
+
+    @Autowired
+    private DependencyCatalog dependencyCatalog;
+
+    @Autowired
+    private CompatibilityResolver compatibilityResolver;
+
+    public static class InvalidProjectRequestException extends RuntimeException {
+
+        private final List<ValidationError> errors;
+
+        public InvalidProjectRequestException(List<ValidationError> errors) {
+            super("Requête de génération invalide (" + errors.size() + " erreur(s))");
+            this.errors = List.copyOf(errors);
+        }
+
+        public List<ValidationError> getErrors() {
+            return errors;
+        }
+    }
+
+    /**
+     * Lève {@link InvalidProjectRequestException} avec toutes les erreurs trouvées.
+     */
+    public void check(CustomProjectRequest request) {
+        List<ValidationError> errors = validate(request);
+        if (!errors.isEmpty()) {
+            throw new InvalidProjectRequestException(errors);
+        }
+    }
+
+    public List<ValidationError> validate(CustomProjectRequest request) {
+        List<ValidationError> errors = new ArrayList<>();
+        if (request == null) {
+            errors.add(new ValidationError("request", "corps de requête manquant"));
+            return errors;
+        }
+
+        validateCoordinates(request, errors);
+        ResolvedVersions versions = validateVersions(request, errors);
+        oneOf(errors, "architectureType", request.getArchitectureType(), ARCHITECTURES, true);
+        oneOf(errors, "stack", request.getStack(), STACKS, false);
+        validateDependencies(request, versions, errors);
+        validateEntities(request, errors);
+
+        positive(errors, "port", request.getPort(), 65535);
+        positive(errors, "kubernetesCpuMillis", request.getKubernetesCpuMillis(), Integer.MAX_VALUE);
+        positive(errors, "kubernetesMemoryMb", request.getKubernetesMemoryMb(), Integer.MAX_VALUE);
+        positive(errors, "loadTestRps", request.getLoadTestRps(), Integer.MAX_VALUE);
+        positive(errors, "loadTestDurationSeconds", request.getLoadTestDurationSeconds(), Integer.MAX_VALUE);
+        positive(errors, "loadTestP99Millis", request.getLoadTestP99Millis(), Integer.MAX_VALUE);
+        if (request.getProfile() != null && !isSimpleName(request.getProfile())) {
+            errors.add(new ValidationError("profile", "lettres, chiffres, '-' et '_' uniquement"));
+        }
+        if (request.getDockerRepository() != null && request.getDockerRepository().chars().anyMatch(Character::isWhitespace)) {
+            errors.add(new ValidationError("dockerRepository", "ne doit pas contenir d'espace"));
+        }
+        return errors;
+    }
+
+    private void validateCoordinates(CustomProjectRequest request, List<ValidationError> errors) {
+        String artifactId = request.getArtifactId();
+        if (artifactId == null || artifactId.isBlank()) {
+            errors.add(new ValidationError("artifactId", "obligatoire"));
+        } else if (!isPackageSegment(artifactId.toLowerCase())) {
+            // L'artifactId en minuscules devient le dernier segment du package de base
+            errors.add(new ValidationError("artifactId",
+                "'" + artifactId + "' doit être un identifiant Java valide (il sert de nom de package)"));
+        }
+
+        String groupId = request.getGroupId();
+        if (groupId != null) {
+            String[] segments = groupId.split("\\.", -1);
+            for (String segment : segments) {
+                if (!isPackageSegment(segment)) {
+                    errors.add(new ValidationError("groupId", "'" + groupId + "' n'est pas un nom de package Java valide"));
+                    break;
+                }
+            }
+        }
+    }
+
+    private ResolvedVersions validateVersions(CustomProjectRequest request, List<ValidationError> errors) {
+        String buildTool = request.getBuildTool();
+        if (!oneOf(errors, "buildTool", buildTool, compatibilityResolver.getMatrix().getBuildTools(), false)) {
+            return null;
+        }
+        ResolvedVersions versions = compatibilityResolver.resolve(request.getJavaVersion(), request.getSpringBootVersion(), buildTool);
+        for (String error : versions.errors()) {
+            errors.add(new ValidationError("versions", error));
+        }
+        return versions.isValid() ? versions : null;
+    }
+
+    private void validateDependencies(CustomProjectRequest request, ResolvedVersions versions, List<ValidationError> errors) {
+        if (request.getDependencies() == null) {
+            return;
+        }
+        Version platform = versions != null ? Version.parse(versions.springBootVersion()) : null;
+        Map<String, CatalogDependency> requested = new LinkedHashMap<>();
+        for (String id : request.getDependencies()) {
+            if (id == null || id.isBlank()) {
+                errors.add(new ValidationError("dependencies", "identifiant vide"));
+                continue;
+            }
+            CatalogDependency dependency = dependencyCatalog.find(id);
+            if (dependency == null) {
+                String[] parts = id.split(":", -1);
+                if (parts.length != 2 || !COORDINATE.matcher(parts[0]).matches() || !COORDINATE.matcher(parts[1]).matches()) {
+                    errors.add(new ValidationError("dependencies", "'" + id + "' n'est ni une dépendance du catalogue"
+                        + " ni de la forme groupId:artifactId (lettres, chiffres, '.', '-' et '_')"));
+                }
+                continue;
+            }
+            if (platform != null && !dependency.isCompatibleWith(platform)) {
+                errors.add(new ValidationError("dependencies", "'" + id + "' n'est pas compatible avec Spring Boot "
+                    + versions.springBootVersion() + " (plage " + dependency.getCompatibilityRange() + ")"));
+            }
+            requested.put(dependency.getId(), dependency);
+        }
+        List<String> ids = new ArrayList<>(requested.keySet());
+        for (int i = 0; i < ids.size(); i++) {
+            for (int j = i + 1; j < ids.size(); j++) {
+                if (requested.get(ids.get(i)).getConflicts().contains(ids.get(j))
+                        || requested.get(ids.get(j)).getConflicts().contains(ids.get(i))) {
+                    errors.add(new ValidationError("dependencies",
+                        "'" + ids.get(i) + "' et '" + ids.get(j) + "' sont incompatibles"));
+                }
+            }
+        }
+    }
+
+    private void validateEntities(CustomProjectRequest request, List<ValidationError> errors) {
+        List<String> entities = request.getEntities() != null ? request.getEntities() : List.of();
+        Set<String> declared = new HashSet<>();
+        for (int i = 0; i < entities.size(); i++) {
+            String entity = entities.get(i);
+            String field = "entities[" + i + "]";
+            if (!isIdentifier(entity)) {
+                errors.add(new ValidationError(field, "'" + entity + "' n'est pas un nom de classe Java valide"));
+            } else if (GENERATED_IMPORTS.contains(entity)) {
+                errors.add(new ValidationError(field, "'" + entity + "' est déjà un type importé par le code généré"));
+                declared.add(entity);
+            } else if (!declared.add(entity)) {
+                errors.add(new ValidationError(field, "entité '" + entity + "' déclarée deux fois"));
+            }
+        }
+
+        Map<String, List<FieldDefinition>> entityFields = request.getEntityFields() != null ? request.getEntityFields() : Map.of();
+        Map<String, Boolean> primaryKeys = new LinkedHashMap<>();
+        for (Map.Entry<String, List<FieldDefinition>> entry : entityFields.entrySet()) {
+            String entity = entry.getKey();
+            String path = "entityFields." + entity;
+            if (!declared.contains(entity)) {
+                errors.add(new ValidationError(path, "champs définis pour une entité non déclarée dans entities"));
+            }
+            if (entry.getValue() == null) {
+                errors.add(new ValidationError(path, "liste de champs absente"));
+                continue;
+            }
+            validateFields(path, entry.getValue(), errors, primaryKeys, entity);
+        }
+
+        Map<String, Boolean> restEndpoints = request.getRestEndpoints() != null ? request.getRestEndpoints() : Map.of();
+        for (Map.Entry<String, Boolean> entry : restEndpoints.entrySet()) {
+            String entity = entry.getKey();
+            if (!declared.contains(entity)) {
+                errors.add(new ValidationError("restEndpoints." + entity, "endpoint demandé pour une entité non déclarée"));
+            } else if (Boolean.TRUE.equals(entry.getValue()) && !primaryKeys.getOrDefault(entity, false)) {
+                errors.add(new ValidationError("restEndpoints." + entity,
+                    "aucune clé primaire définie pour l'entité " + entity + " (requise par les endpoints REST)"));
+            }
+        }
+    }
+
+    private void validateFields(String path, List<FieldDefinition> fields, List<ValidationError> errors,
+                                Map<String, Boolean> primaryKeys, String entity) {
+        Set<String> names = new HashSet<>();
+        int keys = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            FieldDefinition field = fields.get(i);
+            String fieldPath = path + "[" + i + "]";
+            if (field == null) {
+                errors.add(new ValidationError(fieldPath, "champ absent"));
+                continue;
+            }
+            if (!isIdentifier(field.getName())) {
+                errors.add(new ValidationError(fieldPath + ".name", "'" + field.getName() + "' n'est pas un identifiant Java valide"));
+            } else if (!names.add(field.getName())) {
+                errors.add(new ValidationError(fieldPath + ".name", "champ '" + field.getName() + "' défini deux fois"));
+            }
+            if (!isTypeName(field.getType())) {
+                errors.add(new ValidationError(fieldPath + ".type", "'" + field.getType() + "' n'est pas un type Java valide"));
+            }
+            if (field.isPrimaryKey()) {
+                keys++;
+            }
+        }
+        if (keys > 1) {
+            errors.add(new ValidationError(path, "clés primaires composites non prises en charge (" + keys + " champs marqués)"));
+        }
+        primaryKeys.put(entity, keys == 1);
+    }
+
+    private static boolean oneOf(List<ValidationError> errors, String field, String value, Collection<String> allowed, boolean required) {
+        if (value == null) {
+            if (required) {
+                errors.add(new ValidationError(field, "obligatoire, valeurs possibles : " + String.join(", ", allowed)));
+            }
+            return !required;
+        }
+        if (!allowed.contains(value.toLowerCase())) {
+            errors.add(new ValidationError(field, "'" + value + "' inconnu, valeurs possibles : " + String.join(", ", allowed)));
+            return false;
+        }
+        return true;
+    }
+
+    private static void positive(List<ValidationError> errors, String field, Integer value, int max) {
+        if (value != null && (value <= 0 || value > max)) {
+            errors.add(new ValidationError(field, "doit être compris entre 1 et " + max));
+        }
+    }
+
+    static boolean isIdentifier(String value) {
+        if (value == null || value.isEmpty() || JAVA_KEYWORDS.contains(value)) {
+            return false;
+        }
+        if (!Character.isJavaIdentifierStart(value.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < value.length(); i++) {
+            if (!Character.isJavaIdentifierPart(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPackageSegment(String value) {
+        return isIdentifier(value) && value.indexOf('$') < 0;
+    }
+
+    /**
+     * Nom de type éventuellement qualifié, générique ou tableau : {@code Long}, {@code java.math.BigDecimal},
+     * {@code List<String>}, {@code byte[]}. Les types primitifs sont acceptés.
+     */
+    static boolean isTypeName(String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        int depth = 0;
+        StringBuilder segment = new StringBuilder();
+        for (int i = 0; i <= value.length(); i++) {
+            char c = i < value.length() ? value.charAt(i) : '.';
+            if (Character.isJavaIdentifierPart(c)) {
+                segment.append(c);
+                continue;
+            }
+            if (segment.length() > 0) {
+                String name = segment.toString();
+                if (!Character.isJavaIdentifierStart(name.charAt(0))
+                        || (JAVA_KEYWORDS.contains(name) && !isPrimitive(name))) {
+                    return false;
+                }
+                segment.setLength(0);
+            }
+            switch (c) {
+                case '<' -> depth++;
+                case '>' -> depth--;
+                case '.', ',', ' ', '[', ']', '?' -> {
+                }
+                default -> {
+                    return false;
+                }
+            }
+            if (depth < 0) {
+                return false;
+            }
+        }
+        return depth == 0;
+    }
+
+    private static boolean isPrimitive(String name) {
+        return switch (name) {
+            case "boolean", "byte", "char", "short", "int", "long", "float", "double" -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isSimpleName(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
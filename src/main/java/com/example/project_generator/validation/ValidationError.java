@@ -0,0 +1,12 @@
+package com.example.project_generator.validation;
+
+/**
+ * Erreur de validation rattachée au champ de la requête en cause ({@code entityFields.Customer[1].name}).
+ */
+public record ValidationError(String field, String message) {
+
+    @Override
+    public String toString() {
+        return field + " : " + message;
+    }
+}
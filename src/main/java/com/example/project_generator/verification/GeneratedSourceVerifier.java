@@ -0,0 +1,256 @@
+package com.example.project_generator.verification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compile les sources générées (src/main/java puis src/test/java) en mémoire avec {@link JavaCompiler},
+ * contre un classpath de stubs Spring/JPA/Lombok/JUnit/Mockito/JMH compilé une seule fois puis réutilisé.
+ */
+@Component
+public class GeneratedSourceVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(GeneratedSourceVerifier.class);
+    private static final String STUBS = "verification-stubs/";
+
+    private final JavaCompiler compiler;
+
+    private volatile Path stubClasspath;
+
+    public GeneratedSourceVerifier() {
+        this(ToolProvider.getSystemJavaCompiler());
+    }
+
+    GeneratedSourceVerifier(JavaCompiler compiler) {
+        this.compiler = compiler;
+        if (compiler == null) {
+            log.warn("Compilateur Java indisponible (JRE) : les demandes avec verifyCompilation seront refusées");
+        }
+    }
+
+    /**
+     * Erreurs de compilation des sources du projet, vide si elles compilent. Lève
+     * {@link VerifierUnavailableException} si la JVM n'embarque pas de compilateur : une vérification
+     * demandée n'est jamais sautée en silence.
+     */
+    public List<String> verify(Path projectRoot) throws IOException {
+        if (compiler == null) {
+            throw new VerifierUnavailableException();
+        }
+
+        Path root = projectRoot.toAbsolutePath().normalize();
+        Path mainRoot = root.resolve("src/main/java");
+        Path testRoot = root.resolve("src/test/java");
+        Map<Path, List<Path>> mainPackages = sourcesByPackage(mainRoot);
+        Map<Path, List<Path>> testPackages = sourcesByPackage(testRoot);
+        if (mainPackages.isEmpty() && testPackages.isEmpty()) {
+            return List.of();
+        }
+
+        // Lombok n'est pas exécuté sur les stubs : seuls ses accesseurs réels (champs des classes annotées) sont tolérés
+        List<String> contents = new ArrayList<>();
+        for (List<Path> sources : mainPackages.values()) {
+            for (Path source : sources) {
+                contents.add(Files.readString(source, StandardCharsets.UTF_8));
+            }
+        }
+        LombokAccessors lombok = LombokAccessors.scan(contents);
+
+        Path classpath = stubClasspath();
+        String mainSourcepath = mainRoot.toString();
+        String testSourcepath = mainRoot + File.pathSeparator + testRoot;
+
+        // Un compilateur par package, en parallèle ; les autres packages sont résolus via le sourcepath
+        Stream<List<String>> main = mainPackages.values().parallelStream()
+            .map(sources -> compile(sources, mainSourcepath, classpath, root, lombok));
+        Stream<List<String>> test = testPackages.values().parallelStream()
+            .map(sources -> compile(sources, testSourcepath, classpath, root, lombok));
+        return Stream.concat(main, test)
+            .flatMap(List::stream)
+            .collect(Collectors.toCollection(LinkedHashSet::new))
+            .stream()
+            .toList();
+    }
+
+    private static Map<Path, List<Path>> sourcesByPackage(Path sourceRoot) throws IOException {
+        if (!Files.isDirectory(sourceRoot)) {
+            return Map.of();
+        }
+        try (Stream<Path> files = Files.walk(sourceRoot)) {
+            return files
+                .filter(path -> path.toString().endsWith(".java"))
+                .collect(Collectors.groupingBy(Path::getParent));
+        }
+    }
+
+    private List<String> compile(List<Path> sources, String sourcepath, Path classpath, Path projectRoot,
+                                 LombokAccessors lombok) {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager standardManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8);
+             JavaFileManager fileManager = new DiscardingFileManager(standardManager)) {
+            List<String> options = List.of(
+                "-proc:none",
+                "-implicit:none",
+                "-classpath", classpath.toString(),
+                "-sourcepath", sourcepath
+            );
+            Iterable<? extends JavaFileObject> units = standardManager.getJavaFileObjectsFromPaths(sources);
+            compiler.getTask(null, fileManager, diagnostics, options, null, units).call();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() != Diagnostic.Kind.ERROR) {
+                continue;
+            }
+            String message = diagnostic.getMessage(Locale.ROOT);
+            if (lombok.provides(message)) {
+                continue;
+            }
+            String source = diagnostic.getSource() != null
+                ? projectRoot.relativize(Path.of(diagnostic.getSource().toUri())).toString().replace("\\", "/")
+                : "<unknown>";
+            errors.add(source + ":" + diagnostic.getLineNumber() + ": " + message);
+        }
+        return errors;
+    }
+
+    private Path stubClasspath() throws IOException {
+        Path classpath = stubClasspath;
+        if (classpath == null) {
+            synchronized (this) {
+                classpath = stubClasspath;
+                if (classpath == null) {
+                    classpath = compileStubs();
+                    stubClasspath = classpath;
+                }
+            }
+        }
+        return classpath;
+    }
+
+    private Path compileStubs() throws IOException {
+        List<JavaFileObject> stubs = new ArrayList<>();
+        for (String stub : readLines(STUBS + "index.txt")) {
+            stubs.add(new SourceFromString(stub, readResource(STUBS + stub)));
+        }
+
+        Path output = Files.createTempDirectory("generator-verification-stubs");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+            boolean success = compiler.getTask(null, fileManager, diagnostics,
+                List.of("-proc:none", "-d", output.toString()), null, stubs).call();
+            if (!success) {
+                throw new IOException("Failed to compile verification stubs: " + diagnostics.getDiagnostics());
+            }
+        }
+        return output;
+    }
+
+    private List<String> readLines(String resource) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(open(resource), StandardCharsets.UTF_8))) {
+            return reader.lines().map(String::trim).filter(line -> !line.isEmpty()).toList();
+        }
+    }
+
+    private String readResource(String resource) throws IOException {
+        try (InputStream in = open(resource)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private InputStream open(String resource) throws IOException {
+        InputStream in = getClass().getClassLoader().getResourceAsStream(resource);
+        if (in == null) {
+            throw new IOException("Resource not found: " + resource);
+        }
+        return in;
+    }
+
+    private static final class SourceFromString extends SimpleJavaFileObject {
+
+        private final String content;
+
+        SourceFromString(String path, String content) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+
+    // Les .class produits ne servent qu'à la vérification : rien n'est écrit
+    private static final class DiscardingFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+
+        DiscardingFileManager(JavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+            return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind) {
+                @Override
+                public OutputStream openOutputStream() {
+                    return OutputStream.nullOutputStream();
+                }
+            };
+        }
+    }
+
+    public static class VerificationException extends RuntimeException {
+
+        private final List<String> errors;
+
+        public VerificationException(Collection<String> errors) {
+            super("Generated sources do not compile (" + errors.size() + " error(s))");
+            this.errors = List.copyOf(errors);
+        }
+
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+
+    public static class VerifierUnavailableException extends RuntimeException {
+
+        public VerifierUnavailableException() {
+            super("Vérification de compilation impossible : aucun compilateur Java disponible (JRE sans JDK)");
+        }
+    }
+}
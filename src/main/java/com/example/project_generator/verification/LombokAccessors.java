@@ -0,0 +1,107 @@
+package com.example.project_generator.verification;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Méthodes que Lombok ajouterait aux classes générées, déduites de leurs annotations et de leurs champs.
+ * Lombok ne tourne pas sur les stubs : seules ces méthodes-là peuvent être absentes sans erreur, un appel
+ * à {@code getID()} pour un champ {@code id} reste signalé.
+ */
+final class LombokAccessors {
+
+    private static final Pattern PACKAGE = Pattern.compile("^\\s*package\\s+([\\w.]+)\\s*;", Pattern.MULTILINE);
+    private static final Pattern CLASS = Pattern.compile("\\b(?:class|record)\\s+(\\w+)");
+    private static final Pattern LOMBOK_ANNOTATION = Pattern.compile("@(?:lombok\\.)?(Data|Getter|Setter|Value|Builder)\\b");
+    private static final Pattern FIELD = Pattern.compile(
+        "^\\s*private\\s+(final\\s+)?([\\w.$]+(?:<[\\w.$<>, ?]*>)?(?:\\[\\])*)\\s+(\\w+)\\s*(?:=[^;]*)?;", Pattern.MULTILINE);
+
+    private static final Pattern MISSING_METHOD = Pattern.compile("symbol:\\s+method (\\w+)\\(");
+    private static final Pattern LOCATION = Pattern.compile(
+        "location:\\s+(?:variable \\w+ of type |class |interface )([\\w.$]+)");
+
+    private final Map<String, Set<String>> methodsByType = new HashMap<>();
+
+    static LombokAccessors scan(List<String> sources) {
+        LombokAccessors accessors = new LombokAccessors();
+        for (String source : sources) {
+            accessors.add(source);
+        }
+        return accessors;
+    }
+
+    private void add(String source) {
+        Matcher type = CLASS.matcher(source);
+        if (!type.find()) {
+            return;
+        }
+        Set<String> annotations = new HashSet<>();
+        Matcher annotation = LOMBOK_ANNOTATION.matcher(source.substring(0, type.start()));
+        while (annotation.find()) {
+            annotations.add(annotation.group(1));
+        }
+        if (annotations.isEmpty()) {
+            return;
+        }
+        boolean getters = annotations.contains("Data") || annotations.contains("Getter") || annotations.contains("Value");
+        boolean setters = annotations.contains("Data") || annotations.contains("Setter");
+
+        Set<String> methods = new HashSet<>();
+        if (annotations.contains("Builder")) {
+            methods.add("builder");
+        }
+        Matcher field = FIELD.matcher(source.substring(type.end()));
+        while (field.find()) {
+            boolean isFinal = field.group(1) != null;
+            String fieldType = field.group(2);
+            String name = field.group(3);
+            boolean primitiveBoolean = fieldType.equals("boolean");
+            // Lombok : un boolean "isActive" donne isActive() / setActive()
+            String property = primitiveBoolean && name.length() > 2 && name.startsWith("is")
+                    && Character.isUpperCase(name.charAt(2))
+                ? name.substring(2)
+                : capitalize(name);
+            if (getters) {
+                methods.add((primitiveBoolean ? "is" : "get") + property);
+            }
+            if (setters && !isFinal) {
+                methods.add("set" + property);
+            }
+        }
+
+        Matcher pkg = PACKAGE.matcher(source);
+        String packageName = pkg.find() ? pkg.group(1) + "." : "";
+        methodsByType.computeIfAbsent(packageName + type.group(1), k -> new HashSet<>()).addAll(methods);
+    }
+
+    /**
+     * {@code true} si le diagnostic « cannot find symbol » porte sur une méthode que Lombok générerait
+     * pour le type désigné.
+     */
+    boolean provides(String diagnostic) {
+        Matcher method = MISSING_METHOD.matcher(diagnostic);
+        Matcher location = LOCATION.matcher(diagnostic);
+        if (!method.find() || !location.find()) {
+            return false;
+        }
+        String type = location.group(1);
+        Set<String> methods = methodsByType.get(type);
+        if (methods == null && type.indexOf('.') < 0) {
+            methods = methodsByType.entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith("." + type) || entry.getKey().equals(type))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+        }
+        return methods != null && methods.contains(method.group(1));
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
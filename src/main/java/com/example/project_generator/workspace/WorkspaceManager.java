@@ -0,0 +1,385 @@
+package com.example.project_generator.workspace;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Cycle de vie des répertoires de travail sous {@code project.directory} ({@code <tenant>/<artifactId>-xxx}) :
+ * quota disque par tenant à la création, suppression différée une fois la sortie produite, et nettoyage
+ * périodique (durée de vie, taille totale, répertoires orphelins) sur un thread de basse priorité.
+ *
+ * Un répertoire en cours de génération compte pour {@code project.workspace.reservation} jusqu'à
+ * {@link #complete(Path)}, qui le remplace par sa taille mesurée : les générations simultanées d'un même
+ * tenant ne peuvent pas toutes passer sous le quota. La rétention ne supprime que les répertoires dont
+ * l'appelant n'a plus l'usage ({@link #release(Path)}, {@link #retain(Path)}), jamais une génération en cours.
+ */
+@Component
+public class WorkspaceManager {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkspaceManager.class);
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    @Value("${project.directory}")
+    private Path workspaceRoot;
+
+    @Value("${project.workspace.ttl:1h}")
+    private Duration ttl;
+
+    @Value("${project.workspace.max-total-size:10GB}")
+    private DataSize maxTotalSize;
+
+    @Value("${project.workspace.tenant-quota:1GB}")
+    private DataSize tenantQuota;
+
+    @Value("${project.workspace.reservation:10MB}")
+    private DataSize reservation;
+
+    @Value("${project.workspace.cleanup-interval:5m}")
+    private Duration cleanupInterval;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Path, Workspace> workspaces = new ConcurrentHashMap<>();
+    private final AtomicLong orphans = new AtomicLong();
+    // Vérification du quota et réservation atomiques par tenant ; verrous en nombre fixe quel que soit le nombre de tenants
+    private final Object[] tenantLocks = new Object[64];
+    private ScheduledExecutorService cleaner;
+    private Counter evictions;
+
+    private static final class Workspace {
+        final String tenant;
+        final Path path;
+        final Instant createdAt = Instant.now();
+        volatile long size;
+        volatile boolean released;
+        volatile boolean retained;
+
+        Workspace(String tenant, Path path, long size) {
+            this.tenant = tenant;
+            this.path = path;
+            this.size = size;
+        }
+    }
+
+    public static class WorkspaceQuotaExceededException extends RuntimeException {
+        private final String tenant;
+        private final long usage;
+        private final long quota;
+
+        public WorkspaceQuotaExceededException(String tenant, long usage, long quota) {
+            super("Quota disque atteint pour le tenant " + tenant + " : " + usage + " / " + quota + " octets");
+            this.tenant = tenant;
+            this.usage = usage;
+            this.quota = quota;
+        }
+
+        public String getTenant() {
+            return tenant;
+        }
+
+        public long getUsage() {
+            return usage;
+        }
+
+        public long getQuota() {
+            return quota;
+        }
+    }
+
+    public static boolean isValidTenant(String tenant) {
+        return TENANT_ID.matcher(tenant).matches();
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (reservation.toBytes() > tenantQuota.toBytes()) {
+            throw new IllegalStateException("project.workspace.reservation (" + reservation
+                + ") dépasse project.workspace.tenant-quota (" + tenantQuota + ")");
+        }
+        for (int i = 0; i < tenantLocks.length; i++) {
+            tenantLocks[i] = new Object();
+        }
+        Files.createDirectories(workspaceRoot);
+        Gauge.builder("generator.workspace.disk.usage", this, WorkspaceManager::getDiskUsage)
+            .description("Espace disque occupé par les répertoires de travail suivis")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("generator.workspace.count", workspaces, Map::size)
+            .description("Répertoires de travail suivis")
+            .register(meterRegistry);
+        Gauge.builder("generator.workspace.orphans", orphans, AtomicLong::get)
+            .description("Répertoires présents sur disque mais inconnus du gestionnaire (dernier nettoyage)")
+            .register(meterRegistry);
+        evictions = Counter.builder("generator.workspace.evictions")
+            .description("Répertoires supprimés par la rétention (durée de vie ou taille totale)")
+            .register(meterRegistry);
+
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "workspace-cleanup");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        // Les suppressions en attente sont menées à terme à l'arrêt, pas les nettoyages planifiés
+        executor.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+        cleaner = executor;
+        long interval = cleanupInterval.toMillis();
+        cleaner.scheduleWithFixedDelay(this::cleanup, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        cleaner.shutdown();
+        cleaner.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Crée un répertoire de travail pour le tenant et lui réserve {@code project.workspace.reservation} dans
+     * son quota. Les répertoires déjà libérés du tenant sont supprimés d'abord s'ils suffisent à faire de la place.
+     */
+    public Path create(String tenant, String artifactId) throws IOException {
+        String tenantId = tenant != null ? tenant : DEFAULT_TENANT;
+        if (!isValidTenant(tenantId)) {
+            throw new IllegalArgumentException("Identifiant de tenant invalide : " + tenantId);
+        }
+        long quota = tenantQuota.toBytes();
+        long reserved = reservation.toBytes();
+
+        synchronized (tenantLocks[Math.floorMod(tenantId.hashCode(), tenantLocks.length)]) {
+            if (tenantUsage(tenantId) + reserved > quota) {
+                for (Workspace workspace : oldestFirst()) {
+                    if (workspace.tenant.equals(tenantId) && workspace.released) {
+                        delete(workspace);
+                    }
+                }
+                long usage = tenantUsage(tenantId);
+                if (usage + reserved > quota) {
+                    throw new WorkspaceQuotaExceededException(tenantId, usage, quota);
+                }
+            }
+
+            Path tenantDirectory = workspaceRoot.resolve(tenantId);
+            String prefix = artifactId.toLowerCase().replaceAll("[^a-z0-9-]", "-") + "-";
+            Path path;
+            try {
+                path = Files.createTempDirectory(Files.createDirectories(tenantDirectory), prefix);
+            } catch (NoSuchFileException e) {
+                // Répertoire du tenant vide supprimé entre-temps par le nettoyage
+                path = Files.createTempDirectory(Files.createDirectories(tenantDirectory), prefix);
+            }
+            workspaces.put(path, new Workspace(tenantId, path, reserved));
+            return path;
+        }
+    }
+
+    /**
+     * Génération terminée : la réservation est remplacée par l'espace réellement occupé, pris en compte
+     * par les quotas et la rétention.
+     */
+    public void complete(Path path) throws IOException {
+        Workspace workspace = workspaces.get(path);
+        if (workspace != null) {
+            workspace.size = sizeOf(path);
+        }
+    }
+
+    /**
+     * La sortie a été produite : le répertoire est supprimé en arrière-plan, hors du thread de la requête.
+     */
+    public void release(Path path) {
+        Workspace workspace = workspaces.get(path);
+        if (workspace == null) {
+            return;
+        }
+        workspace.released = true;
+        try {
+            cleaner.execute(() -> delete(workspace));
+        } catch (RejectedExecutionException e) {
+            // Arrêt en cours : le répertoire reste orphelin jusqu'au prochain démarrage
+        }
+    }
+
+    /**
+     * La sortie est le répertoire lui-même (format {@code directory}) : il est conservé pour le client,
+     * puis supprimé par la rétention (durée de vie ou taille totale).
+     */
+    public void retain(Path path) {
+        Workspace workspace = workspaces.get(path);
+        if (workspace != null) {
+            workspace.retained = true;
+        }
+    }
+
+    public long getDiskUsage() {
+        long total = 0;
+        for (Workspace workspace : workspaces.values()) {
+            total += workspace.size;
+        }
+        return total;
+    }
+
+    public long getOrphanCount() {
+        return orphans.get();
+    }
+
+    void cleanup() {
+        try {
+            Instant expiry = Instant.now().minus(ttl);
+            for (Workspace workspace : oldestFirst()) {
+                if (evictable(workspace) && workspace.createdAt.isBefore(expiry) && delete(workspace)) {
+                    evictions.increment();
+                }
+            }
+
+            // Au-delà de la taille totale : les plus anciens partent d'abord, ceux déjà libérés en priorité ;
+            // une génération en cours n'est jamais interrompue, quitte à rester au-dessus de la limite
+            long limit = maxTotalSize.toBytes();
+            List<Workspace> candidates = oldestFirst();
+            candidates.sort(Comparator.comparing((Workspace workspace) -> !workspace.released));
+            for (Workspace workspace : candidates) {
+                if (getDiskUsage() <= limit) {
+                    break;
+                }
+                if (evictable(workspace) && delete(workspace)) {
+                    evictions.increment();
+                }
+            }
+
+            cleanupOrphans(expiry);
+        } catch (Exception e) {
+            log.warn("Nettoyage des répertoires de travail interrompu : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Répertoires inconnus (redémarrage, ancienne disposition) : comptés, puis supprimés une fois expirés.
+     */
+    private void cleanupOrphans(Instant expiry) throws IOException {
+        long count = 0;
+        try (DirectoryStream<Path> tenants = Files.newDirectoryStream(workspaceRoot)) {
+            for (Path tenant : tenants) {
+                if (!Files.isDirectory(tenant)) {
+                    count += deleteOrphanIfExpired(tenant, expiry);
+                    continue;
+                }
+                List<Path> children = new ArrayList<>();
+                try (DirectoryStream<Path> entries = Files.newDirectoryStream(tenant)) {
+                    entries.forEach(children::add);
+                }
+                for (Path child : children) {
+                    if (!workspaces.containsKey(child)) {
+                        count += deleteOrphanIfExpired(child, expiry);
+                    }
+                }
+                try (Stream<Path> remaining = Files.list(tenant)) {
+                    if (remaining.findAny().isEmpty()) {
+                        Files.deleteIfExists(tenant);
+                    }
+                }
+            }
+        }
+        orphans.set(count);
+    }
+
+    private int deleteOrphanIfExpired(Path path, Instant expiry) throws IOException {
+        if (Files.getLastModifiedTime(path).toInstant().isBefore(expiry)) {
+            deleteRecursively(path);
+            return 0;
+        }
+        return 1;
+    }
+
+    private static boolean evictable(Workspace workspace) {
+        return workspace.released || workspace.retained;
+    }
+
+    private List<Workspace> oldestFirst() {
+        List<Workspace> sorted = new ArrayList<>(workspaces.values());
+        sorted.sort(Comparator.comparing(workspace -> workspace.createdAt));
+        return sorted;
+    }
+
+    private long tenantUsage(String tenant) {
+        long usage = 0;
+        for (Workspace workspace : workspaces.values()) {
+            if (workspace.tenant.equals(tenant)) {
+                usage += workspace.size;
+            }
+        }
+        return usage;
+    }
+
+    private boolean delete(Workspace workspace) {
+        if (!workspaces.remove(workspace.path, workspace)) {
+            return false;
+        }
+        try {
+            deleteRecursively(workspace.path);
+        } catch (IOException e) {
+            log.warn("Suppression impossible de {} : {}", workspace.path, e.getMessage());
+        }
+        return true;
+    }
+
+    private static long sizeOf(Path path) throws IOException {
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        try {
+            Files.walkFileTree(path, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                    Files.deleteIfExists(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path directory, IOException e) throws IOException {
+                    Files.deleteIfExists(directory);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (NoSuchFileException e) {
+            // déjà supprimé
+        }
+    }
+}
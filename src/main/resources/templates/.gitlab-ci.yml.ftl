@@ -1,29 +1,163 @@
+<#assign maven = buildTool == "maven">
 stages:
+  - build
+  - test
+<#if benchmarks>
+  - benchmark
+</#if>
+<#if docker>
   - dockerize
+</#if>
   - deploy
 
 variables:
   DOCKER_DRIVER: overlay2
   DOCKER_TLS_CERTDIR: ""  # Important pour éviter les erreurs TLS avec docker:dind
+  IMAGE_NAME: "${dockerRepository!"your-default-repo"}/${artifactId}"
+<#if maven>
+  MAVEN_OPTS: "-Dmaven.repo.local=$CI_PROJECT_DIR/.m2/repository"
+  MAVEN_CLI_OPTS: "-B --no-transfer-progress"
+<#else>
+  GRADLE_USER_HOME: "$CI_PROJECT_DIR/.gradle"
+  GRADLE_OPTS: "-Dorg.gradle.daemon=false"
+</#if>
 
-before_script:
-  - echo "Using Java ${javaVersion}"
+# Le cache n'est invalidé que lorsque le fichier de build change
+.build-cache:
+<#if maven>
+  image: eclipse-temurin:${javaVersion}-jdk
+  cache:
+    key:
+      files:
+        - pom.xml
+    paths:
+      - .m2/repository
+    policy: pull
+<#else>
+  image: gradle:${gradleVersion}-jdk${javaVersion}
+  cache:
+    key:
+      files:
+        - ${gradleBuildFile}
+        - ${gradleSettingsFile}
+    paths:
+      - .gradle/caches
+      - .gradle/wrapper
+    policy: pull
+</#if>
+
+compile:
+  extends: .build-cache
+  stage: build
+  cache:
+    policy: pull-push
+  script:
+<#if maven>
+    - ./mvnw $MAVEN_CLI_OPTS test-compile
+  artifacts:
+    paths:
+      - target/
+    expire_in: 1 hour
+<#else>
+    - gradle testClasses
+  artifacts:
+    paths:
+      - build/
+    expire_in: 1 hour
+</#if>
+
+test:
+  extends: .build-cache
+  stage: test
+  needs: [compile]
+<#if testEntities?has_content>
+  # Un job par entité : <Entité>Test, <Entité>ServiceTest, <Entité>ControllerTest
+  parallel:
+    matrix:
+      - ENTITY: [<#list testEntities as entity>${entity}<#sep>, </#sep></#list>]
+  script:
+<#if maven>
+    - ./mvnw $MAVEN_CLI_OPTS test -Dtest="$ENTITY*Test" -Dsurefire.failIfNoSpecifiedTests=false
+<#else>
+    - gradle test --tests "*.$ENTITY*Test"
+</#if>
+<#else>
+  script:
+<#if maven>
+    - ./mvnw $MAVEN_CLI_OPTS test
+<#else>
+    - gradle test
+</#if>
+</#if>
+  artifacts:
+    when: always
+    reports:
+<#if maven>
+      junit: target/surefire-reports/TEST-*.xml
+<#else>
+      junit: build/test-results/test/TEST-*.xml
+</#if>
+<#if benchmarks>
+
+# Compare les scores JMH à ceux de la dernière exécution sur la branche par défaut
+benchmark:
+  extends: .build-cache
+  stage: benchmark
+  needs: [compile]
+  variables:
+    JMH_REGRESSION_THRESHOLD: "0.10"
+  cache:
+    - !reference [.build-cache, cache]
+    - key: jmh-baseline
+      paths:
+        - .jmh-baseline/
+      policy: pull-push
+  script:
+<#if maven>
+    - ./mvnw $MAVEN_CLI_OPTS test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test -Dexec.args="-classpath %classpath org.openjdk.jmh.Main -rf csv -rff jmh-result.csv"
+<#else>
+    - gradle jmh
+</#if>
+    - |
+      if [ -f .jmh-baseline/jmh-result.csv ]; then
+        awk -F, -v threshold="$JMH_REGRESSION_THRESHOLD" '
+          { for (i = 1; i <= NF; i++) gsub(/"/, "", $i) }
+          FNR == 1 { next }
+          NR == FNR { baseline[$1] = $5; next }
+          ($1 in baseline) {
+            regression = ($2 == "thrpt") ? ($5 < baseline[$1] * (1 - threshold)) : ($5 > baseline[$1] * (1 + threshold))
+            if (regression) { printf "REGRESSION %s: %s -> %s\n", $1, baseline[$1], $5; failed = 1 }
+          }
+          END { exit failed }' .jmh-baseline/jmh-result.csv jmh-result.csv
+      fi
+    - |
+      if [ "$CI_COMMIT_BRANCH" = "$CI_DEFAULT_BRANCH" ]; then
+        mkdir -p .jmh-baseline && cp jmh-result.csv .jmh-baseline/
+      fi
+  artifacts:
+    paths:
+      - jmh-result.csv
+</#if>
+<#if docker>
 
 dockerize:
   stage: dockerize
   image: docker:latest
   services:
     - docker:dind
+  needs: [test]
   variables:
-    IMAGE_TAG: "${dockerRepository!"your-default-repo"}/${artifactId}:latest"
+    DOCKER_BUILDKIT: "1"
   script:
-    - docker info
-    - docker build -t $IMAGE_TAG .
     - echo "$CI_REGISTRY_PASSWORD" | docker login -u "$CI_REGISTRY_USER" --password-stdin
-    - docker push $IMAGE_TAG
+    # Réutilise les couches de la dernière image publiée
+    - docker pull $IMAGE_NAME:latest || true
+    - docker build --cache-from $IMAGE_NAME:latest --build-arg BUILDKIT_INLINE_CACHE=1 -t $IMAGE_NAME:$CI_COMMIT_SHORT_SHA -t $IMAGE_NAME:latest .
+    - docker push $IMAGE_NAME:$CI_COMMIT_SHORT_SHA
+    - docker push $IMAGE_NAME:latest
+</#if>
 
 deploy:
   stage: deploy
   script:
     - echo "Deploy step (à personnaliser selon ton environnement)"
-
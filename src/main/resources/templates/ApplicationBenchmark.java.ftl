@@ -0,0 +1,27 @@
+package ${packageName}.benchmark;
+
+<#list entities as entity>
+import ${modelPackage}.${entity};
+</#list>
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point de départ pour les benchmarks JMH exécutés par le stage "benchmark" de la CI.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApplicationBenchmark {
+<#list entities as entity>
+
+    @Benchmark
+    public ${entity} create${entity}() {
+        return new ${entity}();
+    }
+</#list>
+}
@@ -5,15 +5,43 @@ import ${packageName?replace(".controller", ".service")}.${entityName}Service;
 
 
 import org.junit.jupiter.api.Test;
+<#if reactive>
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+<#else>
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+</#if>
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.beans.factory.annotation.Autowired;
+<#if reactive>
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+<#else>
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+</#if>
 import static org.mockito.Mockito.*;
 
+<#if reactive>
+@WebFluxTest(${entityName}Controller.class)
+public class ${entityName}ControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ${entityName}Service service;
+
+    @Test
+    public void testGetAllEntities() throws Exception {
+        when(service.findAll()).thenReturn(Flux.empty());
+        webTestClient.get().uri("/${entityName?lower_case}s")
+               .exchange()
+               .expectStatus().isOk();
+    }
+}
+<#else>
 @WebMvcTest(${entityName}Controller.class)
 public class ${entityName}ControllerTest {
 
@@ -30,3 +58,4 @@ public class ${entityName}ControllerTest {
                .andExpect(status().isOk());
     }
 }
+</#if>
@@ -1,11 +1,41 @@
-FROM maven:3.9.9-jdk-${javaVersion} AS build
-WORKDIR /app
-COPY pom.xml .
-RUN mvn dependency:go-offline
-COPY src ./src
-RUN mvn package -DskipTests
+# syntax=docker/dockerfile:1.7
+<#if buildTool == "maven">
+FROM eclipse-temurin:${javaVersion}-jdk AS build
+WORKDIR /workspace
+COPY mvnw pom.xml ./
+COPY .mvn .mvn
+RUN --mount=type=cache,target=/root/.m2 ./mvnw -B -q dependency:go-offline
+COPY src src
+RUN --mount=type=cache,target=/root/.m2 ./mvnw -B -q package -DskipTests \
+    && cp target/*.jar application.jar
+<#else>
+FROM gradle:${gradleVersion}-jdk${javaVersion} AS build
+WORKDIR /workspace
+COPY settings.gradle* build.gradle* ./
+RUN --mount=type=cache,target=/home/gradle/.gradle gradle --no-daemon -q dependencies
+COPY src src
+RUN --mount=type=cache,target=/home/gradle/.gradle gradle --no-daemon -q bootJar \
+    && find build/libs -name '*.jar' ! -name '*-plain.jar' -exec cp {} application.jar \;
+</#if>
+<#if jarmodeTools>
+RUN java -Djarmode=tools -jar application.jar extract --layers --destination extracted
+<#else>
+RUN java -Djarmode=layertools -jar application.jar extract --destination extracted
+</#if>
 
-# Run stage
-FROM openjdk:${javaVersion}-jdk-slim
-COPY --from=build /app/target/${artifactId}.jar app.jar
-ENTRYPOINT ["java", "-jar", "/app.jar"]
+# Run stage : une couche par fréquence de changement, les dépendances restent en cache
+FROM eclipse-temurin:${javaVersion}-jre
+WORKDIR /application
+COPY --from=build /workspace/extracted/dependencies/ ./
+COPY --from=build /workspace/extracted/spring-boot-loader/ ./
+COPY --from=build /workspace/extracted/snapshot-dependencies/ ./
+COPY --from=build /workspace/extracted/application/ ./
+<#if cds>
+# Training run : démarre le contexte puis s'arrête pour produire l'archive CDS
+RUN java -XX:ArchiveClassesAtExit=application.jsa -Dspring.context.exit=onRefresh -jar application.jar
+ENTRYPOINT ["java", "-XX:SharedArchiveFile=application.jsa", "-jar", "application.jar"]
+<#elseif jarmodeTools>
+ENTRYPOINT ["java", "-jar", "application.jar"]
+<#else>
+ENTRYPOINT ["java", "${launcherClass}"]
+</#if>
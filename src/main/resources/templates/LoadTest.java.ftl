@@ -0,0 +1,91 @@
+package ${packageName}.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Load driver for the /${path} CRUD routes of ${entityName}.
+ * Requests are fired at a constant rate (open model) against a locally started instance.
+ */
+public class ${entityName}LoadTest {
+
+    private static final String RESOURCE = "/${path}";
+    private static final String SAMPLE_ID = "${sampleId}";
+
+    public static LoadTestResult run(HttpClient client, String baseUrl, int rps, int durationSeconds) throws InterruptedException {
+        List<HttpRequest> scenario = List.of(
+            HttpRequest.newBuilder(URI.create(baseUrl + RESOURCE)).GET().build(),
+            HttpRequest.newBuilder(URI.create(baseUrl + RESOURCE))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{}"))
+                .build(),
+            HttpRequest.newBuilder(URI.create(baseUrl + RESOURCE + "/" + SAMPLE_ID)).GET().build(),
+            HttpRequest.newBuilder(URI.create(baseUrl + RESOURCE + "/" + SAMPLE_ID))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString("{}"))
+                .build(),
+            HttpRequest.newBuilder(URI.create(baseUrl + RESOURCE + "/" + SAMPLE_ID)).DELETE().build()
+        );
+
+        int total = rps * durationSeconds;
+        AtomicLongArray latencies = new AtomicLongArray(total);
+        AtomicLong sent = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch completed = new CountDownLatch(total);
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long started = System.nanoTime();
+        scheduler.scheduleAtFixedRate(() -> {
+            int index = (int) sent.getAndIncrement();
+            if (index >= total) {
+                return;
+            }
+            HttpRequest request = scenario.get(index % scenario.size());
+            long start = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    latencies.set(index, System.nanoTime() - start);
+                    if (error != null || response.statusCode() >= 500) {
+                        errors.incrementAndGet();
+                    }
+                    completed.countDown();
+                });
+        }, 0, TimeUnit.SECONDS.toNanos(1) / rps, TimeUnit.NANOSECONDS);
+
+        boolean finished = completed.await(durationSeconds + 30L, TimeUnit.SECONDS);
+        scheduler.shutdownNow();
+        long elapsed = System.nanoTime() - started;
+
+        long[] sorted = new long[total];
+        for (int i = 0; i < total; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        long missing = finished ? 0 : completed.getCount();
+
+        return new LoadTestResult(
+            "${entityName}",
+            total,
+            errors.get() + missing,
+            total / (elapsed / 1_000_000_000.0),
+            percentile(sorted, 0.50),
+            percentile(sorted, 0.99)
+        );
+    }
+
+    private static Duration percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, index)]);
+    }
+}
@@ -0,0 +1,45 @@
+package ${packageName}.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs every generated load driver and fails when a target is missed.
+ * Targets can be overridden with -Dloadtest.baseUrl, -Dloadtest.rps,
+ * -Dloadtest.durationSeconds and -Dloadtest.p99Millis.
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:${port?c}");
+        int rps = Integer.getInteger("loadtest.rps", ${rps?c});
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", ${durationSeconds?c});
+        Duration p99Target = Duration.ofMillis(Long.getLong("loadtest.p99Millis", ${p99Millis?c}L));
+
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        List<LoadTestResult> results = new ArrayList<>();
+<#list entities as entity>
+        results.add(${entity}LoadTest.run(client, baseUrl, rps, durationSeconds));
+</#list>
+
+        List<String> failures = new ArrayList<>();
+        for (LoadTestResult result : results) {
+            System.out.println(result);
+            if (result.errors() > 0) {
+                failures.add(result.name() + ": " + result.errors() + " failed requests");
+            }
+            if (result.p99().compareTo(p99Target) > 0) {
+                failures.add(result.name() + ": p99 " + result.p99().toMillis() + " ms > " + p99Target.toMillis() + " ms");
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Load test targets missed: " + failures);
+        }
+    }
+}
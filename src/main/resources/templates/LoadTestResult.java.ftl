@@ -0,0 +1,12 @@
+package ${packageName}.loadtest;
+
+import java.time.Duration;
+
+public record LoadTestResult(String name, long requests, long errors, double throughput, Duration p50, Duration p99) {
+
+    @Override
+    public String toString() {
+        return String.format("%-20s requests=%d errors=%d throughput=%.1f req/s p50=%d ms p99=%d ms",
+            name, requests, errors, throughput, p50.toMillis(), p99.toMillis());
+    }
+}
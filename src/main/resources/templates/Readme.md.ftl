@@ -27,3 +27,17 @@ ${architectureType!"Standard"} architecture
 <#else>
 ./gradlew build
 </#if>
+```
+<#if generateLoadTests>
+
+### Load tests
+Start the application, then run:
+```sh
+<#if buildTool == "maven">
+./mvnw -Pload-test test-compile exec:java -Dloadtest.rps=${rps?c} -Dloadtest.durationSeconds=${durationSeconds?c}
+<#else>
+./gradlew loadTest -Dloadtest.rps=${rps?c} -Dloadtest.durationSeconds=${durationSeconds?c}
+</#if>
+```
+The run fails when a request errors or when p99 latency exceeds ${p99Millis?c} ms (`-Dloadtest.p99Millis`).
+</#if>
@@ -1,11 +1,19 @@
 package ${repositoryPackage};
 
 import ${modelPackage}.${entityName};
+<#if reactive>
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+<#else>
 import org.springframework.data.jpa.repository.JpaRepository;
+</#if>
 import org.springframework.stereotype.Repository;
 
 @Repository
+<#if reactive>
+public interface ${entityName}Repository extends ReactiveCrudRepository<${entityName}, ${primaryKeyType}> {
+<#else>
 public interface ${entityName}Repository extends JpaRepository<${entityName}, ${primaryKeyType}> {
+</#if>
 }
 
 
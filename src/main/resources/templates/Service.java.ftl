@@ -1,19 +1,47 @@
 package ${servicePackage};
 
+<#if reactive>
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+<#else>
 import java.util.List;
 import java.util.Optional;
+</#if>
 
 import ${modelPackage}.${entityName};
 import ${repositoryPackage}.${entityName}Repository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+<#if observability>
+import io.micrometer.core.annotation.Timed;
+</#if>
 
 @Service
+<#if observability>
+@Timed(value = "service.${entityVar}", histogram = true)
+</#if>
 public class ${entityName}Service {
 
     @Autowired
     private ${entityName}Repository ${entityVar}Repository;
 
+<#if reactive>
+    public Flux<${entityName}> findAll() {
+        return ${entityVar}Repository.findAll();
+    }
+
+    public Mono<${entityName}> findById(${primaryKeyType} ${primaryKeyName}) {
+        return ${entityVar}Repository.findById(${primaryKeyName});
+    }
+
+    public Mono<${entityName}> save(${entityName} entity) {
+        return ${entityVar}Repository.save(entity);
+    }
+
+    public Mono<Void> deleteById(${primaryKeyType} ${primaryKeyName}) {
+        return ${entityVar}Repository.deleteById(${primaryKeyName});
+    }
+<#else>
     public List<${entityName}> findAll() {
         return ${entityVar}Repository.findAll();
     }
@@ -29,6 +57,7 @@ public class ${entityName}Service {
     public void deleteById(${primaryKeyType} ${primaryKeyName}) {
         ${entityVar}Repository.deleteById(${primaryKeyName});
     }
+</#if>
 }
 
 
@@ -4,6 +4,9 @@ import ${packageName?replace(".service", ".model")}.${entityName};
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.*;
+<#if reactive>
+import reactor.core.publisher.Mono;
+</#if>
 
 public class ${entityName}ServiceTest {
 
@@ -17,9 +20,15 @@ public class ${entityName}ServiceTest {
     public void testCreateEntity() {
         ${entityName}Service service = mock(${entityName}Service.class);
         ${entityName} entity = new ${entityName}();
+<#if reactive>
+        when(service.save(any(${entityName}.class))).thenReturn(Mono.just(entity));
+
+        ${entityName} result = service.save(entity).block();
+<#else>
         when(service.save(any(${entityName}.class))).thenReturn(entity);
 
         ${entityName} result = service.save(entity);
+</#if>
         assertNotNull(result);
     }
 }
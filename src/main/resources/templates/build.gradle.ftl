@@ -1,7 +1,7 @@
 plugins {
     id 'java'
     id 'org.springframework.boot' version '${springBootVersion}'
-    id 'io.spring.dependency-management' version '1.1.0'
+    id 'io.spring.dependency-management' version '${dependencyManagementPluginVersion}'
 }
 
 group = '${groupId}'
@@ -13,8 +13,35 @@ repositories {
 }
 
 dependencies {
-<#list dependencies?keys as key>
-    implementation '${key}'
+<#list build.warnings as warning>
+    // ${warning}
 </#list>
-    testImplementation 'org.springframework.boot:spring-boot-starter-test'
+${build.groovy}}
+<#if build.boms?has_content>
+
+dependencyManagement {
+    imports {
+${build.groovyBoms}    }
+}
+</#if>
+<#if generateLoadTests>
+
+// ./gradlew loadTest -Dloadtest.rps=100
+tasks.register('loadTest', JavaExec) {
+    group = 'verification'
+    description = 'Runs the generated load tests against a locally started instance.'
+    classpath = sourceSets.test.runtimeClasspath
+    mainClass = '${packageName}.loadtest.LoadTestMain'
+    systemProperties System.getProperties().findAll { it.key.toString().startsWith('loadtest.') }
+}
+</#if>
+<#if ciBenchmarks>
+
+tasks.register('jmh', JavaExec) {
+    group = 'verification'
+    description = 'Runs the JMH benchmarks from the test sources.'
+    classpath = sourceSets.test.runtimeClasspath
+    mainClass = 'org.openjdk.jmh.Main'
+    args '-rf', 'csv', '-rff', 'jmh-result.csv'
 }
+</#if>
@@ -1,7 +1,7 @@
 plugins {
     java
     id("org.springframework.boot") version "${springBootVersion}"
-    id("io.spring.dependency-management") version "1.1.0"
+    id("io.spring.dependency-management") version "${dependencyManagementPluginVersion}"
 }
 
 group = "${groupId}"
@@ -13,8 +13,37 @@ repositories {
 }
 
 dependencies {
-<#list dependencies?keys as key>
-    implementation("${key}")
+<#list build.warnings as warning>
+    // ${warning}
 </#list>
-    testImplementation("org.springframework.boot:spring-boot-starter-test")
+${build.kotlin}}
+<#if build.boms?has_content>
+
+dependencyManagement {
+    imports {
+${build.kotlinBoms}    }
+}
+</#if>
+<#if generateLoadTests>
+
+// ./gradlew loadTest -Dloadtest.rps=100
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the generated load tests against a locally started instance."
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("${packageName}.loadtest.LoadTestMain")
+    systemProperties(System.getProperties()
+        .filterKeys { it.toString().startsWith("loadtest.") }
+        .mapKeys { it.key.toString() })
+}
+</#if>
+<#if ciBenchmarks>
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks from the test sources."
+    classpath = sourceSets["test"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args("-rf", "csv", "-rff", "jmh-result.csv")
 }
+</#if>
@@ -6,4 +6,15 @@ services:
       - "${port!"8080"}:${port!"8080"}"
     restart: always
     environment:
-      SPRING_PROFILES_ACTIVE=${profile!"prod"}
\ No newline at end of file
+      SPRING_PROFILES_ACTIVE: ${profile!"prod"}
+<#if observability>
+
+  prometheus:
+    image: prom/prometheus:v2.53.0
+    ports:
+      - "9090:9090"
+    volumes:
+      - ./prometheus.yml:/etc/prometheus/prometheus.yml:ro
+    depends_on:
+      - ${serviceName!"app"}
+</#if>
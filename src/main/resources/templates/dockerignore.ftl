@@ -0,0 +1,8 @@
+.git
+.idea
+.vscode
+target/
+build/
+.gradle/
+Dockerfile
+docker-compose.yml
@@ -0,0 +1,54 @@
+apiVersion: apps/v1
+kind: Deployment
+metadata:
+  name: ${appName}
+  labels:
+    app: ${appName}
+spec:
+  replicas: ${minReplicas}
+  selector:
+    matchLabels:
+      app: ${appName}
+  template:
+    metadata:
+      labels:
+        app: ${appName}
+    spec:
+      terminationGracePeriodSeconds: 30
+      containers:
+        - name: ${appName}
+          image: ${image}
+          ports:
+            - name: http
+              containerPort: ${port}
+          env:
+            - name: SPRING_PROFILES_ACTIVE
+              value: "${profile}"
+            # Heap dimensionné à partir de la limite mémoire du conteneur
+            - name: JAVA_TOOL_OPTIONS
+              value: "${javaToolOptions}"
+          resources:
+            requests:
+              cpu: ${cpuRequest}
+              memory: ${memory}
+            limits:
+              cpu: ${cpuLimit}
+              memory: ${memory}
+          startupProbe:
+            httpGet:
+              path: /actuator/health/liveness
+              port: http
+            periodSeconds: 5
+            failureThreshold: 30
+          livenessProbe:
+            httpGet:
+              path: /actuator/health/liveness
+              port: http
+            periodSeconds: 10
+            failureThreshold: 3
+          readinessProbe:
+            httpGet:
+              path: /actuator/health/readiness
+              port: http
+            periodSeconds: 5
+            failureThreshold: 3
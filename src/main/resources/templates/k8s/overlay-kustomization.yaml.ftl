@@ -0,0 +1,20 @@
+apiVersion: kustomize.config.k8s.io/v1beta1
+kind: Kustomization
+namespace: ${appName}-${overlay}
+resources:
+  - ../../base
+patches:
+  - target:
+      kind: Deployment
+      name: ${appName}
+    patch: |-
+      - op: replace
+        path: /spec/template/spec/containers/0/env/0/value
+        value: "${overlay}"
+  - target:
+      kind: HorizontalPodAutoscaler
+      name: ${appName}
+    patch: |-
+      - op: replace
+        path: /spec/minReplicas
+        value: ${overlayMinReplicas}
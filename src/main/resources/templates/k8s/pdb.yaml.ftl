@@ -0,0 +1,9 @@
+apiVersion: policy/v1
+kind: PodDisruptionBudget
+metadata:
+  name: ${appName}
+spec:
+  minAvailable: 1
+  selector:
+    matchLabels:
+      app: ${appName}
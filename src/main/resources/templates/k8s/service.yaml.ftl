@@ -0,0 +1,13 @@
+apiVersion: v1
+kind: Service
+metadata:
+  name: ${appName}
+  labels:
+    app: ${appName}
+spec:
+  selector:
+    app: ${appName}
+  ports:
+    - name: http
+      port: 80
+      targetPort: http
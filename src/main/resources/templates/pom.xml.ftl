@@ -20,53 +20,17 @@
     </properties>
     
     <dependencies>
-        <dependency>
-            <groupId>org.springframework.boot</groupId>
-            <artifactId>spring-boot-starter</artifactId>
-        </dependency>
-        
-        <#if description.dependencies??>
-          <#list description.dependencies as dependency>
-            <#if dependency == "web">
-                <dependency>
-                    <groupId>org.springframework.boot</groupId>
-                    <artifactId>spring-boot-starter-web</artifactId>
-                </dependency>
-            </#if>
-            <#if dependency == "data-jpa">
-                <dependency>
-                    <groupId>org.springframework.boot</groupId>
-                    <artifactId>spring-boot-starter-data-jpa</artifactId>
-                </dependency>
-            </#if>
-          </#list>
-        </#if>
+<#list build.warnings as warning>
+        <!-- ${warning} -->
+</#list>
+${build.maven}    </dependencies>
+<#if build.boms?has_content>
 
-
-              
-        <#-- Déterminer la version de Lombok en fonction de la version Java -->
-<#assign javaMajor = (description.javaVersion!'17')?replace("^([0-9]+).*", "$1", "r")?number>
-<#assign useLombokVersion = 
-    (javaMajor >= 21)?then("1.18.30", 
-        (javaMajor >= 17)?then("1.18.28", "1.18.24")
-    )
->
-
-<dependency>
-    <groupId>org.projectlombok</groupId>
-    <artifactId>lombok</artifactId>
-    <version>${useLombokVersion}</version>
-    <scope>provided</scope>
-</dependency>
-
-
-
-        <dependency>
-            <groupId>org.springframework.boot</groupId>
-            <artifactId>spring-boot-starter-test</artifactId>
-            <scope>test</scope>
-        </dependency>
-    </dependencies>
+    <dependencyManagement>
+        <dependencies>
+${build.mavenBoms}        </dependencies>
+    </dependencyManagement>
+</#if>
     
     <build>
         <plugins>
@@ -76,4 +40,26 @@
             </plugin>
         </plugins>
     </build>
+<#if description.generateLoadTests>
+
+    <profiles>
+        <!-- ./mvnw -Pload-test test-compile exec:java -Dloadtest.rps=100 -->
+        <profile>
+            <id>load-test</id>
+            <build>
+                <plugins>
+                    <plugin>
+                        <groupId>org.codehaus.mojo</groupId>
+                        <artifactId>exec-maven-plugin</artifactId>
+                        <version>3.1.0</version>
+                        <configuration>
+                            <mainClass>${description.packageName}.loadtest.LoadTestMain</mainClass>
+                            <classpathScope>test</classpathScope>
+                        </configuration>
+                    </plugin>
+                </plugins>
+            </build>
+        </profile>
+    </profiles>
+</#if>
 </project>
\ No newline at end of file
@@ -0,0 +1,8 @@
+global:
+  scrape_interval: 15s
+
+scrape_configs:
+  - job_name: '${artifactId}'
+    metrics_path: /actuator/prometheus
+    static_configs:
+      - targets: ['${serviceName}:${port}']
@@ -0,0 +1,10 @@
+<#list tables as table>
+CREATE TABLE IF NOT EXISTS ${table.name} (
+<#list table.columns as column>
+    ${column}<#sep>,</#sep>
+</#list>
+);
+<#sep>
+
+</#sep>
+</#list>
@@ -0,0 +1,6 @@
+package io.micrometer.core.annotation;
+
+public @interface Timed {
+    String value() default "";
+    boolean histogram() default false;
+}
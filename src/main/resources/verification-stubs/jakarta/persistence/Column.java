@@ -0,0 +1,6 @@
+package jakarta.persistence;
+
+public @interface Column {
+    String name() default "";
+    boolean nullable() default true;
+}
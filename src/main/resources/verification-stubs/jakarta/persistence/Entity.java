@@ -0,0 +1,5 @@
+package jakarta.persistence;
+
+public @interface Entity {
+    String name() default "";
+}
@@ -0,0 +1,4 @@
+package org.openjdk.jmh.annotations;
+
+public @interface Benchmark {
+}
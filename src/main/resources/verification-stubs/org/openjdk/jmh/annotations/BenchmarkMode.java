@@ -0,0 +1,5 @@
+package org.openjdk.jmh.annotations;
+
+public @interface BenchmarkMode {
+    Mode[] value();
+}
@@ -0,0 +1,5 @@
+package org.openjdk.jmh.annotations;
+
+public @interface Fork {
+    int value() default -1;
+}
@@ -0,0 +1,5 @@
+package org.openjdk.jmh.annotations;
+
+public enum Level {
+    Trial, Iteration, Invocation
+}
@@ -0,0 +1,9 @@
+package org.openjdk.jmh.annotations;
+
+import java.util.concurrent.TimeUnit;
+
+public @interface Measurement {
+    int iterations() default -1;
+    int time() default -1;
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
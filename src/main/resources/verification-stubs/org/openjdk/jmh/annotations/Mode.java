@@ -0,0 +1,5 @@
+package org.openjdk.jmh.annotations;
+
+public enum Mode {
+    Throughput, AverageTime, SampleTime, SingleShotTime, All
+}
@@ -0,0 +1,7 @@
+package org.openjdk.jmh.annotations;
+
+import java.util.concurrent.TimeUnit;
+
+public @interface OutputTimeUnit {
+    TimeUnit value();
+}
@@ -0,0 +1,5 @@
+package org.openjdk.jmh.annotations;
+
+public @interface Param {
+    String[] value() default {};
+}
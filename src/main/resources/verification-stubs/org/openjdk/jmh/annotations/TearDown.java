@@ -0,0 +1,5 @@
+package org.openjdk.jmh.annotations;
+
+public @interface TearDown {
+    Level value() default Level.Trial;
+}
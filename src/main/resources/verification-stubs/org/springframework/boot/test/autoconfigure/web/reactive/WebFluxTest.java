@@ -0,0 +1,5 @@
+package org.springframework.boot.test.autoconfigure.web.reactive;
+
+public @interface WebFluxTest {
+    Class<?>[] value() default {};
+}
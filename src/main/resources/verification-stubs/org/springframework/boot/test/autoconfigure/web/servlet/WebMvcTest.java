@@ -0,0 +1,5 @@
+package org.springframework.boot.test.autoconfigure.web.servlet;
+
+public @interface WebMvcTest {
+    Class<?>[] value() default {};
+}
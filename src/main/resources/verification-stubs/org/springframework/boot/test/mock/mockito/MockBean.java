@@ -0,0 +1,4 @@
+package org.springframework.boot.test.mock.mockito;
+
+public @interface MockBean {
+}
@@ -0,0 +1,5 @@
+package org.springframework.data.relational.core.mapping;
+
+public @interface Table {
+    String value() default "";
+}
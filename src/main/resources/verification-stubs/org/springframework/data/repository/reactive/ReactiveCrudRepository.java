@@ -0,0 +1,11 @@
+package org.springframework.data.repository.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCrudRepository<T, ID> {
+    Flux<T> findAll();
+    Mono<T> findById(ID id);
+    <S extends T> Mono<S> save(S entity);
+    Mono<Void> deleteById(ID id);
+}
@@ -0,0 +1,6 @@
+package org.springframework.http;
+
+public class MediaType {
+    public static final String APPLICATION_JSON_VALUE = "application/json";
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+}
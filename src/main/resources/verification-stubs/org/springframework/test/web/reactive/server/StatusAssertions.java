@@ -0,0 +1,8 @@
+package org.springframework.test.web.reactive.server;
+
+public class StatusAssertions {
+    public WebTestClient.ResponseSpec isOk() { return null; }
+    public WebTestClient.ResponseSpec isCreated() { return null; }
+    public WebTestClient.ResponseSpec isNoContent() { return null; }
+    public WebTestClient.ResponseSpec isNotFound() { return null; }
+}
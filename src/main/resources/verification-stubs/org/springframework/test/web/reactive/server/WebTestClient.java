@@ -0,0 +1,18 @@
+package org.springframework.test.web.reactive.server;
+
+public interface WebTestClient {
+    RequestHeadersUriSpec get();
+    RequestHeadersUriSpec delete();
+
+    interface RequestHeadersUriSpec {
+        RequestHeadersSpec uri(String uri, Object... uriVariables);
+    }
+
+    interface RequestHeadersSpec {
+        ResponseSpec exchange();
+    }
+
+    interface ResponseSpec {
+        StatusAssertions expectStatus();
+    }
+}
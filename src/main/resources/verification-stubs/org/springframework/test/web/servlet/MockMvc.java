@@ -0,0 +1,5 @@
+package org.springframework.test.web.servlet;
+
+public final class MockMvc {
+    public ResultActions perform(RequestBuilder requestBuilder) throws Exception { return null; }
+}
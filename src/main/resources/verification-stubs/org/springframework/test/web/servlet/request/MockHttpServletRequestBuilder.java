@@ -0,0 +1,8 @@
+package org.springframework.test.web.servlet.request;
+
+import org.springframework.test.web.servlet.RequestBuilder;
+
+public class MockHttpServletRequestBuilder implements RequestBuilder {
+    public MockHttpServletRequestBuilder contentType(String contentType) { return this; }
+    public MockHttpServletRequestBuilder content(String content) { return this; }
+}
@@ -0,0 +1,8 @@
+package org.springframework.test.web.servlet.request;
+
+public abstract class MockMvcRequestBuilders {
+    public static MockHttpServletRequestBuilder get(String urlTemplate, Object... uriVariables) { return null; }
+    public static MockHttpServletRequestBuilder post(String urlTemplate, Object... uriVariables) { return null; }
+    public static MockHttpServletRequestBuilder put(String urlTemplate, Object... uriVariables) { return null; }
+    public static MockHttpServletRequestBuilder delete(String urlTemplate, Object... uriVariables) { return null; }
+}
@@ -0,0 +1,5 @@
+package org.springframework.web.bind.annotation;
+
+public @interface RequestBody {
+    boolean required() default true;
+}
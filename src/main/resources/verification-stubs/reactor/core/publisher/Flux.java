@@ -0,0 +1,6 @@
+package reactor.core.publisher;
+
+public abstract class Flux<T> {
+    public static <T> Flux<T> empty() { return null; }
+    public abstract Flux<T> limitRate(int prefetchRate);
+}
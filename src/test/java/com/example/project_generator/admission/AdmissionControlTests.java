@@ -0,0 +1,221 @@
+package com.example.project_generator.admission;
+
+import com.example.project_generator.admission.AdmissionControl.AdmissionRejectedException;
+import com.example.project_generator.controller.GenerationExceptionHandler;
+import com.example.project_generator.controller.ProjectGeneratorController;
+import com.example.project_generator.model.CustomProjectRequest;
+import com.example.project_generator.model.FieldDefinition;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdmissionControl admissionControl;
+
+    @BeforeEach
+    void setUp() {
+        admissionControl = new AdmissionControl();
+        ReflectionTestUtils.setField(admissionControl, "baseCost", 10);
+        ReflectionTestUtils.setField(admissionControl, "entityCost", 5);
+        ReflectionTestUtils.setField(admissionControl, "fieldCost", 1);
+        ReflectionTestUtils.setField(admissionControl, "optionCost", 5);
+        ReflectionTestUtils.setField(admissionControl, "verificationCost", 50);
+        ReflectionTestUtils.setField(admissionControl, "maxRequestCost", 1000);
+        ReflectionTestUtils.setField(admissionControl, "bucketCapacity", 2000);
+        ReflectionTestUtils.setField(admissionControl, "refillPerSecond", 100);
+        ReflectionTestUtils.setField(admissionControl, "maxDelay", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(admissionControl, "maxConcurrent", 2);
+        ReflectionTestUtils.setField(admissionControl, "queueTimeout", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(admissionControl, "maxTrackedClients", 3);
+        ReflectionTestUtils.setField(admissionControl, "sweepInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(admissionControl, "meterRegistry", meterRegistry);
+        admissionControl.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        admissionControl.stop();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    /**
+     * Requête sans option : coût = 10 + 5 par entité.
+     */
+    private static CustomProjectRequest request(int entities) {
+        CustomProjectRequest request = new CustomProjectRequest();
+        request.setGenerateTests(false);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < entities; i++) {
+            names.add("Entity" + i);
+        }
+        request.setEntities(names);
+        return request;
+    }
+
+    private static void from(String remoteAddress) {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.setRemoteAddr(remoteAddress);
+        servletRequest.addHeader(ProjectGeneratorController.TENANT_HEADER, "acme");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+    }
+
+    @Test
+    void costCountsEntitiesFieldsOptionsAndVerification() {
+        CustomProjectRequest request = request(2);
+        request.setEntityFields(Map.of(
+            "Entity0", List.of(new FieldDefinition(), new FieldDefinition(), new FieldDefinition()),
+            "Entity1", List.of(new FieldDefinition())));
+        request.setGenerateDocker(true);
+        request.setGenerateTests(true);
+        request.setVerifyCompilation(true);
+
+        // 10 + 2 × 5 + 4 × 1 + 2 × 5 + 50
+        assertThat(admissionControl.cost(request)).isEqualTo(84L);
+    }
+
+    @Test
+    void requestOverBudgetIsRejectedWithoutRetryAfter() {
+        assertThatThrownBy(() -> admissionControl.admit(request(199)))
+            .isInstanceOf(AdmissionRejectedException.class)
+            .satisfies(e -> {
+                AdmissionRejectedException rejected = (AdmissionRejectedException) e;
+                assertThat(rejected.getStatus()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+                assertThat(rejected.getRetryAfterSeconds()).isEqualTo(0L);
+            });
+        assertThat(meterRegistry.counter("generator.admission.rejected", "reason", "budget").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void emptiedBucketRejectsWithRetryAfterOfTheShortfall() {
+        from("10.0.0.1");
+        admissionControl.admit(request(198));
+        admissionControl.admit(request(198));
+
+        // Seau vide, 250 jetons manquent : 2,5 s d'attente, au-delà du délai toléré d'une seconde
+        assertThatThrownBy(() -> admissionControl.admit(request(48)))
+            .isInstanceOf(AdmissionRejectedException.class)
+            .satisfies(e -> {
+                AdmissionRejectedException rejected = (AdmissionRejectedException) e;
+                assertThat(rejected.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                assertThat(rejected.getRetryAfterSeconds()).isEqualTo(3L);
+            });
+        assertThat(meterRegistry.counter("generator.admission.rejected", "reason", "rate").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void smallShortfallIsDeferredRatherThanRejected() {
+        from("10.0.0.1");
+        admissionControl.admit(request(198));
+        admissionControl.admit(request(198));
+
+        // 50 jetons manquent : 0,5 s d'attente, sous le délai toléré
+        long start = System.nanoTime();
+        admissionControl.admit(request(8));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis()).isGreaterThanOrEqualTo(400L);
+        assertThat(meterRegistry.counter("generator.admission.deferred").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void bucketsAreKeyedOnRemoteAddressNotTenantHeader() {
+        from("10.0.0.1");
+        admissionControl.admit(request(198));
+        admissionControl.admit(request(198));
+
+        // Même en-tête de tenant, autre adresse : seau distinct
+        from("10.0.0.2");
+        assertThatCode(() -> admissionControl.admit(request(198))).doesNotThrowAnyException();
+
+        from("10.0.0.1");
+        assertThatThrownBy(() -> admissionControl.admit(request(48)))
+            .isInstanceOf(AdmissionRejectedException.class);
+    }
+
+    @Test
+    void leastRecentlyUsedClientIsEvictedBeyondTheCap() {
+        from("10.0.0.1");
+        admissionControl.admit(request(198));
+        admissionControl.admit(request(198));
+        from("10.0.0.2");
+        admissionControl.admit(request(0));
+        from("10.0.0.3");
+        admissionControl.admit(request(0));
+        from("10.0.0.2");
+        admissionControl.admit(request(0));
+
+        // 10.0.0.1 est le moins récemment vu : le quatrième client prend sa place
+        from("10.0.0.4");
+        admissionControl.admit(request(0));
+
+        assertThat(admissionControl.getTrackedClients()).isEqualTo(3);
+        from("10.0.0.1");
+        assertThatCode(() -> admissionControl.admit(request(198))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void sweepForgetsOnlyFullBuckets() throws InterruptedException {
+        from("10.0.0.1");
+        admissionControl.admit(request(0));
+        from("10.0.0.2");
+        admissionControl.admit(request(198));
+
+        // 10 jetons rendus en 0,1 s ; il en manque encore plus de 900 au second client
+        Thread.sleep(200);
+        admissionControl.sweep();
+
+        assertThat(admissionControl.getTrackedClients()).isEqualTo(1);
+        from("10.0.0.2");
+        admissionControl.admit(request(198));
+        assertThatThrownBy(() -> admissionControl.admit(request(198)))
+            .isInstanceOf(AdmissionRejectedException.class);
+    }
+
+    @Test
+    void concurrencyLimitShedsAfterQueueTimeout() {
+        AdmissionControl.Permit first = admissionControl.acquire();
+        AdmissionControl.Permit second = admissionControl.acquire();
+
+        assertThatThrownBy(admissionControl::acquire)
+            .isInstanceOf(AdmissionRejectedException.class)
+            .satisfies(e -> assertThat(((AdmissionRejectedException) e).getRetryAfterSeconds()).isEqualTo(1L));
+
+        first.close();
+        first.close();
+        AdmissionControl.Permit third = admissionControl.acquire();
+        assertThatThrownBy(admissionControl::acquire)
+            .isInstanceOf(AdmissionRejectedException.class);
+        second.close();
+        third.close();
+    }
+
+    @Test
+    void rejectionIsAnswered429WithRetryAfterHeader() {
+        AdmissionRejectedException rejected =
+            new AdmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS, 3, "Limite de débit atteinte pour ce client");
+
+        ResponseEntity<Map<String, Object>> response = new GenerationExceptionHandler().handleAdmissionRejected(rejected);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+    }
+}
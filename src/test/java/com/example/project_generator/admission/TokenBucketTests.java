@@ -0,0 +1,70 @@
+package com.example.project_generator.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 100 jetons, 10 par seconde : un manque de n jetons coûte n / 10 secondes d'attente
+    private final TokenBucket bucket = new TokenBucket(100, 10, 0);
+
+    @Test
+    void fullBucketGrantsWithoutWaiting() {
+        TokenBucket.Reservation reservation = bucket.reserve(100, 0, 0);
+
+        assertThat(reservation.granted()).isTrue();
+        assertThat(reservation.waitNanos()).isEqualTo(0L);
+    }
+
+    @Test
+    void shortfallWithinMaxWaitIsDeferred() {
+        bucket.reserve(80, 0, 0);
+
+        TokenBucket.Reservation reservation = bucket.reserve(40, 5 * SECOND, 0);
+
+        assertThat(reservation.granted()).isTrue();
+        assertThat(reservation.waitNanos()).isBetween(2 * SECOND - 1, 2 * SECOND + 1);
+    }
+
+    @Test
+    void deferredReservationsQueueBehindEachOther() {
+        bucket.reserve(100, 0, 0);
+        bucket.reserve(20, 5 * SECOND, 0);
+
+        // Solde à -20 : 30 jetons de plus manquent pendant 3 s
+        TokenBucket.Reservation reservation = bucket.reserve(10, 5 * SECOND, 0);
+
+        assertThat(reservation.granted()).isTrue();
+        assertThat(reservation.waitNanos()).isBetween(3 * SECOND - 1, 3 * SECOND + 1);
+    }
+
+    @Test
+    void shortfallBeyondMaxWaitIsRejectedWithoutDebit() {
+        bucket.reserve(100, 0, 0);
+
+        TokenBucket.Reservation rejected = bucket.reserve(25, SECOND, 0);
+        assertThat(rejected.granted()).isFalse();
+        assertThat(rejected.waitNanos()).isBetween(5 * SECOND / 2 - 1, 5 * SECOND / 2 + 1);
+
+        // Rien n'a été prélevé : 10 jetons attendent toujours 1 s, pas 3,5 s
+        TokenBucket.Reservation granted = bucket.reserve(10, SECOND, 0);
+        assertThat(granted.granted()).isTrue();
+        assertThat(granted.waitNanos()).isBetween(SECOND - 1, SECOND + 1);
+    }
+
+    @Test
+    void bucketRefillsOverTimeUpToCapacity() {
+        bucket.reserve(100, 0, 0);
+        assertThat(bucket.reserve(30, 0, 2 * SECOND).granted()).isFalse();
+        assertThat(bucket.reserve(20, 0, 2 * SECOND).granted()).isTrue();
+
+        assertThat(bucket.isFull(TimeUnit.HOURS.toNanos(1))).isTrue();
+        assertThat(bucket.reserve(100, 0, TimeUnit.HOURS.toNanos(1)).granted()).isTrue();
+        assertThat(bucket.reserve(1, 0, TimeUnit.HOURS.toNanos(1)).granted()).isFalse();
+    }
+}
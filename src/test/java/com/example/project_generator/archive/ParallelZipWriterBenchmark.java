@@ -0,0 +1,97 @@
+package com.example.project_generator.archive;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Temps de construction du ZIP d'un projet de plusieurs centaines de fichiers : ZipOutputStream séquentiel
+ * (ancien addDirectoryToZip) contre {@link ParallelZipWriter} sur un pool d'un thread par cœur.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main
+ *     -Dexec.args="ParallelZipWriterBenchmark"
+ *
+ * Au niveau 6, le gain attendu est proche du nombre de cœurs ; le niveau 0 mesure le coût du seul assemblage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelZipWriterBenchmark {
+
+    @Param({"0", "6"})
+    private int level;
+
+    private Path directory;
+    private List<Path> files;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("parallel-zip-bench");
+        for (int entity = 0; entity < 300; entity++) {
+            StringBuilder source = new StringBuilder("package com.example.demo.model;\n\npublic class Entity")
+                .append(entity).append(" {\n");
+            for (int field = 0; field < 200; field++) {
+                source.append("    private String champ").append(field).append(" = \"").append(entity * field).append("\";\n");
+            }
+            Path file = directory.resolve("src/main/java/com/example/demo/model/Entity" + entity + ".java");
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.append("}\n"));
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(Files::isRegularFile).sorted().toList();
+        }
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdownNow();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void sequentialZipOutputStream() throws IOException {
+        try (ZipOutputStream zipOut = new ZipOutputStream(OutputStream.nullOutputStream())) {
+            zipOut.setLevel(level);
+            for (Path file : files) {
+                zipOut.putNextEntry(new ZipEntry(directory.relativize(file).toString()));
+                Files.copy(file, zipOut);
+                zipOut.closeEntry();
+            }
+        }
+    }
+
+    @Benchmark
+    public void parallelZipWriter() throws IOException {
+        new ParallelZipWriter(pool, level, Instant.EPOCH).write(directory, files, OutputStream.nullOutputStream());
+    }
+}
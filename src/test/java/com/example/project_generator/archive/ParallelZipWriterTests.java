@@ -0,0 +1,149 @@
+package com.example.project_generator.archive;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelZipWriterTests {
+
+    private static final Instant ENTRY_TIME = Instant.parse("1980-02-01T00:00:00Z");
+
+    private Path project;
+    private ForkJoinPool pool;
+    private final Map<String, byte[]> expected = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        project = Files.createTempDirectory("parallel-zip-tests");
+        // Plus d'entrées que la fenêtre de compression d'avance (4 par thread)
+        for (int i = 0; i < 40; i++) {
+            write(String.format("src/main/java/com/example/demo/Entity%02d.java", i),
+                ("public class Entity" + i + " {\n" + "    private String field;\n".repeat(i * 10) + "}\n").getBytes(StandardCharsets.UTF_8));
+        }
+        write("empty.txt", new byte[0]);
+        // Peu compressible et plus grand qu'un bloc de 64 Ko
+        byte[] random = new byte[300 * 1024];
+        new Random(42).nextBytes(random);
+        write("src/main/resources/static/app.bin", random);
+        write("src/main/resources/application.properties", "nom=générateur\n".getBytes(StandardCharsets.UTF_8));
+        pool = new ForkJoinPool(2);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        pool.shutdownNow();
+        try (Stream<Path> files = Files.walk(project)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private void write(String name, byte[] content) throws IOException {
+        Path file = project.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content);
+        expected.put(name, content);
+    }
+
+    private byte[] zip(int level) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (String name : expected.keySet()) {
+            files.add(project.resolve(name));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ParallelZipWriter(pool, level, ENTRY_TIME).write(project, files, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void zipFileReadsEveryLevelBack() throws IOException {
+        for (int level : new int[] {0, 1, 6, 9}) {
+            Path archive = Files.createTempFile("parallel-zip-tests", ".zip");
+            try {
+                Files.write(archive, zip(level));
+                try (ZipFile zip = new ZipFile(archive.toFile())) {
+                    List<String> names = new ArrayList<>();
+                    Enumeration<? extends ZipEntry> entries = zip.entries();
+                    while (entries.hasMoreElements()) {
+                        ZipEntry entry = entries.nextElement();
+                        names.add(entry.getName());
+                        byte[] content = expected.get(entry.getName());
+                        assertThat(entry.getMethod()).isEqualTo(level == 0 ? ZipEntry.STORED : ZipEntry.DEFLATED);
+                        assertThat(entry.getSize()).isEqualTo((long) content.length);
+                        assertThat(entry.getCrc()).isEqualTo(crc(content));
+                        assertThat(entry.getTimeLocal()).isEqualTo(LocalDateTime.of(1980, 2, 1, 0, 0));
+                        try (var in = zip.getInputStream(entry)) {
+                            assertThat(in.readAllBytes()).isEqualTo(content);
+                        }
+                    }
+                    assertThat(names).isEqualTo(new ArrayList<>(expected.keySet()));
+                }
+            } finally {
+                Files.delete(archive);
+            }
+        }
+    }
+
+    @Test
+    void zipInputStreamReadsEveryLevelBack() throws IOException {
+        for (int level : new int[] {0, 1, 6, 9}) {
+            Map<String, byte[]> read = new LinkedHashMap<>();
+            try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip(level)))) {
+                ZipEntry entry;
+                while ((entry = in.getNextEntry()) != null) {
+                    read.put(entry.getName(), in.readAllBytes());
+                }
+            }
+            assertThat(read.keySet()).containsExactlyElementsOf(expected.keySet());
+            read.forEach((name, content) -> assertThat(content).isEqualTo(expected.get(name)));
+        }
+    }
+
+    @Test
+    void levelZeroStoresEntriesUncompressed() throws IOException {
+        byte[] stored = zip(0);
+        long contentSize = expected.values().stream().mapToLong(content -> content.length).sum();
+        assertThat((long) stored.length).isGreaterThan(contentSize);
+        assertThat((long) zip(9).length).isLessThan((long) stored.length);
+    }
+
+    @Test
+    void levelOutsideDeflaterRangeIsRejected() {
+        assertThatThrownBy(() -> new ParallelZipWriter(pool, 10, ENTRY_TIME))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ParallelZipWriter(pool, -1, ENTRY_TIME))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long crc(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.project_generator.archive;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectArchiverTests {
+
+    private static final List<String> FILES = List.of(
+        "pom.xml",
+        "mvnw",
+        "src/main/java/com/example/demo/DemoApplication.java",
+        "src/main/java/com/example/demo/model/Customer.java",
+        "src/main/resources/application.properties",
+        "src/test/java/com/example/demo/DemoApplicationTests.java");
+
+    private final List<Path> directories = new ArrayList<>();
+    private final List<ProjectArchiver> archivers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        archivers.forEach(ProjectArchiver::stop);
+        for (Path directory : directories) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private ProjectArchiver archiver(int parallelism) {
+        ProjectArchiver archiver = new ProjectArchiver();
+        ReflectionTestUtils.setField(archiver, "defaultCompressionLevel", 6);
+        ReflectionTestUtils.setField(archiver, "parallelism", parallelism);
+        ReflectionTestUtils.setField(archiver, "entryTimestamp", "1980-02-01T00:00:00Z");
+        archiver.start();
+        archivers.add(archiver);
+        return archiver;
+    }
+
+    /**
+     * Crée le même projet dans un nouveau répertoire, dans l'ordre donné et avec la date de modification donnée.
+     */
+    private Path project(List<String> order, Instant modified) throws IOException {
+        Path directory = Files.createTempDirectory("project-archiver-tests");
+        directories.add(directory);
+        for (String name : order) {
+            Path file = directory.resolve(name);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, "// " + name + "\n" + "contenu généré\n".repeat(50));
+            Files.setLastModifiedTime(file, FileTime.from(modified));
+        }
+        directory.resolve("mvnw").toFile().setExecutable(true, false);
+        return directory;
+    }
+
+    private static byte[] archive(ProjectArchiver archiver, Path project, ArchiveFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        archiver.write(project, format, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void twoGenerationsOfTheSameProjectAreByteIdentical() throws IOException {
+        ProjectArchiver archiver = archiver(2);
+        Path first = project(FILES, Instant.parse("2024-01-01T10:00:00Z"));
+        List<String> reversed = new ArrayList<>(FILES);
+        Collections.reverse(reversed);
+        Path second = project(reversed, Instant.parse("2025-06-15T18:30:01Z"));
+
+        for (ArchiveFormat format : List.of(ArchiveFormat.ZIP, ArchiveFormat.TAR, ArchiveFormat.TAR_GZ)) {
+            byte[] expected = archive(archiver, first, format);
+            assertThat(archive(archiver, second, format)).isEqualTo(expected);
+            assertThat(archive(archiver, first, format)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void zipDoesNotDependOnCompressionParallelism() throws IOException {
+        Path project = project(FILES, Instant.now());
+
+        byte[] sequential = archive(archiver(1), project, ArchiveFormat.ZIP);
+        byte[] parallel = archive(archiver(4), project, ArchiveFormat.ZIP);
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(ProjectArchiver.sha256(parallel)).isEqualTo(ProjectArchiver.sha256(sequential));
+    }
+
+    @Test
+    void fileOutputMatchesStreamOutput() throws IOException {
+        ProjectArchiver archiver = archiver(2);
+        Path project = project(FILES, Instant.now());
+
+        for (ArchiveFormat format : List.of(ArchiveFormat.ZIP, ArchiveFormat.TAR, ArchiveFormat.TAR_GZ)) {
+            Path target = Files.createTempFile("project-archiver-tests", format.getExtension());
+            try {
+                archiver.write(project, format, target);
+                assertThat(Files.readAllBytes(target)).isEqualTo(archive(archiver, project, format));
+            } finally {
+                Files.delete(target);
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.project_generator.archive;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TarWriterTests {
+
+    // 131 octets : découpé entre le préfixe ustar et le nom
+    private static final String PREFIXED = "src/main/java/com/example/demo/" + "module/".repeat(12) + "Application.java";
+    // Plus de 255 octets : aucun découpage possible, entrée GNU ././@LongLink
+    private static final String LONG = "src/main/java/com/example/demo/" + "tres/long/chemin/".repeat(15) + "Fichier.java";
+
+    private Path project;
+    private ProjectArchiver archiver;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        project = Files.createTempDirectory("tar-writer-tests");
+        write("pom.xml", "<project/>");
+        write("mvnw", "#!/bin/sh\nexec java \"$@\"\n");
+        project.resolve("mvnw").toFile().setExecutable(true, false);
+        write(PREFIXED, "class Application {}");
+        write(LONG, "x".repeat(1000));
+
+        archiver = new ProjectArchiver();
+        ReflectionTestUtils.setField(archiver, "defaultCompressionLevel", 6);
+        ReflectionTestUtils.setField(archiver, "parallelism", 2);
+        ReflectionTestUtils.setField(archiver, "entryTimestamp", "1980-02-01T00:00:00Z");
+        archiver.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        archiver.stop();
+        try (Stream<Path> files = Files.walk(project)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private void write(String name, String content) throws IOException {
+        Path file = project.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    @Test
+    void pathsAndContentRoundTrip() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        archiver.write(project, ArchiveFormat.TAR, out);
+
+        Map<String, TarEntry> entries = read(out.toByteArray());
+        assertThat(entries.keySet()).containsExactly("mvnw", "pom.xml", PREFIXED, LONG);
+        assertThat(entries.get("pom.xml").content()).isEqualTo("<project/>");
+        assertThat(entries.get(PREFIXED).content()).isEqualTo("class Application {}");
+        assertThat(entries.get(LONG).content()).isEqualTo("x".repeat(1000));
+    }
+
+    @Test
+    void nameOver100BytesIsSplitIntoPrefix() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        archiver.write(project, ArchiveFormat.TAR, out);
+
+        TarEntry entry = read(out.toByteArray()).get(PREFIXED);
+        assertThat(entry.longLink()).isFalse();
+        assertThat(entry.prefix()).isEqualTo("src/main/java/com/example/demo");
+        assertThat(entry.prefix() + "/" + entry.headerName()).isEqualTo(PREFIXED);
+    }
+
+    @Test
+    void nameOver255BytesUsesGnuLongLink() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        archiver.write(project, ArchiveFormat.TAR, out);
+
+        TarEntry entry = read(out.toByteArray()).get(LONG);
+        assertThat(LONG.length()).isGreaterThan(255);
+        assertThat(entry.longLink()).isTrue();
+        assertThat(entry.headerName()).isEqualTo(LONG.substring(0, 100));
+    }
+
+    @Test
+    void executableBitIsKeptForMvnw() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        archiver.write(project, ArchiveFormat.TAR, out);
+
+        Map<String, TarEntry> entries = read(out.toByteArray());
+        assertThat(entries.get("mvnw").mode()).isEqualTo(0755);
+        assertThat(entries.get("pom.xml").mode()).isEqualTo(0644);
+    }
+
+    @Test
+    void fileAndGzipOutputsCarryTheSameTar() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        archiver.write(project, ArchiveFormat.TAR, stream);
+
+        Path target = Files.createTempFile("tar-writer-tests", ".tar");
+        try {
+            archiver.write(project, ArchiveFormat.TAR, target);
+            assertThat(Files.readAllBytes(target)).isEqualTo(stream.toByteArray());
+        } finally {
+            Files.delete(target);
+        }
+
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        archiver.write(project, ArchiveFormat.TAR_GZ, gzip);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.toByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(stream.toByteArray());
+        }
+    }
+
+    private record TarEntry(String headerName, String prefix, int mode, boolean longLink, String content) {
+    }
+
+    /**
+     * Relit l'archive bloc par bloc en vérifiant la somme de contrôle de chaque en-tête.
+     */
+    private static Map<String, TarEntry> read(byte[] tar) {
+        assertThat(tar.length % 512).isEqualTo(0);
+        Map<String, TarEntry> entries = new LinkedHashMap<>();
+        String longName = null;
+        int position = 0;
+        while (true) {
+            byte[] header = Arrays.copyOfRange(tar, position, position + 512);
+            position += 512;
+            if (isZero(header)) {
+                assertThat(isZero(Arrays.copyOfRange(tar, position, position + 512))).isTrue();
+                assertThat(position + 512).isEqualTo(tar.length);
+                return entries;
+            }
+            assertThat(new String(header, 257, 6, StandardCharsets.US_ASCII)).isEqualTo("ustar\0");
+            assertThat(octal(header, 148, 8)).isEqualTo(checksum(header));
+
+            int size = (int) octal(header, 124, 12);
+            String data = new String(tar, position, size, StandardCharsets.UTF_8);
+            position += (size + 511) / 512 * 512;
+            char type = (char) header[156];
+            if (type == 'L') {
+                assertThat(string(header, 0, 100)).isEqualTo("././@LongLink");
+                longName = data.substring(0, data.length() - 1);
+                continue;
+            }
+            assertThat(type).isEqualTo('0');
+            String name = string(header, 0, 100);
+            String prefix = string(header, 345, 155);
+            String fullName = longName != null ? longName : prefix.isEmpty() ? name : prefix + "/" + name;
+            entries.put(fullName, new TarEntry(name, prefix, (int) octal(header, 100, 8), longName != null, data));
+            longName = null;
+        }
+    }
+
+    private static boolean isZero(byte[] block) {
+        for (byte b : block) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long checksum(byte[] header) {
+        long sum = 0;
+        for (int i = 0; i < header.length; i++) {
+            sum += i >= 148 && i < 156 ? ' ' : header[i] & 0xFF;
+        }
+        return sum;
+    }
+
+    private static long octal(byte[] header, int offset, int length) {
+        String field = new String(header, offset, length, StandardCharsets.US_ASCII).replace("\0", "").trim();
+        return Long.parseLong(field, 8);
+    }
+
+    private static String string(byte[] header, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && header[end] != 0) {
+            end++;
+        }
+        return new String(header, offset, end - offset, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.project_generator.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DependencyCatalogTests {
+
+    private final DependencyCatalog catalog = DependencyCatalog.getDefault();
+
+    private static List<String> ids(BuildDependencies dependencies) {
+        return dependencies.getDependencies().stream().map(CatalogDependency::getId).toList();
+    }
+
+    private static DependencyCatalog load(String json) throws IOException {
+        return DependencyCatalog.load(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void defaultCatalogIsLoadedOnce() {
+        assertThat(DependencyCatalog.getDefault()).isSameAs(catalog);
+        assertThat(catalog.getGroups()).containsKeys("Core", "Web", "Data");
+        assertThat(catalog.getBoms()).containsKey("spring-cloud");
+    }
+
+    @Test
+    void aliasesResolveToTheSameEntry() {
+        assertThat(catalog.find("jpa")).isSameAs(catalog.find("data-jpa"));
+        assertThat(catalog.contains("r2dbc")).isTrue();
+        assertThat(catalog.find("does-not-exist")).isNull();
+    }
+
+    @Test
+    void featuresComeFirstAndEverythingFollowsTheCatalogOrder() {
+        BuildDependencies resolved = catalog.resolve(List.of("validation", "jpa", "web", "data-jpa"), List.of("base"), "3.4.4");
+
+        assertThat(ids(resolved)).containsExactly("starter", "lombok", "starter-test", "validation", "web", "data-jpa");
+        assertThat(resolved.getWarnings()).isEmpty();
+    }
+
+    @Test
+    void adHocDependenciesAreAppendedAfterTheCatalog() {
+        BuildDependencies resolved = catalog.resolve(List.of("com.acme:acme-starter", "web"), List.of(), "3.4.4");
+
+        assertThat(ids(resolved)).containsExactly("web", "com.acme:acme-starter");
+        assertThat(resolved.getMaven()).contains("<groupId>com.acme</groupId>", "<artifactId>acme-starter</artifactId>");
+    }
+
+    @Test
+    void requestedDependencyConflictingWithAFeatureIsDroppedWithAWarning() {
+        BuildDependencies resolved = catalog.resolve(List.of("web", "data-jpa"), List.of("reactive"), "3.4.4");
+
+        assertThat(ids(resolved)).contains("webflux", "data-r2dbc").doesNotContain("web", "data-jpa");
+        assertThat(resolved.getWarnings()).containsExactly(
+            "Dépendance 'web' ignorée : remplacée par 'webflux'",
+            "Dépendance 'data-jpa' ignorée : remplacée par 'data-r2dbc'");
+    }
+
+    @Test
+    void conflictBetweenRequestedDependenciesIsAnError() {
+        assertThatThrownBy(() -> catalog.resolve(List.of("web", "webflux"), List.of(), "3.4.4"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("'web'")
+            .hasMessageContaining("'webflux'");
+    }
+
+    @Test
+    void compatibilityRangeIsEnforcedForRequestedDependencies() {
+        assertThat(ids(catalog.resolve(List.of("openfeign"), List.of(), "3.4.4"))).containsExactly("openfeign");
+
+        for (String bootVersion : List.of("3.3.10", "3.5.0")) {
+            assertThatThrownBy(() -> catalog.resolve(List.of("openfeign"), List.of(), bootVersion))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("openfeign");
+        }
+    }
+
+    @Test
+    void unknownBootVersionSkipsTheRangeCheck() {
+        assertThat(ids(catalog.resolve(List.of("openfeign"), List.of(), null))).containsExactly("openfeign");
+    }
+
+    @Test
+    void bomsAreCollectedOncePerResolution() {
+        BuildDependencies resolved = catalog.resolve(List.of("openfeign", "web"), List.of(), "3.4.4");
+
+        assertThat(resolved.getBoms()).containsExactly(catalog.getBoms().get("spring-cloud"));
+        assertThat(resolved.getMavenBoms()).contains("<artifactId>spring-cloud-dependencies</artifactId>");
+        assertThat(catalog.resolve(List.of("web"), List.of(), "3.4.4").getBoms()).isEmpty();
+    }
+
+    @Test
+    void fragmentsCarryVersionAndScope() {
+        BuildDependencies resolved = catalog.resolve(List.of(), List.of("base", "benchmarks"), "3.4.4");
+
+        assertThat(resolved.getMaven()).contains("<version>1.37</version>", "<scope>test</scope>");
+        assertThat(resolved.getGroovy()).contains("compileOnly 'org.projectlombok:lombok'", "annotationProcessor 'org.projectlombok:lombok'");
+        assertThat(resolved.withVersion("jmh-core", "1.36").getMaven()).contains("<version>1.36</version>");
+    }
+
+    @Test
+    void invalidCatalogsAreRejectedAtLoad() {
+        assertThatThrownBy(() -> load("""
+            {"groups": [{"name": "Web", "dependencies": [
+              {"id": "web", "groupId": "g", "artifactId": "a"},
+              {"id": "web", "groupId": "g", "artifactId": "b"}]}]}
+            """)).isInstanceOf(IllegalStateException.class).hasMessageContaining("web");
+
+        assertThatThrownBy(() -> load("""
+            {"groups": [{"name": "Web", "dependencies": [
+              {"id": "feign", "groupId": "g", "artifactId": "a", "bom": "cloud"}]}]}
+            """)).isInstanceOf(IllegalStateException.class).hasMessageContaining("cloud");
+
+        assertThatThrownBy(() -> load("""
+            {"groups": [], "features": {"base": ["starter"]}}
+            """)).isInstanceOf(IllegalStateException.class).hasMessageContaining("starter");
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.project_generator.compatibility;
+
+import com.example.project_generator.compatibility.CompatibilityResolver.IncompatibleVersionsException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompatibilityResolverTests {
+
+    private final CompatibilityResolver resolver = new CompatibilityResolver();
+
+    @Test
+    void missingValuesFallBackToTheMatrixDefaults() {
+        ResolvedVersions resolved = resolver.resolve(null, " ", "");
+
+        assertThat(resolved.isValid()).isTrue();
+        assertThat(resolved.javaVersion()).isEqualTo(17);
+        assertThat(resolved.springBootVersion()).isEqualTo("3.4.4");
+        assertThat(resolved.buildTool()).isEqualTo("maven");
+    }
+
+    @Test
+    void toolVersionsAreTheHighestRequiredByJavaAndSpringBoot() {
+        ResolvedVersions resolved = resolver.resolve("17", "3.4.4", "maven");
+
+        assertThat(resolved.mavenVersion()).isEqualTo("3.8.6");
+        assertThat(resolved.gradleVersion()).isEqualTo("8.10");
+        assertThat(resolved.dependencyManagementPluginVersion()).isEqualTo("1.1.7");
+        // Lombok géré par Spring Boot suffit pour Java 17, pas pour Java 24
+        assertThat(resolved.lombokVersion()).isNull();
+        assertThat(resolver.resolve("24", "3.4.4", "maven").lombokVersion()).isEqualTo("1.18.38");
+    }
+
+    @Test
+    void intermediateJavaVersionUsesTheToolsOfThePreviousLine() {
+        ResolvedVersions resolved = resolver.resolve("22", "3.4.4", "gradle-kotlin");
+
+        assertThat(resolved.isValid()).isTrue();
+        assertThat(resolved.javaVersion()).isEqualTo(22);
+        assertThat(resolved.mavenVersion()).isEqualTo("3.9.6");
+    }
+
+    @Test
+    void lineResolvesToItsLatestPatchAndExactVersionIsKept() {
+        assertThat(resolver.resolve("17", "3.4", "maven").springBootVersion()).isEqualTo("3.4.4");
+        assertThat(resolver.resolve("17", "3.4.x", "maven").springBootVersion()).isEqualTo("3.4.4");
+        assertThat(resolver.resolve("17", "3.3.2", "maven").springBootVersion()).isEqualTo("3.3.2");
+    }
+
+    @Test
+    void unsupportedVersionsAreReportedTogether() {
+        ResolvedVersions resolved = resolver.resolve("11", "2.7.18", "ant");
+
+        assertThat(resolved.isValid()).isFalse();
+        assertThat(resolved.errors()).hasSize(3);
+        assertThat(resolved.mavenVersion()).isNull();
+    }
+
+    @Test
+    void javaOutsideTheSpringBootRangeIsAnError() {
+        ResolvedVersions resolved = resolver.resolve("24", "3.2", "maven");
+
+        assertThat(resolved.errors()).containsExactly("Spring Boot 3.2 requiert Java 17 à 23 (demandé : 24)");
+    }
+
+    @Test
+    void unreadableJavaVersionIsAnError() {
+        assertThat(resolver.resolve("dix-sept", "3.4.4", "maven").errors())
+            .containsExactly("Version Java illisible : dix-sept");
+    }
+
+    @Test
+    void checkThrowsWithEveryError() {
+        assertThat(resolver.check("21", "3.4.4", "gradle-groovy").isValid()).isTrue();
+
+        assertThatThrownBy(() -> resolver.check("11", "2.7.18", "maven"))
+            .isInstanceOf(IncompatibleVersionsException.class)
+            .satisfies(e -> assertThat(((IncompatibleVersionsException) e).getErrors()).hasSize(2));
+    }
+
+    @Test
+    void resolutionsAreMemoized() {
+        ResolvedVersions first = resolver.resolve("21", "3.4", "maven");
+
+        assertThat(resolver.resolve("21", "3.4", "maven")).isSameAs(first);
+        assertThat(resolver.resolve("21", "3.4.4", "maven")).isNotSameAs(first).isEqualTo(first);
+    }
+}
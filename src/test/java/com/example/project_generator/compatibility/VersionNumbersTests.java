@@ -0,0 +1,57 @@
+package com.example.project_generator.compatibility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionNumbersTests {
+
+    @Test
+    void javaMajorToleratesLegacyAndQualifiedVersions() {
+        assertThat(VersionNumbers.javaMajor("21-ea")).isEqualTo(21);
+        assertThat(VersionNumbers.javaMajor("1.8")).isEqualTo(8);
+        assertThat(VersionNumbers.javaMajor(" 17.0.2 ")).isEqualTo(17);
+    }
+
+    @Test
+    void javaMajorRejectsMissingOrUnreadableVersions() {
+        for (String version : new String[] {null, "", "  ", "dix-sept", "v17", "12345678901"}) {
+            assertThatThrownBy(() -> VersionNumbers.javaMajor(version))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void majorMinorIgnoresPatchAndQualifier() {
+        assertThat(VersionNumbers.majorMinor("3.4.0-SNAPSHOT")).isEqualTo("3.4");
+        assertThat(VersionNumbers.majorMinor("3.5.0-M1")).isEqualTo("3.5");
+        assertThat(VersionNumbers.majorMinor("3.4.x")).isEqualTo("3.4");
+        assertThat(VersionNumbers.majorMinor("3.4")).isEqualTo("3.4");
+
+        for (String version : new String[] {null, "3", "3.x", "x.4.4"}) {
+            assertThat(VersionNumbers.majorMinor(version)).isNull();
+        }
+    }
+
+    @Test
+    void isExactRequiresAPatchNumber() {
+        for (String version : List.of("3.4.4", "3.5.0-M1", "3.4.0-SNAPSHOT")) {
+            assertThat(VersionNumbers.isExact(version)).isTrue();
+        }
+        for (String version : List.of("3.4", "3.4.x", "3")) {
+            assertThat(VersionNumbers.isExact(version)).isFalse();
+        }
+    }
+
+    @Test
+    void compareIsNumericPerComponent() {
+        assertThat(VersionNumbers.compare("3.4.10", "3.4.4")).isGreaterThan(0);
+        assertThat(VersionNumbers.compare("1.18.28", "1.18.36")).isLessThan(0);
+        assertThat(VersionNumbers.compare("3.4", "3.4.0")).isZero();
+        assertThat(VersionNumbers.compare("3.4.0-SNAPSHOT", "3.4.0")).isZero();
+        assertThat(VersionNumbers.max("3.6.3", "3.8.6")).isEqualTo("3.8.6");
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.project_generator.contributor;
+
+import com.example.project_generator.contributor.ContributorRegistry.ContributorFailedException;
+import com.example.project_generator.model.CustomProjectDescription;
+import com.example.project_generator.plan.ProjectPlan;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContributorRegistryTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ContributorRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ContributorRegistry();
+        ReflectionTestUtils.setField(registry, "defaultTimeBudget", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(registry, "threads", 2);
+        ReflectionTestUtils.setField(registry, "meterRegistry", meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.stop();
+    }
+
+    private static ProjectPlan plan() {
+        return new ProjectPlan().text("pom.xml", "<project/>");
+    }
+
+    @Test
+    void contributorsAreSortedByOrderThenName() {
+        TestContributor b = new TestContributor("b", 0);
+        TestContributor a = new TestContributor("a", 0);
+        TestContributor first = new TestContributor("z", -1);
+
+        assertThat(ContributorRegistry.order(List.of(b, a, first))).containsExactly(first, a, b);
+    }
+
+    @Test
+    void producerRunsBeforeItsConsumerWhateverTheOrder() {
+        TestContributor consumer = new TestContributor("consumer", -10).inputs("docs/api.md");
+        TestContributor producer = new TestContributor("producer", 10).outputs("docs/**");
+
+        assertThat(ContributorRegistry.order(List.of(consumer, producer))).containsExactly(producer, consumer);
+    }
+
+    @Test
+    void circularInputsAreRejected() {
+        TestContributor a = new TestContributor("a", 0).inputs("b.txt").outputs("a.txt");
+        TestContributor b = new TestContributor("b", 0).inputs("a.txt").outputs("b.txt");
+
+        assertThatThrownBy(() -> ContributorRegistry.order(List.of(a, b)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void contributedFilesAreRenderedIntoThePlan() throws IOException {
+        registry.start(List.of(new TestContributor("docs", 0).outputs("docs/**")
+            .contributing(plan -> plan.text("docs/README.md", "# Docs"))));
+        ProjectPlan plan = plan();
+
+        registry.contribute(plan, null);
+
+        assertThat(plan.render("docs/README.md")).isEqualTo("# Docs");
+    }
+
+    @Test
+    void optionalContributorOverBudgetIsSkipped() throws IOException {
+        registry.start(List.of(new TestContributor("slow", 0).outputs("slow.txt")
+            .contributing(plan -> {
+                sleep(Duration.ofSeconds(5));
+                plan.text("slow.txt", "trop tard");
+            })));
+        ProjectPlan plan = plan();
+
+        registry.contribute(plan, null);
+
+        assertThat(plan.contains("slow.txt")).isFalse();
+        assertThat(meterRegistry.counter("generator.contributor.timeouts", "contributor", "slow").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("generator.contributor.skipped", "contributor", "slow").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void requiredContributorOverBudgetFailsTheGeneration() {
+        registry.start(List.of(new TestContributor("slow", 0).outputs("slow.txt").required()
+            .contributing(plan -> sleep(Duration.ofSeconds(5)))));
+
+        assertThatThrownBy(() -> registry.contribute(plan(), null))
+            .isInstanceOf(ContributorFailedException.class)
+            .satisfies(e -> assertThat(((ContributorFailedException) e).getContributor()).isEqualTo("slow"));
+    }
+
+    @Test
+    void optionalContributorWhoseRenderingFailsIsSkippedBeforeTheProjectIsWritten() throws IOException {
+        registry.start(List.of(new TestContributor("broken", 0).outputs("**")
+            .contributing(plan -> plan
+                .text("ok.txt", "rendu")
+                .text("broken.txt", writer -> {
+                    throw new IOException("template introuvable");
+                }))));
+        ProjectPlan plan = plan();
+
+        registry.contribute(plan, null);
+
+        // Aucun fichier du contributeur n'est repris, pas même celui qui se rendait correctement
+        assertThat(plan.contains("ok.txt")).isFalse();
+        assertThat(plan.contains("broken.txt")).isFalse();
+        assertThat(plan.render("pom.xml")).isEqualTo("<project/>");
+    }
+
+    @Test
+    void optionalContributorWhoseRenderingHangsIsSkipped() {
+        registry.start(List.of(new TestContributor("hanging", 0).outputs("hanging.txt")
+            .contributing(plan -> plan.text("hanging.txt", writer -> sleep(Duration.ofSeconds(5))))));
+        ProjectPlan plan = plan();
+
+        registry.contribute(plan, null);
+
+        assertThat(plan.contains("hanging.txt")).isFalse();
+        assertThat(meterRegistry.counter("generator.contributor.timeouts", "contributor", "hanging").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void requiredContributorWhoseRenderingFailsFailsDuringContribution() {
+        registry.start(List.of(new TestContributor("broken", 0).outputs("broken.txt").required()
+            .contributing(plan -> plan.text("broken.txt", writer -> {
+                throw new IOException("template introuvable");
+            }))));
+
+        assertThatThrownBy(() -> registry.contribute(plan(), null))
+            .isInstanceOf(ContributorFailedException.class);
+    }
+
+    @Test
+    void writingOutsideDeclaredOutputsOrOverAGeneratedFileIsRefused() {
+        registry.start(List.of(
+            new TestContributor("outside", 0).outputs("docs/**").contributing(plan -> plan.text("src/Main.java", "")),
+            new TestContributor("overwrite", 1).outputs("*.xml").required().contributing(plan -> plan.text("pom.xml", ""))));
+        ProjectPlan plan = plan();
+
+        assertThatThrownBy(() -> registry.contribute(plan, null))
+            .isInstanceOf(ContributorFailedException.class)
+            .satisfies(e -> assertThat(((ContributorFailedException) e).getContributor()).isEqualTo("overwrite"));
+        assertThat(plan.contains("src/Main.java")).isFalse();
+    }
+
+    private static void sleep(Duration duration) throws InterruptedIOException {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Contribution {
+
+        void apply(ProjectPlan plan) throws IOException;
+    }
+
+    private static final class TestContributor implements GenerationContributor {
+
+        private final String name;
+        private final int order;
+        private Set<String> inputs = Set.of();
+        private Set<String> outputs = Set.of();
+        private boolean optional = true;
+        private Contribution contribution = plan -> {
+        };
+
+        TestContributor(String name, int order) {
+            this.name = name;
+            this.order = order;
+        }
+
+        TestContributor inputs(String... inputs) {
+            this.inputs = Set.of(inputs);
+            return this;
+        }
+
+        TestContributor outputs(String... outputs) {
+            this.outputs = Set.of(outputs);
+            return this;
+        }
+
+        TestContributor required() {
+            this.optional = false;
+            return this;
+        }
+
+        TestContributor contributing(Contribution contribution) {
+            this.contribution = contribution;
+            return this;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public Set<String> getInputs() {
+            return inputs;
+        }
+
+        @Override
+        public Set<String> getOutputs() {
+            return outputs;
+        }
+
+        @Override
+        public boolean isOptional() {
+            return optional;
+        }
+
+        @Override
+        public void contribute(ProjectPlan plan, CustomProjectDescription description) throws IOException {
+            contribution.apply(plan);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.project_generator.controller;
+
+import com.example.project_generator.admission.AdmissionControl;
+import com.example.project_generator.admission.AdmissionControl.AdmissionRejectedException;
+import com.example.project_generator.archive.ProjectArchiver;
+import com.example.project_generator.catalog.DependencyCatalog;
+import com.example.project_generator.compatibility.CompatibilityResolver;
+import com.example.project_generator.compatibility.CompatibilityResolver.IncompatibleVersionsException;
+import com.example.project_generator.converter.CustomProjectRequestToDescriptionConverter;
+import com.example.project_generator.service.GenerationCoalescer;
+import com.example.project_generator.service.ProjectGenerationService;
+import com.example.project_generator.validation.ProjectRequestValidator;
+import com.example.project_generator.verification.GeneratedSourceVerifier.VerificationException;
+import com.example.project_generator.verification.GeneratedSourceVerifier.VerifierUnavailableException;
+import com.example.project_generator.workspace.WorkspaceManager;
+import com.example.project_generator.workspace.WorkspaceManager.WorkspaceQuotaExceededException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Les actions {@code /starter.zip} et {@code /starter.tgz} délèguent à {@link ProjectGeneratorController} :
+ * leurs erreurs doivent recevoir les mêmes statuts que /generate, par {@link GenerationExceptionHandler}.
+ */
+class ClientMetadataControllerTests {
+
+    private final AdmissionControl admissionControl = mock(AdmissionControl.class);
+    private final GenerationCoalescer generationCoalescer = mock(GenerationCoalescer.class);
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DependencyCatalog catalog = DependencyCatalog.getDefault();
+        CompatibilityResolver compatibilityResolver = new CompatibilityResolver();
+
+        ProjectRequestValidator validator = new ProjectRequestValidator();
+        ReflectionTestUtils.setField(validator, "dependencyCatalog", catalog);
+        ReflectionTestUtils.setField(validator, "compatibilityResolver", compatibilityResolver);
+
+        ProjectGeneratorController generator = new ProjectGeneratorController();
+        ReflectionTestUtils.setField(generator, "converter", mock(CustomProjectRequestToDescriptionConverter.class));
+        ReflectionTestUtils.setField(generator, "projectGenerationService", mock(ProjectGenerationService.class));
+        ReflectionTestUtils.setField(generator, "projectArchiver", mock(ProjectArchiver.class));
+        ReflectionTestUtils.setField(generator, "workspaceManager", mock(WorkspaceManager.class));
+        ReflectionTestUtils.setField(generator, "generationCoalescer", generationCoalescer);
+        ReflectionTestUtils.setField(generator, "admissionControl", admissionControl);
+        ReflectionTestUtils.setField(generator, "projectRequestValidator", validator);
+
+        ClientMetadataController controller = new ClientMetadataController();
+        ReflectionTestUtils.setField(controller, "dependencyCatalog", catalog);
+        ReflectionTestUtils.setField(controller, "compatibilityResolver", compatibilityResolver);
+        ReflectionTestUtils.setField(controller, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(controller, "projectGeneratorController", generator);
+        controller.precompute();
+
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GenerationExceptionHandler())
+            .build();
+    }
+
+    @Test
+    void starterReturnsTheArchive() throws Exception {
+        when(generationCoalescer.execute(any(), any())).thenReturn(new byte[] {1, 2, 3});
+
+        mvc.perform(get("/starter.zip"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/zip"))
+            .andExpect(content().bytes(new byte[] {1, 2, 3}));
+        mvc.perform(get("/starter.tgz"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/gzip"));
+    }
+
+    @Test
+    void invalidRequestIs400() throws Exception {
+        mvc.perform(get("/starter.zip").param("artifactId", "my-app"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0].field").value("artifactId"));
+        verify(admissionControl, never()).admit(any());
+    }
+
+    @Test
+    void rateLimitIs429WithRetryAfter() throws Exception {
+        doThrow(new AdmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS, 3, "Limite de débit atteinte pour ce client"))
+            .when(admissionControl).admit(any());
+
+        mvc.perform(get("/starter.zip"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+    }
+
+    @Test
+    void overBudgetIs413WithoutRetryAfter() throws Exception {
+        doThrow(new AdmissionRejectedException(HttpStatus.PAYLOAD_TOO_LARGE, 0, "Requête trop coûteuse"))
+            .when(admissionControl).admit(any());
+
+        mvc.perform(get("/starter.zip"))
+            .andExpect(status().isPayloadTooLarge())
+            .andExpect(header().doesNotExist(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void quotaExceededIs507() throws Exception {
+        when(generationCoalescer.execute(any(), any()))
+            .thenThrow(new WorkspaceQuotaExceededException(WorkspaceManager.DEFAULT_TENANT, 20, 10));
+
+        mvc.perform(get("/starter.tgz"))
+            .andExpect(status().isInsufficientStorage())
+            .andExpect(jsonPath("$.tenant").value(WorkspaceManager.DEFAULT_TENANT));
+    }
+
+    @Test
+    void incompatibleVersionsIs400() throws Exception {
+        when(generationCoalescer.execute(any(), any()))
+            .thenThrow(new IncompatibleVersionsException(List.of("Java 17 non pris en charge")));
+
+        mvc.perform(get("/starter.zip"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0]").value("Java 17 non pris en charge"));
+    }
+
+    @Test
+    void verificationFailureIs422() throws Exception {
+        when(generationCoalescer.execute(any(), any()))
+            .thenThrow(new VerificationException(List.of("Customer.java:3: cannot find symbol")));
+
+        mvc.perform(get("/starter.zip"))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors[0]").value("Customer.java:3: cannot find symbol"));
+    }
+
+    @Test
+    void missingCompilerIs503() throws Exception {
+        when(generationCoalescer.execute(any(), any())).thenThrow(new VerifierUnavailableException());
+
+        mvc.perform(get("/starter.zip"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.message").value(new VerifierUnavailableException().getMessage()));
+    }
+
+    @Test
+    void malformedAcceptIs406() throws Exception {
+        mvc.perform(get("/metadata/client").header(HttpHeaders.ACCEPT, "application/vnd.initializr.v2.2+json;q=x, /"))
+            .andExpect(status().isNotAcceptable());
+        mvc.perform(get("/metadata/client"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+}
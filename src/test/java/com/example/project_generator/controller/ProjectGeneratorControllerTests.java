@@ -0,0 +1,137 @@
+package com.example.project_generator.controller;
+
+import com.example.project_generator.admission.AdmissionControl;
+import com.example.project_generator.admission.AdmissionControl.AdmissionRejectedException;
+import com.example.project_generator.archive.ProjectArchiver;
+import com.example.project_generator.catalog.DependencyCatalog;
+import com.example.project_generator.compatibility.CompatibilityResolver;
+import com.example.project_generator.converter.CustomProjectRequestToDescriptionConverter;
+import com.example.project_generator.model.CustomProjectDescription;
+import com.example.project_generator.plan.ProjectPlan;
+import com.example.project_generator.service.GenerationCoalescer;
+import com.example.project_generator.service.ProjectGenerationService;
+import com.example.project_generator.validation.ProjectRequestValidator;
+import com.example.project_generator.workspace.WorkspaceManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * La prévisualisation construit le plan sans toucher au disque, sous la même admission que /generate.
+ */
+class ProjectGeneratorControllerTests {
+
+    private static final String REQUEST = """
+        {"groupId": "com.example", "artifactId": "demo", "buildTool": "maven", "javaVersion": "17",
+         "springBootVersion": "3.4.4", "architectureType": "en-couches", "dependencies": ["web"]}
+        """;
+
+    private final AdmissionControl admissionControl = mock(AdmissionControl.class);
+    private final ProjectGenerationService projectGenerationService = mock(ProjectGenerationService.class);
+    private final WorkspaceManager workspaceManager = mock(WorkspaceManager.class);
+    private final CustomProjectRequestToDescriptionConverter converter = mock(CustomProjectRequestToDescriptionConverter.class);
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ProjectRequestValidator validator = new ProjectRequestValidator();
+        ReflectionTestUtils.setField(validator, "dependencyCatalog", DependencyCatalog.getDefault());
+        ReflectionTestUtils.setField(validator, "compatibilityResolver", new CompatibilityResolver());
+
+        ProjectGeneratorController controller = new ProjectGeneratorController();
+        ReflectionTestUtils.setField(controller, "converter", converter);
+        ReflectionTestUtils.setField(controller, "projectGenerationService", projectGenerationService);
+        ReflectionTestUtils.setField(controller, "projectArchiver", mock(ProjectArchiver.class));
+        ReflectionTestUtils.setField(controller, "workspaceManager", workspaceManager);
+        ReflectionTestUtils.setField(controller, "generationCoalescer", mock(GenerationCoalescer.class));
+        ReflectionTestUtils.setField(controller, "admissionControl", admissionControl);
+        ReflectionTestUtils.setField(controller, "projectRequestValidator", validator);
+
+        CustomProjectDescription description = new CustomProjectDescription();
+        when(converter.convert(any())).thenReturn(description);
+        when(projectGenerationService.planProject(description)).thenReturn(new ProjectPlan()
+            .text("pom.xml", "<project/>")
+            .text("src/main/java/com/example/demo/DemoApplication.java", writer -> {
+                throw new IOException("seul le fichier demandé est rendu");
+            }));
+
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GenerationExceptionHandler())
+            .build();
+    }
+
+    private static MockHttpServletRequestBuilder preview() {
+        return post("/generate/preview").contentType(MediaType.APPLICATION_JSON).content(REQUEST);
+    }
+
+    @Test
+    void previewListsThePlanWithoutWritingTheProject() throws Exception {
+        mvc.perform(preview())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.artifactId").value("demo"))
+            .andExpect(jsonPath("$.files.length()").value(2));
+
+        verify(admissionControl).admit(any());
+        verify(admissionControl).acquire();
+        verify(projectGenerationService).planProject(any());
+        verify(projectGenerationService, never()).generateProject(any(), any());
+        verifyNoInteractions(workspaceManager);
+    }
+
+    @Test
+    void previewRendersOnlyTheRequestedFile() throws Exception {
+        mvc.perform(preview().param("path", "pom.xml"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("<project/>"));
+
+        verify(projectGenerationService, never()).generateProject(any(), any());
+        verifyNoInteractions(workspaceManager);
+    }
+
+    @Test
+    void previewOfAnUnknownFileIs404() throws Exception {
+        mvc.perform(preview().param("path", "README.md"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void rejectedPreviewNeitherTakesAPermitNorPlans() throws Exception {
+        doThrow(new AdmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS, 1, "Limite de débit atteinte pour ce client"))
+            .when(admissionControl).admit(any());
+
+        mvc.perform(preview())
+            .andExpect(status().isTooManyRequests());
+
+        verify(admissionControl, never()).acquire();
+        verifyNoInteractions(projectGenerationService, workspaceManager);
+    }
+
+    @Test
+    void invalidPreviewIs400BeforeAdmission() throws Exception {
+        mvc.perform(post("/generate/preview").contentType(MediaType.APPLICATION_JSON)
+                .content(REQUEST.replace("\"demo\"", "\"my-app\"")))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0].field").value("artifactId"));
+
+        verifyNoInteractions(admissionControl, projectGenerationService, workspaceManager);
+    }
+}
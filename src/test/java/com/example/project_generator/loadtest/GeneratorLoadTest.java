@@ -0,0 +1,291 @@
+package com.example.project_generator.loadtest;
+
+import com.example.project_generator.controller.ProjectGeneratorController;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Test de charge de bout en bout : l'application démarre sur un port aléatoire, {@code loadtest.clients} clients
+ * (modèle fermé, une requête à la fois chacun) envoient à POST /generate un mélange pondéré de {@link LoadScenario}
+ * pendant {@code loadtest.warmupSeconds} puis {@code loadtest.durationSeconds}. Seule la seconde phase est mesurée.
+ *
+ * Exclu de mvn test ; lancement : mvn -P load-test test [-Dloadtest.clients=32 -Dloadtest.mix=...]
+ *
+ * Le fournisseur IA (together.api.url) est remplacé par un bouchon HTTP local : aucune campagne ne sort du poste.
+ * Le contrôle d'admission est relâché pour mesurer la génération elle-même et non le débit autorisé.
+ *
+ * Seuils : loadtest.maxErrorRate, loadtest.minThroughput (req/s), loadtest.p99Millis, loadtest.maxGcPercent,
+ * loadtest.maxHeapMb (0 = ignoré). Avec -Dloadtest.baseline=chemin/report.json, le débit ne doit pas baisser et
+ * les p95/p99 ne doivent pas augmenter de plus de loadtest.tolerance (0.2 = 20 %) par rapport à ce rapport.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "together.api.key=loadtest",
+    "project.admission.bucket-capacity=1000000000",
+    "project.admission.refill-per-second=1000000000",
+    "project.workspace.tenant-quota=100GB",
+    "project.workspace.max-total-size=100GB"
+})
+class GeneratorLoadTest {
+
+    private static final Path REPORT = Path.of("target", "loadtest", "report.json");
+
+    private static final String AI_RESPONSE = "{\"choices\":[{\"message\":{\"role\":\"assistant\","
+        + "\"content\":\"Recommandations de sécurité (bouchon du test de charge).\"}}]}";
+
+    private static HttpServer aiStub;
+    private static final AtomicLong aiCalls = new AtomicLong();
+
+    @LocalServerPort
+    private int port;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    record Sample(String scenario, long latencyNanos) {
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        aiStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        aiStub.createContext("/v1/chat/completions", exchange -> {
+            aiCalls.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = AI_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        aiStub.start();
+        registry.add("together.api.url",
+            () -> "http://127.0.0.1:" + aiStub.getAddress().getPort() + "/v1/chat/completions");
+
+        Path workspaces = Files.createTempDirectory("generator-load-test");
+        registry.add("project.directory", workspaces::toString);
+    }
+
+    @AfterAll
+    static void stopAiStub() {
+        if (aiStub != null) {
+            aiStub.stop(0);
+        }
+    }
+
+    @Test
+    void generateUnderLoad() throws Exception {
+        int clients = Integer.getInteger("loadtest.clients", 16);
+        int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 10);
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 30);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        List<LoadScenario> scenarios = LoadScenario.parseMix(System.getProperty("loadtest.mix", LoadScenario.DEFAULT_MIX));
+        int totalWeight = scenarios.stream().mapToInt(LoadScenario::weight).sum();
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        URI uri = URI.create("http://localhost:" + port + "/generate");
+
+        AtomicLong sequence = new AtomicLong();
+        ConcurrentLinkedQueue<Sample> samples = new ConcurrentLinkedQueue<>();
+        Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+        long start = System.nanoTime();
+        long measureStart = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<?>> running = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            Random random = new Random(seed + c);
+            String tenant = "loadtest-" + c;
+            running.add(pool.submit(() -> {
+                while (System.nanoTime() < end) {
+                    LoadScenario scenario = pick(scenarios, totalWeight, random);
+                    HttpRequest request = HttpRequest.newBuilder(uri)
+                        .timeout(Duration.ofSeconds(60))
+                        .header("Content-Type", "application/json")
+                        .header(ProjectGeneratorController.TENANT_HEADER, tenant)
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(
+                            objectMapper.writeValueAsBytes(scenario.toRequest(sequence.incrementAndGet()))))
+                        .build();
+
+                    long sent = System.nanoTime();
+                    String failure = null;
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            failure = "HTTP " + response.statusCode();
+                        }
+                    } catch (IOException e) {
+                        failure = e.getClass().getSimpleName();
+                    }
+                    long received = System.nanoTime();
+
+                    if (sent >= measureStart && received <= end) {
+                        samples.add(new Sample(scenario.name(), received - sent));
+                        if (failure != null) {
+                            failures.computeIfAbsent(scenario.name() + " : " + failure, k -> new LongAdder()).increment();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // Début de la mesure : pics de heap remis à zéro, compteurs GC relevés
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, measureStart - System.nanoTime()));
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(p -> p.getType() == MemoryType.HEAP)
+            .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long[] gcBefore = gcTotals();
+
+        for (Future<?> future : running) {
+            future.get(durationSeconds + warmupSeconds + 120L, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        long[] gcAfter = gcTotals();
+        // Somme des pics par pool : majorant du pic réel, les pools n'atteignant pas leur maximum au même instant
+        long heapPeak = heapPools.stream().mapToLong(p -> p.getPeakUsage().getUsed()).sum();
+        System.gc();
+        long heapAfter = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        Map<String, List<Long>> byScenario = new TreeMap<>();
+        long[] latencies = new long[samples.size()];
+        int i = 0;
+        for (Sample sample : samples) {
+            latencies[i++] = sample.latencyNanos();
+            byScenario.computeIfAbsent(sample.scenario(), k -> new ArrayList<>()).add(sample.latencyNanos());
+        }
+        Map<String, long[]> scenarioLatencies = new LinkedHashMap<>();
+        byScenario.forEach((name, values) -> scenarioLatencies.put(name, values.stream().mapToLong(Long::longValue).toArray()));
+        long errors = failures.values().stream().mapToLong(LongAdder::sum).sum();
+
+        LoadTestReport report = LoadTestReport.of(clients, end - measureStart, latencies, errors, scenarioLatencies,
+            heapPeak, heapAfter, gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1], aiCalls.get());
+        System.out.println(report);
+        failures.forEach((failure, count) -> System.err.println("  " + failure + " x" + count.sum()));
+
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+        System.out.println("Rapport : " + REPORT.toAbsolutePath());
+
+        List<String> missed = checkThresholds(report);
+        if (!missed.isEmpty()) {
+            fail("Seuils de charge non tenus : " + missed);
+        }
+    }
+
+    private List<String> checkThresholds(LoadTestReport report) throws IOException {
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0"));
+        double minThroughput = Double.parseDouble(System.getProperty("loadtest.minThroughput", "1"));
+        long p99Millis = Long.getLong("loadtest.p99Millis", 5000L);
+        double maxGcPercent = Double.parseDouble(System.getProperty("loadtest.maxGcPercent", "15"));
+        long maxHeapMb = Long.getLong("loadtest.maxHeapMb", 0L);
+
+        List<String> missed = new ArrayList<>();
+        if (report.requests() == 0) {
+            missed.add("aucune requête mesurée");
+        }
+        if (report.errorRate() > maxErrorRate) {
+            missed.add(String.format("taux d'erreur %.2f %% > %.2f %%", report.errorRate() * 100, maxErrorRate * 100));
+        }
+        if (report.throughput() < minThroughput) {
+            missed.add(String.format("débit %.1f req/s < %.1f req/s", report.throughput(), minThroughput));
+        }
+        if (report.p99Millis() > p99Millis) {
+            missed.add(String.format("p99 %.1f ms > %d ms", report.p99Millis(), p99Millis));
+        }
+        if (report.gcPercent() > maxGcPercent) {
+            missed.add(String.format("GC %.1f %% du temps > %.1f %%", report.gcPercent(), maxGcPercent));
+        }
+        if (maxHeapMb > 0 && report.heapPeakMb() > maxHeapMb) {
+            missed.add("pic de heap " + report.heapPeakMb() + " Mo > " + maxHeapMb + " Mo");
+        }
+
+        String baselinePath = System.getProperty("loadtest.baseline");
+        if (baselinePath != null && !baselinePath.isBlank()) {
+            JsonNode baseline = objectMapper.readTree(Path.of(baselinePath).toFile());
+            double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.2"));
+            double baselineThroughput = baseline.path("throughput").asDouble();
+            if (report.throughput() < baselineThroughput * (1 - tolerance)) {
+                missed.add(String.format("débit %.1f req/s en recul par rapport à la référence (%.1f req/s)",
+                    report.throughput(), baselineThroughput));
+            }
+            for (String latency : List.of("p95Millis", "p99Millis")) {
+                double reference = baseline.path(latency).asDouble();
+                double current = latency.equals("p95Millis") ? report.p95Millis() : report.p99Millis();
+                if (reference > 0 && current > reference * (1 + tolerance)) {
+                    missed.add(String.format("%s %.1f ms en hausse par rapport à la référence (%.1f ms)",
+                        latency, current, reference));
+                }
+            }
+        }
+        return missed;
+    }
+
+    private static LoadScenario pick(List<LoadScenario> scenarios, int totalWeight, Random random) {
+        int ticket = random.nextInt(totalWeight);
+        for (LoadScenario scenario : scenarios) {
+            ticket -= scenario.weight();
+            if (ticket < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    /** Nombre de collections et temps cumulé (ms) de tous les collecteurs. */
+    private static long[] gcTotals() {
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[] {count, time};
+    }
+}
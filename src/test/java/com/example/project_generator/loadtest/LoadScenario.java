@@ -0,0 +1,119 @@
+package com.example.project_generator.loadtest;
+
+import com.example.project_generator.model.CustomProjectRequest;
+import com.example.project_generator.model.FieldDefinition;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Profil de requête /generate décrit par son nom : {@code <small|large>-<maven|gradle>-<en-couches|hexagonale>},
+ * suivi éventuellement de {@code -docker} et/ou {@code -ci}. Exemple : {@code large-gradle-hexagonale-docker-ci}.
+ *
+ * Un mélange s'écrit {@code nom:poids,nom:poids} (propriété {@code loadtest.mix}).
+ */
+record LoadScenario(String name, int weight, boolean large, String buildTool, String architectureType,
+                    boolean docker, boolean ci) {
+
+    static final String DEFAULT_MIX = "small-maven-en-couches:4,small-gradle-hexagonale:2,"
+        + "large-maven-hexagonale-docker-ci:1,large-gradle-en-couches-docker-ci:1";
+
+    private static final String[] FIELD_TYPES = {"String", "Integer", "LocalDate", "BigDecimal", "Boolean"};
+
+    static List<LoadScenario> parseMix(String mix) {
+        List<LoadScenario> scenarios = new ArrayList<>();
+        for (String item : mix.split(",")) {
+            String entry = item.trim();
+            if (entry.isEmpty()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf(':');
+            String name = separator >= 0 ? entry.substring(0, separator) : entry;
+            int weight = separator >= 0 ? Integer.parseInt(entry.substring(separator + 1)) : 1;
+            if (weight < 1) {
+                throw new IllegalArgumentException("Poids invalide pour " + name + " : " + weight);
+            }
+            scenarios.add(parse(name, weight));
+        }
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("Mélange de scénarios vide : '" + mix + "'");
+        }
+        return scenarios;
+    }
+
+    static LoadScenario parse(String name, int weight) {
+        String rest = name;
+        boolean ci = rest.endsWith("-ci");
+        if (ci) {
+            rest = rest.substring(0, rest.length() - 3);
+        }
+        boolean docker = rest.endsWith("-docker");
+        if (docker) {
+            rest = rest.substring(0, rest.length() - 7);
+        }
+
+        String[] parts = rest.split("-", 3);
+        if (parts.length != 3 || !Set.of("small", "large").contains(parts[0])
+                || !Set.of("maven", "gradle").contains(parts[1])
+                || !Set.of("en-couches", "hexagonale").contains(parts[2])) {
+            throw new IllegalArgumentException("Scénario inconnu : '" + name
+                + "' (attendu <small|large>-<maven|gradle>-<en-couches|hexagonale>[-docker][-ci])");
+        }
+        String buildTool = parts[1].equals("gradle") ? "gradle-groovy" : "maven";
+        return new LoadScenario(name, weight, parts[0].equals("large"), buildTool, parts[2], docker, ci);
+    }
+
+    /**
+     * Construit la requête n° {@code sequence} : l'artifactId est unique pour que le regroupement des requêtes
+     * identiques (GenerationCoalescer) ne fausse pas la mesure.
+     */
+    CustomProjectRequest toRequest(long sequence) {
+        int entityCount = large ? 12 : 2;
+        int fieldCount = large ? 15 : 4;
+
+        CustomProjectRequest request = new CustomProjectRequest();
+        request.setGroupId("com.example.loadtest");
+        request.setArtifactId("load" + sequence);
+        request.setName("load" + sequence);
+        request.setBuildTool(buildTool);
+        request.setArchitectureType(architectureType);
+        request.setJavaVersion("17");
+        request.setPort(8080);
+
+        Set<String> dependencies = new TreeSet<>(Set.of("web", "data-jpa", "h2", "lombok"));
+        if (large) {
+            dependencies.add("validation");
+            dependencies.add("actuator");
+        }
+        request.setDependencies(dependencies);
+
+        List<String> entities = new ArrayList<>();
+        Map<String, List<FieldDefinition>> entityFields = new HashMap<>();
+        Map<String, Boolean> restEndpoints = new HashMap<>();
+        for (int e = 0; e < entityCount; e++) {
+            String entity = "Entity" + e;
+            entities.add(entity);
+            List<FieldDefinition> fields = new ArrayList<>();
+            fields.add(new FieldDefinition("id", "Long", true, true));
+            for (int f = 1; f < fieldCount; f++) {
+                fields.add(new FieldDefinition("field" + f, FIELD_TYPES[f % FIELD_TYPES.length], false, f % 3 == 0));
+            }
+            entityFields.put(entity, fields);
+            restEndpoints.put(entity, true);
+        }
+        request.setEntities(entities);
+        request.setEntityFields(entityFields);
+        request.setRestEndpoints(restEndpoints);
+
+        request.setGenerateDocker(docker);
+        if (docker) {
+            request.setDockerRepository("registry.example.com/loadtest");
+        }
+        request.setGenerateCLCG(ci);
+        return request;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.project_generator.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Résultat d'une campagne : débit, latences (ms), mémoire et GC de la JVM qui héberge l'application.
+ * Sérialisé en JSON dans target/loadtest/report.json ; un rapport précédent sert de référence
+ * ({@code -Dloadtest.baseline=...}).
+ */
+record LoadTestReport(int clients, double durationSeconds, long requests, long errors, double throughput,
+                      double p50Millis, double p95Millis, double p99Millis, double maxMillis,
+                      Map<String, Double> scenarioP95Millis, long heapPeakMb, long heapAfterMb,
+                      long gcCount, long gcTimeMillis, long aiCalls) {
+
+    static LoadTestReport of(int clients, long elapsedNanos, long[] latenciesNanos, long errors,
+                             Map<String, long[]> scenarioLatenciesNanos, long heapPeakBytes, long heapAfterBytes,
+                             long gcCount, long gcTimeMillis, long aiCalls) {
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        Map<String, Double> scenarioP95 = new LinkedHashMap<>();
+        scenarioLatenciesNanos.forEach((name, values) -> {
+            long[] scenarioSorted = values.clone();
+            Arrays.sort(scenarioSorted);
+            scenarioP95.put(name, percentile(scenarioSorted, 0.95));
+        });
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new LoadTestReport(clients, seconds, sorted.length, errors, sorted.length / seconds,
+            percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+            sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0,
+            scenarioP95, heapPeakBytes >> 20, heapAfterBytes >> 20, gcCount, gcTimeMillis, aiCalls);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    /** Part du temps de mesure passée en pause GC, en pourcentage. */
+    double gcPercent() {
+        return durationSeconds == 0 ? 0 : gcTimeMillis / (durationSeconds * 10);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format(
+            "clients=%d durée=%.1f s requêtes=%d erreurs=%d débit=%.1f req/s%n"
+                + "latence p50=%.1f ms p95=%.1f ms p99=%.1f ms max=%.1f ms%n"
+                + "heap pic=%d Mo après=%d Mo, GC %d collections %d ms (%.1f %%), appels IA=%d",
+            clients, durationSeconds, requests, errors, throughput, p50Millis, p95Millis, p99Millis, maxMillis,
+            heapPeakMb, heapAfterMb, gcCount, gcTimeMillis, gcPercent(), aiCalls));
+        scenarioP95Millis.forEach((name, p95) -> report.append(String.format("%n  %-40s p95=%.1f ms", name, p95)));
+        return report.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.project_generator.output;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Débit d'allocation de l'écriture d'un fichier rendu et de sa recopie dans le ZIP,
+ * avant (getBytes / newBufferedWriter / readAllBytes) et après ({@link GeneratedFiles}).
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main
+ *     -Dexec.args="GeneratedFilesBenchmark -prof gc"
+ *
+ * Comparer la colonne gc.alloc.rate.norm (octets alloués par opération).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedFilesBenchmark {
+
+    @Param({"2048", "65536"})
+    private int size;
+
+    private Path directory;
+    private Path target;
+    private StringBuilder content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("generated-files-bench");
+        target = directory.resolve("Rendered.java");
+        content = new StringBuilder(size);
+        while (content.length() < size) {
+            content.append("    private String champ").append(content.length()).append("; // donnée générée é\n");
+        }
+        GeneratedFiles.write(target, content);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void writeWithGetBytes() throws IOException {
+        Files.write(target, content.toString().getBytes());
+    }
+
+    @Benchmark
+    public void writeWithBufferedWriter() throws IOException {
+        try (Writer writer = Files.newBufferedWriter(target)) {
+            writer.append(content);
+        }
+    }
+
+    @Benchmark
+    public void writeWithPooledBuffers() throws IOException {
+        GeneratedFiles.write(target, content);
+    }
+
+    @Benchmark
+    public void zipCopyWithReadAllBytes() throws IOException {
+        OutputStream.nullOutputStream().write(Files.readAllBytes(target));
+    }
+
+    @Benchmark
+    public void zipCopyWithPooledBuffers() throws IOException {
+        GeneratedFiles.copy(target, OutputStream.nullOutputStream());
+    }
+}
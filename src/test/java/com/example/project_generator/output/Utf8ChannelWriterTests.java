@@ -0,0 +1,101 @@
+package com.example.project_generator.output;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Utf8ChannelWriterTests {
+
+    private static final String EMOJI = "😀";
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private Utf8ChannelWriter writer() {
+        return new Utf8ChannelWriter(Channels.newChannel(out), true);
+    }
+
+    private String written() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void surrogatePairSplitAcrossWriteInt() throws IOException {
+        try (Utf8ChannelWriter writer = writer()) {
+            writer.write('a');
+            writer.write(EMOJI.charAt(0));
+            writer.write(EMOJI.charAt(1));
+            writer.write('b');
+        }
+        assertThat(out.toByteArray()).isEqualTo(("a" + EMOJI + "b").getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void surrogatePairSplitAcrossWriteCharArray() throws IOException {
+        char[] chars = ("x" + EMOJI + "y").toCharArray();
+        try (Utf8ChannelWriter writer = writer()) {
+            writer.write(chars, 0, 2);
+            writer.write(chars, 2, 2);
+        }
+        assertThat(written()).isEqualTo("x" + EMOJI + "y");
+    }
+
+    @Test
+    void surrogatePairSplitAcrossWriteString() throws IOException {
+        String text = "début " + EMOJI + " fin";
+        int split = text.indexOf(EMOJI) + 1;
+        try (Utf8ChannelWriter writer = writer()) {
+            writer.write(text.substring(0, split));
+            writer.write(text.substring(split));
+        }
+        assertThat(written()).isEqualTo(text);
+    }
+
+    @Test
+    void surrogatePairSplitAcrossMixedCalls() throws IOException {
+        try (Utf8ChannelWriter writer = writer()) {
+            writer.write("a" + EMOJI.charAt(0));
+            writer.write(EMOJI.charAt(1));
+            writer.write(new char[] {EMOJI.charAt(0)});
+            writer.write(EMOJI.charAt(1) + "b");
+        }
+        assertThat(written()).isEqualTo("a" + EMOJI + EMOJI + "b");
+    }
+
+    @Test
+    void consecutiveHighSurrogatesReplaceOnlyTheUnpairedOne() throws IOException {
+        try (Utf8ChannelWriter writer = writer()) {
+            writer.write(EMOJI.charAt(0));
+            writer.write(EMOJI.charAt(0));
+            writer.write(EMOJI.charAt(1));
+        }
+        assertThat(written()).isEqualTo("?" + EMOJI);
+    }
+
+    @Test
+    void trailingLoneHighSurrogateIsReplacedOnClose() throws IOException {
+        Utf8ChannelWriter writer = writer();
+        writer.write("fin" + EMOJI.charAt(0));
+        writer.flush();
+        assertThat(written()).isEqualTo("fin");
+        writer.close();
+        assertThat(written()).isEqualTo("fin?");
+    }
+
+    @Test
+    void largeOutputIsDrainedThroughThePooledBuffer() throws IOException {
+        String line = "ligne é " + EMOJI + "\n";
+        StringBuilder expected = new StringBuilder();
+        try (Utf8ChannelWriter writer = writer()) {
+            for (int i = 0; i < 20_000; i++) {
+                writer.write(line);
+                expected.append(line);
+            }
+        }
+        assertThat(written()).isEqualTo(expected.toString());
+    }
+}
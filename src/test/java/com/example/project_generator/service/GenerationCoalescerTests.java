@@ -0,0 +1,198 @@
+package com.example.project_generator.service;
+
+import com.example.project_generator.model.CustomProjectRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationCoalescerTests {
+
+    private static final int THREADS = 8;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    private GenerationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new GenerationCoalescer();
+        ReflectionTestUtils.setField(coalescer, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(coalescer, "meterRegistry", meterRegistry);
+        coalescer.registerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Lance {@link #THREADS} exécutions de la même clé ; la génération ne se termine qu'une fois tous les
+     * doublons en attente de son résultat.
+     */
+    private List<Future<byte[]>> executeConcurrently(GenerationCoalescer.Generation generation, CountDownLatch release)
+            throws InterruptedException {
+        List<Future<byte[]>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(pool.submit(() -> coalescer.execute("projet", generation)));
+        }
+        awaitUntil(() -> coalesced() == THREADS - 1);
+        release.countDown();
+        return results;
+    }
+
+    @Test
+    void concurrentIdenticalKeysRunOneGeneration() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        byte[] archive = "archive".getBytes(StandardCharsets.UTF_8);
+
+        List<Future<byte[]>> results = executeConcurrently(() -> {
+            runs.incrementAndGet();
+            await(release);
+            return archive;
+        }, release);
+
+        for (Future<byte[]> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(archive);
+        }
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("generator.requests.generated").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("generator.requests.coalesced").count()).isEqualTo((double) THREADS - 1);
+    }
+
+    @Test
+    void concurrentIdenticalKeysShareTheFailure() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        IOException failure = new IOException("disque plein");
+
+        List<Future<byte[]>> results = executeConcurrently(() -> {
+            runs.incrementAndGet();
+            await(release);
+            throw failure;
+        }, release);
+
+        for (Future<byte[]> result : results) {
+            try {
+                result.get(10, TimeUnit.SECONDS);
+                throw new AssertionError("La génération aurait dû échouer");
+            } catch (ExecutionException e) {
+                // Chaque requête reçoit l'exception d'origine, pas une CompletionException
+                assertThat(e.getCause()).isSameAs(failure);
+            }
+        }
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    void runtimeFailureIsRethrownAsIs() {
+        IllegalArgumentException failure = new IllegalArgumentException("requête invalide");
+        try {
+            coalescer.execute("projet", () -> {
+                throw failure;
+            });
+            throw new AssertionError("La génération aurait dû échouer");
+        } catch (IOException | RuntimeException e) {
+            assertThat(e).isSameAs(failure);
+        }
+    }
+
+    @Test
+    void completedGenerationIsNotKept() throws IOException {
+        AtomicInteger runs = new AtomicInteger();
+        GenerationCoalescer.Generation generation = () -> new byte[] {(byte) runs.incrementAndGet()};
+
+        coalescer.execute("projet", generation);
+        coalescer.execute("projet", generation);
+
+        assertThat(runs.get()).isEqualTo(2);
+        assertThat(coalesced()).isEqualTo(0.0);
+    }
+
+    @Test
+    void distinctKeysDoNotWaitForEachOther() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        Future<byte[]> blocked = pool.submit(() -> coalescer.execute("premier", () -> {
+            started.countDown();
+            await(release);
+            return new byte[0];
+        }));
+        started.await();
+
+        assertThat(coalescer.execute("second", () -> new byte[] {2})).isEqualTo(new byte[] {2});
+        assertThat(blocked.isDone()).isFalse();
+
+        release.countDown();
+        blocked.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void keyIgnoresSetAndMapOrderButNotQualifiers() {
+        CustomProjectRequest first = request(List.of("web", "jpa", "security"), List.of("Customer", "Order"));
+        CustomProjectRequest second = request(List.of("security", "web", "jpa"), List.of("Order", "Customer"));
+
+        assertThat(coalescer.keyOf(first, "zip", "6")).isEqualTo(coalescer.keyOf(second, "zip", "6"));
+        assertThat(coalescer.keyOf(first, "zip", "6")).isNotEqualTo(coalescer.keyOf(first, "tar.gz", "6"));
+        assertThat(coalescer.keyOf(first, "zip", "6")).isNotEqualTo(coalescer.keyOf(first, "zip", "0"));
+
+        second.setArtifactId("autre");
+        assertThat(coalescer.keyOf(first, "zip", "6")).isNotEqualTo(coalescer.keyOf(second, "zip", "6"));
+    }
+
+    private static CustomProjectRequest request(List<String> dependencies, List<String> endpoints) {
+        CustomProjectRequest request = new CustomProjectRequest();
+        request.setArtifactId("demo");
+        request.setDependencies(new LinkedHashSet<>(dependencies));
+        Map<String, Boolean> restEndpoints = new LinkedHashMap<>();
+        endpoints.forEach(entity -> restEndpoints.put(entity, true));
+        request.setRestEndpoints(restEndpoints);
+        return request;
+    }
+
+    private double coalesced() {
+        return meterRegistry.counter("generator.requests.coalesced").count();
+    }
+
+    private static void await(CountDownLatch latch) throws InterruptedIOException {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition non atteinte en 10 s");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.project_generator.source;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JavaSourceFileTests {
+
+    private final JavaSourceFile file = new JavaSourceFile("com.example.demo.model");
+
+    @Test
+    void importReturnsTheSimpleNameAndIsDeduplicated() {
+        assertThat(file.importType("jakarta.persistence.Entity")).isEqualTo("Entity");
+        assertThat(file.importType("jakarta.persistence.Entity")).isEqualTo("Entity");
+        assertThat(file.importType("java.util.List")).isEqualTo("List");
+
+        assertThat(file.getImports()).containsExactly("jakarta.persistence.Entity", "java.util.List");
+    }
+
+    @Test
+    void javaLangAndSamePackageTypesAreNotImported() {
+        assertThat(file.importType("java.lang.String")).isEqualTo("String");
+        assertThat(file.importType("com.example.demo.model.Customer")).isEqualTo("Customer");
+
+        assertThat(file.getImports()).isEmpty();
+    }
+
+    @Test
+    void wildcardImportsAreKept() {
+        file.importType("java.time.*");
+
+        assertThat(file.getImports()).containsExactly("java.time.*");
+    }
+
+    @Test
+    void secondTypeWithTheSameSimpleNameStaysQualified() {
+        assertThat(file.importType("jakarta.persistence.Id")).isEqualTo("Id");
+        assertThat(file.importType("org.springframework.data.annotation.Id"))
+            .isEqualTo("org.springframework.data.annotation.Id");
+
+        assertThat(file.getImports()).containsExactly("jakarta.persistence.Id");
+    }
+
+    @Test
+    void declaredTypeWinsOverAnImportedHomonym() {
+        file.addClass("Entity");
+
+        assertThat(file.importType("jakarta.persistence.Entity")).isEqualTo("jakarta.persistence.Entity");
+        assertThat(file.importType("com.example.demo.model.Entity")).isEqualTo("Entity");
+        assertThat(file.getImports()).isEmpty();
+    }
+
+    @Test
+    void declaringATypeAfterImportingItsHomonymIsRefused() {
+        file.importType("java.util.List");
+
+        assertThatThrownBy(() -> file.addClass("List"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
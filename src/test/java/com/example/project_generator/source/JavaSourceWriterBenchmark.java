@@ -0,0 +1,114 @@
+package com.example.project_generator.source;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare la génération d'un contrôleur REST par concaténation (ancienne implémentation)
+ * et par le modèle de source + {@link JavaSourceWriter}.
+ *
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=org.openjdk.jmh.Main
+ *     -Dexec.args="JavaSourceWriterBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavaSourceWriterBenchmark {
+
+    private final String packageName = "com.example.demo.controller";
+    private final String entity = "Product";
+    private final String idType = "Long";
+    private final String idName = "id";
+
+    @Benchmark
+    public String concatenation() {
+        return "package " + packageName + ";\n\n" +
+            "import org.springframework.web.bind.annotation.*;\n" +
+            "import com.example.demo.model." + entity + ";\n" +
+            "import java.util.*;\n\n" +
+            "@RestController\n" +
+            "@RequestMapping(\"/" + entity.toLowerCase() + "s\")\n" +
+            "public class " + entity + "Controller {\n\n" +
+            "    @GetMapping\n" +
+            "    public List<" + entity + "> getAll() {\n" +
+            "        return new ArrayList<>();\n" +
+            "    }\n\n" +
+            "    @PostMapping\n" +
+            "    public " + entity + " create(@RequestBody " + entity + " obj) {\n" +
+            "        return obj;\n" +
+            "    }\n\n" +
+            "    @GetMapping(\"/{" + idName + "}\")\n" +
+            "    public " + entity + " getById(@PathVariable " + idType + " " + idName + ") {\n" +
+            "        return new " + entity + "();\n" +
+            "    }\n\n" +
+            "    @PutMapping(\"/{" + idName + "}\")\n" +
+            "    public " + entity + " update(@PathVariable " + idType + " " + idName + ", @RequestBody " + entity + " obj) {\n" +
+            "        obj.setId(" + idName + ");\n" +
+            "        return obj;\n" +
+            "    }\n\n" +
+            "    @DeleteMapping(\"/{" + idName + "}\")\n" +
+            "    public void delete(@PathVariable " + idType + " " + idName + ") {\n" +
+            "    }\n" +
+            "}\n";
+    }
+
+    @Benchmark
+    public String sourceModel() {
+        JavaSourceFile file = new JavaSourceFile(packageName);
+        file.importType("com.example.demo.model." + entity);
+        String list = file.importType("java.util.List");
+
+        file.addClass(entity + "Controller")
+            .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.RestController")))
+            .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.RequestMapping"))
+                .value("/" + entity.toLowerCase() + "s"))
+            .method(new JavaMethodDeclaration("public", list + "<" + entity + ">", "getAll")
+                .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.GetMapping")))
+                .body("return new " + file.importType("java.util.ArrayList") + "<>();"))
+            .method(new JavaMethodDeclaration("public", entity, "create")
+                .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.PostMapping")))
+                .parameter(requestBody(file))
+                .body("return obj;"))
+            .method(new JavaMethodDeclaration("public", entity, "getById")
+                .annotate(idMapping(file, "GetMapping"))
+                .parameter(pathVariable(file))
+                .body("return new " + entity + "();"))
+            .method(new JavaMethodDeclaration("public", entity, "update")
+                .annotate(idMapping(file, "PutMapping"))
+                .parameter(pathVariable(file))
+                .parameter(requestBody(file))
+                .body("obj.setId(" + idName + ");", "return obj;"))
+            .method(new JavaMethodDeclaration("public", "void", "delete")
+                .annotate(idMapping(file, "DeleteMapping"))
+                .parameter(pathVariable(file)));
+
+        return JavaSourceWriter.write(file);
+    }
+
+    private JavaAnnotation idMapping(JavaSourceFile file, String mapping) {
+        return JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation." + mapping))
+            .value("/{" + idName + "}");
+    }
+
+    private JavaParameter pathVariable(JavaSourceFile file) {
+        return new JavaParameter(idType, idName)
+            .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.PathVariable")));
+    }
+
+    private JavaParameter requestBody(JavaSourceFile file) {
+        return new JavaParameter(entity, "obj")
+            .annotate(JavaAnnotation.of(file.importType("org.springframework.web.bind.annotation.RequestBody")));
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.project_generator.source;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaSourceWriterTests {
+
+    @Test
+    void rendersPackageImportsAndClass() {
+        JavaSourceFile file = new JavaSourceFile("com.example.demo.model");
+        JavaTypeDeclaration type = file.addClass("Customer")
+            .annotate(JavaAnnotation.of(file.importType("jakarta.persistence.Entity")))
+            .annotate(JavaAnnotation.of(file.importType("jakarta.persistence.Table")).stringAttribute("name", "customer"));
+        type.field(new JavaFieldDeclaration("private", file.importType("java.util.List") + "<String>", "tags"))
+            .field(new JavaFieldDeclaration("private", "Long", "id")
+                .annotate(JavaAnnotation.of(file.importType("jakarta.persistence.Id")))
+                .annotate(JavaAnnotation.of(file.importType("jakarta.persistence.GeneratedValue"))
+                    .attribute("strategy", file.importType("jakarta.persistence.GenerationType") + ".IDENTITY")))
+            .method(new JavaMethodDeclaration("public", "Long", "getId").body("return id;"));
+
+        assertThat(JavaSourceWriter.write(file)).isEqualTo("""
+            package com.example.demo.model;
+
+            import jakarta.persistence.Entity;
+            import jakarta.persistence.GeneratedValue;
+            import jakarta.persistence.GenerationType;
+            import jakarta.persistence.Id;
+            import jakarta.persistence.Table;
+
+            import java.util.List;
+
+            @Entity
+            @Table(name = "customer")
+            public class Customer {
+
+                private List<String> tags;
+
+                @Id
+                @GeneratedValue(strategy = GenerationType.IDENTITY)
+                private Long id;
+
+                public Long getId() {
+                    return id;
+                }
+            }
+            """);
+    }
+
+    @Test
+    void entityNamedLikeAnImportedAnnotationCompiles() {
+        JavaSourceFile file = new JavaSourceFile("com.example.demo.model");
+        file.addClass("Entity")
+            .annotate(JavaAnnotation.of(file.importType("jakarta.persistence.Entity")))
+            .annotate(JavaAnnotation.of(file.importType("lombok.Data")));
+
+        assertThat(JavaSourceWriter.write(file)).isEqualTo("""
+            package com.example.demo.model;
+
+            import lombok.Data;
+
+            @jakarta.persistence.Entity
+            @Data
+            public class Entity {
+            }
+            """);
+    }
+
+    @Test
+    void interfaceMethodsWithoutBodyAreAbstract() {
+        JavaSourceFile file = new JavaSourceFile("com.example.demo.repository");
+        file.addInterface("CustomerRepository")
+            .extend("Repository<Customer, Long>")
+            .method(new JavaMethodDeclaration("", "long", "countByName")
+                .parameter(new JavaParameter("String", "name")))
+            .method(new JavaMethodDeclaration("default", "boolean", "isEmpty")
+                .comment("compte sans charger les entités")
+                .body("return count() == 0;"));
+
+        assertThat(JavaSourceWriter.write(file)).isEqualTo("""
+            package com.example.demo.repository;
+
+            public interface CustomerRepository extends Repository<Customer, Long> {
+
+                long countByName(String name);
+
+                // compte sans charger les entités
+                default boolean isEmpty() {
+                    return count() == 0;
+                }
+            }
+            """);
+    }
+
+    @Test
+    void parametersCarryTheirAnnotations() {
+        JavaSourceFile file = new JavaSourceFile("com.example.demo.controller");
+        String pathVariable = file.importType("org.springframework.web.bind.annotation.PathVariable");
+        file.addClass("CustomerController")
+            .method(new JavaMethodDeclaration("public", "void", "delete")
+                .parameter(new JavaParameter("Long", "id").annotate(JavaAnnotation.of(pathVariable).value("id"))));
+
+        assertThat(JavaSourceWriter.write(file)).contains("    public void delete(@PathVariable(\"id\") Long id) {\n    }\n");
+    }
+
+    @Test
+    void stringAttributesAreEscaped() {
+        assertThat(JavaSourceWriter.quote("a \"b\" c:\\tmp\nd")).isEqualTo("\"a \\\"b\\\" c:\\\\tmp\\nd\"");
+    }
+
+    @Test
+    void renderReusesTheThreadBufferUntilItGrowsTooLarge() {
+        JavaSourceFile small = new JavaSourceFile("com.example.demo");
+        small.addClass("Small");
+        JavaSourceFile large = new JavaSourceFile("com.example.demo");
+        JavaTypeDeclaration type = large.addClass("Large");
+        for (int i = 0; i < 5_000; i++) {
+            type.field(new JavaFieldDeclaration("private", "String", "field" + i));
+        }
+
+        CharSequence first = JavaSourceWriter.render(small);
+        CharSequence second = JavaSourceWriter.render(small);
+        assertThat(second).isSameAs(first);
+        assertThat(second.toString()).isEqualTo(JavaSourceWriter.write(small));
+
+        CharSequence grown = JavaSourceWriter.render(large);
+        assertThat(grown.toString()).isEqualTo(JavaSourceWriter.write(large));
+
+        // Le tampon agrandi n'est plus retenu par le thread
+        CharSequence next = JavaSourceWriter.render(small);
+        assertThat(next).isNotSameAs(grown);
+        assertThat(next.toString()).isEqualTo(JavaSourceWriter.write(small));
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.project_generator.validation;
+
+import com.example.project_generator.catalog.DependencyCatalog;
+import com.example.project_generator.compatibility.CompatibilityResolver;
+import com.example.project_generator.model.CustomProjectRequest;
+import com.example.project_generator.model.FieldDefinition;
+import com.example.project_generator.validation.ProjectRequestValidator.InvalidProjectRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectRequestValidatorTests {
+
+    private ProjectRequestValidator validator;
+    private CustomProjectRequest request;
+
+    @BeforeEach
+    void setUp() {
+        validator = new ProjectRequestValidator();
+        ReflectionTestUtils.setField(validator, "dependencyCatalog", DependencyCatalog.getDefault());
+        ReflectionTestUtils.setField(validator, "compatibilityResolver", new CompatibilityResolver());
+
+        request = new CustomProjectRequest();
+        request.setGroupId("com.example");
+        request.setArtifactId("demo");
+        request.setBuildTool("maven");
+        request.setJavaVersion("17");
+        request.setSpringBootVersion("3.4.4");
+        request.setArchitectureType("en-couches");
+        request.setDependencies(new LinkedHashSet<>(List.of("web", "data-jpa")));
+        request.setEntities(new ArrayList<>(List.of("Customer")));
+        Map<String, List<FieldDefinition>> entityFields = new LinkedHashMap<>();
+        entityFields.put("Customer", new ArrayList<>(List.of(
+            new FieldDefinition("id", "Long", true, true),
+            new FieldDefinition("name", "String", false, true))));
+        request.setEntityFields(entityFields);
+        Map<String, Boolean> restEndpoints = new LinkedHashMap<>();
+        restEndpoints.put("Customer", true);
+        request.setRestEndpoints(restEndpoints);
+    }
+
+    private List<String> fieldsInError() {
+        return validator.validate(request).stream().map(ValidationError::field).toList();
+    }
+
+    private void dependencies(String... ids) {
+        request.setDependencies(new LinkedHashSet<>(Arrays.asList(ids)));
+    }
+
+    @Test
+    void validRequestPasses() {
+        assertThat(validator.validate(request)).isEmpty();
+        assertThatCode(() -> validator.check(request)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void checkReportsEveryErrorAtOnce() {
+        request.setArtifactId("my-app");
+        request.setGroupId("com..example");
+        request.setPort(0);
+
+        assertThatThrownBy(() -> validator.check(request))
+            .isInstanceOf(InvalidProjectRequestException.class)
+            .satisfies(e -> assertThat(((InvalidProjectRequestException) e).getErrors()).hasSize(3));
+    }
+
+    @Test
+    void missingBodyIsRejected() {
+        assertThat(validator.validate(null)).containsExactly(new ValidationError("request", "corps de requête manquant"));
+    }
+
+    @Test
+    void artifactIdIsRequiredAndMustBeAPackageName() {
+        request.setArtifactId(" ");
+        assertThat(fieldsInError()).containsExactly("artifactId");
+
+        for (String artifactId : List.of("my-app", "1demo", "class", "demo$")) {
+            request.setArtifactId(artifactId);
+            assertThat(fieldsInError()).containsExactly("artifactId");
+        }
+    }
+
+    @Test
+    void groupIdMustBeAPackageName() {
+        for (String groupId : List.of("com..example", "com.example.", "com.1example", "com.new")) {
+            request.setGroupId(groupId);
+            assertThat(fieldsInError()).containsExactly("groupId");
+        }
+    }
+
+    @Test
+    void unknownBuildToolIsRejected() {
+        request.setBuildTool("ant");
+
+        assertThat(fieldsInError()).containsExactly("buildTool");
+    }
+
+    @Test
+    void unsupportedOrIncompatibleVersionsAreRejected() {
+        // Java 8 : ni supporté, ni dans la plage de Spring Boot 3.4
+        request.setJavaVersion("1.8");
+        assertThat(fieldsInError()).containsExactly("versions", "versions");
+
+        request.setJavaVersion("dix-sept");
+        assertThat(fieldsInError()).containsExactly("versions");
+
+        request.setJavaVersion("17");
+        request.setSpringBootVersion("2.7.18");
+        assertThat(fieldsInError()).containsExactly("versions");
+
+        request.setJavaVersion("24");
+        request.setSpringBootVersion("3.2");
+        assertThat(fieldsInError()).containsExactly("versions");
+    }
+
+    @Test
+    void architectureIsRequiredAndStackMustBeKnown() {
+        request.setArchitectureType(null);
+        assertThat(fieldsInError()).containsExactly("architectureType");
+
+        request.setArchitectureType("microservices");
+        assertThat(fieldsInError()).containsExactly("architectureType");
+
+        request.setArchitectureType("hexagonale");
+        request.setStack("graphql");
+        assertThat(fieldsInError()).containsExactly("stack");
+    }
+
+    @Test
+    void unknownDependencyMustBeGroupAndArtifact() {
+        dependencies("web", "data-jpa", "com.acme:acme-starter_2.0");
+        assertThat(validator.validate(request)).isEmpty();
+
+        for (String id : List.of(" ", "does-not-exist", "com.acme:", ":acme", "com.acme:acme:1.0",
+                "com.acme:acme</artifactId>", "com acme:acme", "com.acme:${evil}")) {
+            dependencies("web", "data-jpa", id);
+            assertThat(fieldsInError()).containsExactly("dependencies");
+        }
+    }
+
+    @Test
+    void dependencyOutsideTheBootRangeIsRejected() {
+        request.setSpringBootVersion("3.3.10");
+        dependencies("web", "data-jpa", "openfeign");
+
+        assertThat(fieldsInError()).containsExactly("dependencies");
+    }
+
+    @Test
+    void conflictingDependenciesAreRejected() {
+        dependencies("web", "webflux", "data-jpa");
+
+        assertThat(fieldsInError()).containsExactly("dependencies");
+    }
+
+    @Test
+    void entityNamesMustBeUniqueJavaClassNames() {
+        request.setEntities(new ArrayList<>(List.of("Customer", "Customer")));
+        assertThat(fieldsInError()).containsExactly("entities[1]");
+
+        request.setEntities(new ArrayList<>(List.of("Customer", "Order-Line")));
+        assertThat(fieldsInError()).containsExactly("entities[1]");
+    }
+
+    @Test
+    void entityNamesMustNotShadowGeneratedImports() {
+        for (String entity : List.of("Entity", "Id", "Table", "Data", "List")) {
+            request.setEntities(new ArrayList<>(List.of("Customer", entity)));
+            assertThat(fieldsInError()).containsExactly("entities[1]");
+        }
+    }
+
+    @Test
+    void fieldsMustBelongToADeclaredEntity() {
+        request.getEntityFields().put("Invoice", List.of(new FieldDefinition("id", "Long", true, true)));
+        assertThat(fieldsInError()).containsExactly("entityFields.Invoice");
+
+        request.getEntityFields().remove("Invoice");
+        request.getEntityFields().put("Customer", null);
+        request.getRestEndpoints().clear();
+        assertThat(fieldsInError()).containsExactly("entityFields.Customer");
+    }
+
+    @Test
+    void fieldNamesAndTypesAreChecked() {
+        List<FieldDefinition> fields = request.getEntityFields().get("Customer");
+        fields.add(null);
+        fields.add(new FieldDefinition("name", "String", false, false));
+        fields.add(new FieldDefinition("first name", "String", false, false));
+        fields.add(new FieldDefinition("total", "decimal(10,2)", false, false));
+
+        assertThat(fieldsInError()).containsExactly(
+            "entityFields.Customer[2]",
+            "entityFields.Customer[3].name",
+            "entityFields.Customer[4].name",
+            "entityFields.Customer[5].type");
+    }
+
+    @Test
+    void typeNamesAcceptQualifiedGenericAndArrayTypes() {
+        for (String type : List.of("long", "java.math.BigDecimal", "List<String>", "Map<String, List<Long>>", "byte[]")) {
+            assertThat(ProjectRequestValidator.isTypeName(type)).isTrue();
+        }
+        for (String type : List.of("", "List<String", "List>String<", "class", "1Long", "String;")) {
+            assertThat(ProjectRequestValidator.isTypeName(type)).isFalse();
+        }
+    }
+
+    @Test
+    void compositePrimaryKeysAreRejected() {
+        request.getEntityFields().get("Customer").get(1).setPrimaryKey(true);
+
+        assertThat(fieldsInError()).containsExactly("entityFields.Customer", "restEndpoints.Customer");
+    }
+
+    @Test
+    void restEndpointsNeedADeclaredEntityWithAPrimaryKey() {
+        request.getRestEndpoints().put("Invoice", true);
+        assertThat(fieldsInError()).containsExactly("restEndpoints.Invoice");
+
+        request.getRestEndpoints().remove("Invoice");
+        request.getEntityFields().get("Customer").get(0).setPrimaryKey(false);
+        assertThat(fieldsInError()).containsExactly("restEndpoints.Customer");
+
+        request.getRestEndpoints().put("Customer", false);
+        assertThat(validator.validate(request)).isEmpty();
+    }
+
+    @Test
+    void numericOptionsMustBePositiveAndPortInRange() {
+        request.setPort(65536);
+        request.setKubernetesCpuMillis(0);
+        request.setKubernetesMemoryMb(-1);
+        request.setLoadTestRps(0);
+        request.setLoadTestDurationSeconds(0);
+        request.setLoadTestP99Millis(0);
+
+        assertThat(fieldsInError()).containsExactly("port", "kubernetesCpuMillis", "kubernetesMemoryMb",
+            "loadTestRps", "loadTestDurationSeconds", "loadTestP99Millis");
+    }
+
+    @Test
+    void profileAndDockerRepositoryAreChecked() {
+        request.setProfile("dev/../prod");
+        request.setDockerRepository("registry.example.com/my app");
+
+        assertThat(fieldsInError()).containsExactly("profile", "dockerRepository");
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.project_generator.verification;
+
+import com.example.project_generator.verification.GeneratedSourceVerifier.VerifierUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeneratedSourceVerifierTests {
+
+    private Path project;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        project = Files.createTempDirectory("source-verifier-tests");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(project)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private void write(String name, String content) throws IOException {
+        Path file = project.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    @Test
+    void missingCompilerFailsInsteadOfSkippingTheVerification() throws IOException {
+        write("src/main/java/com/example/demo/Demo.java", "package com.example.demo;\npublic class Demo {}\n");
+
+        assertThatThrownBy(() -> new GeneratedSourceVerifier(null).verify(project))
+            .isInstanceOf(VerifierUnavailableException.class);
+    }
+
+    @Test
+    void compilationErrorsAreReportedWithFileAndLine() throws IOException {
+        write("src/main/java/com/example/demo/Demo.java", "package com.example.demo;\npublic class Demo { Missing missing; }\n");
+
+        assertThat(new GeneratedSourceVerifier().verify(project))
+            .hasSize(1)
+            .satisfies(errors -> assertThat(errors.toString()).contains("src/main/java/com/example/demo/Demo.java:2: "));
+    }
+}
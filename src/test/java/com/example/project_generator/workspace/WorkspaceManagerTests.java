@@ -0,0 +1,178 @@
+package com.example.project_generator.workspace;
+
+import com.example.project_generator.workspace.WorkspaceManager.WorkspaceQuotaExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorkspaceManagerTests {
+
+    private Path root;
+    private WorkspaceManager manager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        root = Files.createTempDirectory("workspace-manager-tests");
+        manager = new WorkspaceManager();
+        ReflectionTestUtils.setField(manager, "workspaceRoot", root);
+        ReflectionTestUtils.setField(manager, "ttl", Duration.ofHours(1));
+        ReflectionTestUtils.setField(manager, "maxTotalSize", DataSize.ofGigabytes(1));
+        ReflectionTestUtils.setField(manager, "tenantQuota", DataSize.ofMegabytes(30));
+        ReflectionTestUtils.setField(manager, "reservation", DataSize.ofMegabytes(10));
+        ReflectionTestUtils.setField(manager, "cleanupInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(manager, "meterRegistry", new SimpleMeterRegistry());
+        manager.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        manager.stop();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test
+    void concurrentCreationsOfOneTenantStayWithinQuota() throws Exception {
+        int threads = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Path>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Callable<Path> create = () -> {
+                start.await();
+                return manager.create("acme", "demo");
+            };
+            results.add(pool.submit(create));
+        }
+        start.countDown();
+
+        int created = 0;
+        int rejected = 0;
+        for (Future<Path> result : results) {
+            try {
+                result.get();
+                created++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(WorkspaceQuotaExceededException.class);
+                rejected++;
+            }
+        }
+        pool.shutdown();
+
+        // 30 Mo de quota, 10 Mo réservés par génération en cours
+        assertThat(created).isEqualTo(3);
+        assertThat(rejected).isEqualTo(threads - 3);
+        assertThat(manager.getDiskUsage()).isEqualTo(DataSize.ofMegabytes(30).toBytes());
+    }
+
+    @Test
+    void completeReplacesTheReservationWithTheMeasuredSize() throws IOException {
+        Path first = manager.create("acme", "demo");
+        Path second = manager.create("acme", "demo");
+        manager.create("acme", "demo");
+        assertThatThrownBy(() -> manager.create("acme", "demo"))
+            .isInstanceOf(WorkspaceQuotaExceededException.class);
+
+        for (Path path : List.of(first, second)) {
+            Files.writeString(path.resolve("pom.xml"), "<project/>");
+            manager.complete(path);
+        }
+
+        assertThat(manager.getDiskUsage()).isEqualTo(DataSize.ofMegabytes(10).toBytes() + 2 * "<project/>".length());
+        assertThat(manager.create("acme", "demo")).isNotNull();
+    }
+
+    @Test
+    void quotaIsPerTenant() throws IOException {
+        for (int i = 0; i < 3; i++) {
+            manager.create("acme", "demo");
+        }
+        assertThat(manager.create("other", "demo")).isNotNull();
+        assertThatThrownBy(() -> manager.create("acme", "demo"))
+            .isInstanceOf(WorkspaceQuotaExceededException.class);
+    }
+
+    @Test
+    void releasedWorkspacesAreReclaimedBeforeRejecting() throws IOException {
+        List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            paths.add(manager.create("acme", "demo"));
+        }
+        manager.release(paths.get(0));
+
+        assertThat(manager.create("acme", "demo")).isNotNull();
+    }
+
+    @Test
+    void cleanupNeverEvictsGenerationsInProgress() throws Exception {
+        ReflectionTestUtils.setField(manager, "ttl", Duration.ZERO);
+        ReflectionTestUtils.setField(manager, "maxTotalSize", DataSize.ofBytes(1));
+        Path inProgress = manager.create("acme", "demo");
+        Path archiving = manager.create("acme", "demo");
+        Files.writeString(archiving.resolve("pom.xml"), "<project/>");
+        manager.complete(archiving);
+        Thread.sleep(10);
+
+        manager.cleanup();
+
+        // Expirés et au-delà de la taille totale, mais ni libérés ni remis au client
+        assertThat(inProgress).exists();
+        assertThat(archiving).exists();
+    }
+
+    @Test
+    void retainedWorkspacesExpireWithTheTtl() throws Exception {
+        ReflectionTestUtils.setField(manager, "ttl", Duration.ZERO);
+        Path retained = manager.create("acme", "demo");
+        manager.complete(retained);
+        manager.retain(retained);
+        Thread.sleep(10);
+
+        manager.cleanup();
+
+        assertThat(retained).doesNotExist();
+        assertThat(manager.getDiskUsage()).isEqualTo(0L);
+    }
+
+    @Test
+    void sizeLimitEvictsOnlyWorkspacesNoLongerInUse() throws IOException {
+        ReflectionTestUtils.setField(manager, "maxTotalSize", DataSize.ofMegabytes(15));
+        Path retained = manager.create("acme", "demo");
+        Files.writeString(retained.resolve("pom.xml"), "<project/>");
+        manager.complete(retained);
+        manager.retain(retained);
+        Path first = manager.create("acme", "demo");
+        Path second = manager.create("other", "demo");
+
+        manager.cleanup();
+
+        assertThat(retained).doesNotExist();
+        assertThat(first).exists();
+        assertThat(second).exists();
+        assertThat(manager.getDiskUsage()).isEqualTo(DataSize.ofMegabytes(20).toBytes());
+    }
+}